@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.tonivade.purefun.effect.EIO;
+import com.github.tonivade.purefun.type.Either;
+import com.github.tonivade.purefun.type.Try;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EIOBenchmark {
+
+  @Param({"100", "10000"})
+  private int depth;
+
+  private EIO<String, Integer> flatMapChain;
+  private EIO<String, Integer> mapChain;
+  private EIO<String, Integer> recoverChain;
+  private EIO<String, Integer> redeemWithChain;
+  private EIO<String, Integer> asyncChain;
+  private EIO<String, Integer> parMap2;
+  private EIO<String, Either<Integer, Integer>> race;
+
+  @Setup
+  public void setup() {
+    flatMapChain = EIO.pure(0);
+    mapChain = EIO.pure(0);
+    recoverChain = EIO.pure(0);
+    redeemWithChain = EIO.pure(0);
+    asyncChain = EIO.pure(0);
+    for (int i = 0; i < depth; i++) {
+      flatMapChain = flatMapChain.flatMap(x -> EIO.pure(x + 1));
+      mapChain = mapChain.map(x -> x + 1);
+      recoverChain = recoverChain.flatMap(x -> EIO.<String, Integer>raiseError("error")).foldM(error -> EIO.pure(1), EIO::pure);
+      redeemWithChain = redeemWithChain.foldM(EIO::raiseError, x -> EIO.pure(x + 1));
+      asyncChain = asyncChain.flatMap(x -> EIO.async(callback -> callback.accept(Try.success(Either.right(x + 1)))));
+    }
+    parMap2 = EIO.parMap2(EIO.<String, Integer>pure(1), EIO.<String, Integer>pure(2), Integer::sum);
+    race = EIO.race(EIO.<String, Integer>pure(1), EIO.<String, Integer>never());
+  }
+
+  @Benchmark
+  public Either<String, Integer> flatMapChain() {
+    return flatMapChain.safeRunSync();
+  }
+
+  @Benchmark
+  public Either<String, Integer> mapChain() {
+    return mapChain.safeRunSync();
+  }
+
+  @Benchmark
+  public Either<String, Integer> recoverChain() {
+    return recoverChain.safeRunSync();
+  }
+
+  @Benchmark
+  public Either<String, Integer> redeemWithChain() {
+    return redeemWithChain.safeRunSync();
+  }
+
+  @Benchmark
+  public Either<String, Integer> asyncChain() {
+    return asyncChain.safeRunSync();
+  }
+
+  @Benchmark
+  public Either<String, Integer> parMap2() {
+    return parMap2.safeRunSync();
+  }
+
+  @Benchmark
+  public Either<String, Either<Integer, Integer>> race() {
+    return race.safeRunSync();
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.tonivade.purefun.monad.IO;
+import com.github.tonivade.purefun.type.Either;
+import com.github.tonivade.purefun.type.Try;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IOBenchmark {
+
+  private static final RuntimeException ERROR = new RuntimeException("benchmark");
+
+  @Param({"100", "10000"})
+  private int depth;
+
+  private IO<Integer> flatMapChain;
+  private IO<Integer> mapChain;
+  private IO<Integer> recoverChain;
+  private IO<Integer> redeemWithChain;
+  private IO<Integer> asyncChain;
+  private IO<Integer> parMap2;
+  private IO<Either<Integer, Integer>> race;
+
+  @Setup
+  public void setup() {
+    flatMapChain = IO.pure(0);
+    mapChain = IO.pure(0);
+    recoverChain = IO.pure(0);
+    redeemWithChain = IO.pure(0);
+    asyncChain = IO.pure(0);
+    for (int i = 0; i < depth; i++) {
+      flatMapChain = flatMapChain.flatMap(x -> IO.pure(x + 1));
+      mapChain = mapChain.map(x -> x + 1);
+      recoverChain = recoverChain.flatMap(x -> IO.<Integer>raiseError(ERROR)).recover(error -> 1);
+      redeemWithChain = redeemWithChain.redeemWith(IO::raiseError, x -> IO.pure(x + 1));
+      asyncChain = asyncChain.flatMap(x -> IO.async(callback -> callback.accept(Try.success(x + 1))));
+    }
+    parMap2 = IO.parMap2(IO.pure(1), IO.pure(2), Integer::sum);
+    race = IO.race(IO.pure(1), IO.never());
+  }
+
+  @Benchmark
+  public Integer flatMapChain() {
+    return flatMapChain.unsafeRunSync();
+  }
+
+  @Benchmark
+  public Integer mapChain() {
+    return mapChain.unsafeRunSync();
+  }
+
+  @Benchmark
+  public Integer recoverChain() {
+    return recoverChain.unsafeRunSync();
+  }
+
+  @Benchmark
+  public Integer redeemWithChain() {
+    return redeemWithChain.unsafeRunSync();
+  }
+
+  @Benchmark
+  public Integer asyncChain() {
+    return asyncChain.unsafeRunSync();
+  }
+
+  @Benchmark
+  public Integer parMap2() {
+    return parMap2.unsafeRunSync();
+  }
+
+  @Benchmark
+  public Either<Integer, Integer> race() {
+    return race.unsafeRunSync();
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.tonivade.purefun.effect.PureIO;
+import com.github.tonivade.purefun.type.Either;
+import com.github.tonivade.purefun.type.Try;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PureIOBenchmark {
+
+  @Param({"100", "10000"})
+  private int depth;
+
+  private PureIO<Void, String, Integer> flatMapChain;
+  private PureIO<Void, String, Integer> mapChain;
+  private PureIO<Void, String, Integer> recoverChain;
+  private PureIO<Void, String, Integer> redeemWithChain;
+  private PureIO<Void, String, Integer> asyncChain;
+  private PureIO<Void, String, Integer> parMap2;
+  private PureIO<Void, String, Either<Integer, Integer>> race;
+
+  @Setup
+  public void setup() {
+    flatMapChain = PureIO.pure(0);
+    mapChain = PureIO.pure(0);
+    recoverChain = PureIO.pure(0);
+    redeemWithChain = PureIO.pure(0);
+    asyncChain = PureIO.pure(0);
+    for (int i = 0; i < depth; i++) {
+      flatMapChain = flatMapChain.flatMap(x -> PureIO.pure(x + 1));
+      mapChain = mapChain.map(x -> x + 1);
+      recoverChain = recoverChain.flatMap(x -> PureIO.<Void, String, Integer>raiseError("error")).foldM(error -> PureIO.pure(1), PureIO::pure);
+      redeemWithChain = redeemWithChain.foldM(PureIO::raiseError, x -> PureIO.pure(x + 1));
+      asyncChain = asyncChain.flatMap(x -> PureIO.async((env, callback) -> callback.accept(Try.success(Either.right(x + 1)))));
+    }
+    parMap2 = PureIO.parMap2(PureIO.<Void, String, Integer>pure(1), PureIO.<Void, String, Integer>pure(2), Integer::sum);
+    race = PureIO.race(PureIO.<Void, String, Integer>pure(1), PureIO.<Void, String, Integer>never());
+  }
+
+  @Benchmark
+  public Either<String, Integer> flatMapChain() {
+    return flatMapChain.provide(null);
+  }
+
+  @Benchmark
+  public Either<String, Integer> mapChain() {
+    return mapChain.provide(null);
+  }
+
+  @Benchmark
+  public Either<String, Integer> recoverChain() {
+    return recoverChain.provide(null);
+  }
+
+  @Benchmark
+  public Either<String, Integer> redeemWithChain() {
+    return redeemWithChain.provide(null);
+  }
+
+  @Benchmark
+  public Either<String, Integer> asyncChain() {
+    return asyncChain.provide(null);
+  }
+
+  @Benchmark
+  public Either<String, Integer> parMap2() {
+    return parMap2.provide(null);
+  }
+
+  @Benchmark
+  public Either<String, Either<Integer, Integer>> race() {
+    return race.provide(null);
+  }
+}
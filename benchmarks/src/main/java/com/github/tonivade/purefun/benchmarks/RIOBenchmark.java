@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.tonivade.purefun.effect.RIO;
+import com.github.tonivade.purefun.type.Either;
+import com.github.tonivade.purefun.type.Try;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RIOBenchmark {
+
+  private static final RuntimeException ERROR = new RuntimeException("benchmark");
+  private static final String ENV = "env";
+
+  @Param({"100", "10000"})
+  private int depth;
+
+  private RIO<String, Integer> flatMapChain;
+  private RIO<String, Integer> mapChain;
+  private RIO<String, Integer> recoverChain;
+  private RIO<String, Integer> redeemWithChain;
+  private RIO<String, Integer> asyncChain;
+  private RIO<String, Integer> parMap2;
+  private RIO<String, Either<Integer, Integer>> race;
+
+  @Setup
+  public void setup() {
+    flatMapChain = RIO.pure(0);
+    mapChain = RIO.pure(0);
+    recoverChain = RIO.pure(0);
+    redeemWithChain = RIO.pure(0);
+    asyncChain = RIO.pure(0);
+    for (int i = 0; i < depth; i++) {
+      flatMapChain = flatMapChain.flatMap(x -> RIO.pure(x + 1));
+      mapChain = mapChain.map(x -> x + 1);
+      recoverChain = recoverChain.flatMap(x -> RIO.<String, Integer>raiseError(ERROR)).foldM(error -> RIO.pure(1), RIO::pure);
+      redeemWithChain = redeemWithChain.foldM(RIO::raiseError, x -> RIO.pure(x + 1));
+      asyncChain = asyncChain.flatMap(x -> RIO.async((env, callback) -> callback.accept(Try.success(x + 1))));
+    }
+    parMap2 = RIO.parMap2(RIO.<String, Integer>pure(1), RIO.<String, Integer>pure(2), Integer::sum);
+    race = RIO.race(RIO.<String, Integer>pure(1), RIO.<String, Integer>never());
+  }
+
+  @Benchmark
+  public Try<Integer> flatMapChain() {
+    return flatMapChain.safeRunSync(ENV);
+  }
+
+  @Benchmark
+  public Try<Integer> mapChain() {
+    return mapChain.safeRunSync(ENV);
+  }
+
+  @Benchmark
+  public Try<Integer> recoverChain() {
+    return recoverChain.safeRunSync(ENV);
+  }
+
+  @Benchmark
+  public Try<Integer> redeemWithChain() {
+    return redeemWithChain.safeRunSync(ENV);
+  }
+
+  @Benchmark
+  public Try<Integer> asyncChain() {
+    return asyncChain.safeRunSync(ENV);
+  }
+
+  @Benchmark
+  public Try<Integer> parMap2() {
+    return parMap2.safeRunSync(ENV);
+  }
+
+  @Benchmark
+  public Try<Either<Integer, Integer>> race() {
+    return race.safeRunSync(ENV);
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.tonivade.purefun.effect.Task;
+import com.github.tonivade.purefun.type.Either;
+import com.github.tonivade.purefun.type.Try;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskBenchmark {
+
+  private static final RuntimeException ERROR = new RuntimeException("benchmark");
+
+  @Param({"100", "10000"})
+  private int depth;
+
+  private Task<Integer> flatMapChain;
+  private Task<Integer> mapChain;
+  private Task<Integer> recoverChain;
+  private Task<Integer> redeemWithChain;
+  private Task<Integer> asyncChain;
+  private Task<Integer> parMap2;
+  private Task<Either<Integer, Integer>> race;
+
+  @Setup
+  public void setup() {
+    flatMapChain = Task.pure(0);
+    mapChain = Task.pure(0);
+    recoverChain = Task.pure(0);
+    redeemWithChain = Task.pure(0);
+    asyncChain = Task.pure(0);
+    for (int i = 0; i < depth; i++) {
+      flatMapChain = flatMapChain.flatMap(x -> Task.pure(x + 1));
+      mapChain = mapChain.map(x -> x + 1);
+      recoverChain = recoverChain.flatMap(x -> Task.<Integer>raiseError(ERROR)).recover(error -> 1).toTask();
+      redeemWithChain = redeemWithChain.foldM(Task::raiseError, x -> Task.pure(x + 1));
+      asyncChain = asyncChain.flatMap(x -> Task.async(callback -> callback.accept(Try.success(x + 1))));
+    }
+    parMap2 = Task.parMap2(Task.pure(1), Task.pure(2), Integer::sum);
+    race = Task.race(Task.pure(1), Task.never());
+  }
+
+  @Benchmark
+  public Try<Integer> flatMapChain() {
+    return flatMapChain.safeRunSync();
+  }
+
+  @Benchmark
+  public Try<Integer> mapChain() {
+    return mapChain.safeRunSync();
+  }
+
+  @Benchmark
+  public Try<Integer> recoverChain() {
+    return recoverChain.safeRunSync();
+  }
+
+  @Benchmark
+  public Try<Integer> redeemWithChain() {
+    return redeemWithChain.safeRunSync();
+  }
+
+  @Benchmark
+  public Try<Integer> asyncChain() {
+    return asyncChain.safeRunSync();
+  }
+
+  @Benchmark
+  public Try<Integer> parMap2() {
+    return parMap2.safeRunSync();
+  }
+
+  @Benchmark
+  public Try<Either<Integer, Integer>> race() {
+    return race.safeRunSync();
+  }
+}
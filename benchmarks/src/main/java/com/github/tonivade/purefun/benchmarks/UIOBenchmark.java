@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.tonivade.purefun.effect.UIO;
+import com.github.tonivade.purefun.type.Either;
+import com.github.tonivade.purefun.type.Try;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UIOBenchmark {
+
+  private static final RuntimeException ERROR = new RuntimeException("benchmark");
+
+  @Param({"100", "10000"})
+  private int depth;
+
+  private UIO<Integer> flatMapChain;
+  private UIO<Integer> mapChain;
+  private UIO<Integer> recoverChain;
+  private UIO<Integer> redeemWithChain;
+  private UIO<Integer> asyncChain;
+  private UIO<Integer> parMap2;
+  private UIO<Either<Integer, Integer>> race;
+
+  @Setup
+  public void setup() {
+    flatMapChain = UIO.pure(0);
+    mapChain = UIO.pure(0);
+    recoverChain = UIO.pure(0);
+    redeemWithChain = UIO.pure(0);
+    asyncChain = UIO.pure(0);
+    for (int i = 0; i < depth; i++) {
+      flatMapChain = flatMapChain.flatMap(x -> UIO.pure(x + 1));
+      mapChain = mapChain.map(x -> x + 1);
+      recoverChain = recoverChain.flatMap(x -> UIO.<Integer>raiseError(ERROR)).recover(error -> 1);
+      redeemWithChain = redeemWithChain.redeemWith(UIO::raiseError, x -> UIO.pure(x + 1));
+      asyncChain = asyncChain.flatMap(x -> UIO.async(callback -> callback.accept(Try.success(x + 1))));
+    }
+    parMap2 = UIO.parMap2(UIO.pure(1), UIO.pure(2), Integer::sum);
+    race = UIO.race(UIO.pure(1), UIO.never());
+  }
+
+  @Benchmark
+  public Integer flatMapChain() {
+    return flatMapChain.unsafeRunSync();
+  }
+
+  @Benchmark
+  public Integer mapChain() {
+    return mapChain.unsafeRunSync();
+  }
+
+  @Benchmark
+  public Integer recoverChain() {
+    return recoverChain.unsafeRunSync();
+  }
+
+  @Benchmark
+  public Integer redeemWithChain() {
+    return redeemWithChain.unsafeRunSync();
+  }
+
+  @Benchmark
+  public Integer asyncChain() {
+    return asyncChain.unsafeRunSync();
+  }
+
+  @Benchmark
+  public Integer parMap2() {
+    return parMap2.unsafeRunSync();
+  }
+
+  @Benchmark
+  public Either<Integer, Integer> race() {
+    return race.unsafeRunSync();
+  }
+}
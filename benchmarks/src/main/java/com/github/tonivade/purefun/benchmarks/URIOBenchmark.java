@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.tonivade.purefun.effect.URIO;
+import com.github.tonivade.purefun.type.Either;
+import com.github.tonivade.purefun.type.Try;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class URIOBenchmark {
+
+  private static final RuntimeException ERROR = new RuntimeException("benchmark");
+  private static final String ENV = "env";
+
+  @Param({"100", "10000"})
+  private int depth;
+
+  private URIO<String, Integer> flatMapChain;
+  private URIO<String, Integer> mapChain;
+  private URIO<String, Integer> recoverChain;
+  private URIO<String, Integer> redeemWithChain;
+  private URIO<String, Integer> asyncChain;
+  private URIO<String, Integer> parMap2;
+  private URIO<String, Either<Integer, Integer>> race;
+
+  @Setup
+  public void setup() {
+    flatMapChain = URIO.pure(0);
+    mapChain = URIO.pure(0);
+    recoverChain = URIO.pure(0);
+    redeemWithChain = URIO.pure(0);
+    asyncChain = URIO.pure(0);
+    for (int i = 0; i < depth; i++) {
+      flatMapChain = flatMapChain.flatMap(x -> URIO.pure(x + 1));
+      mapChain = mapChain.map(x -> x + 1);
+      recoverChain = recoverChain.flatMap(x -> URIO.<String, Integer>raiseError(ERROR)).recover(error -> 1);
+      redeemWithChain = redeemWithChain.redeemWith(URIO::raiseError, x -> URIO.pure(x + 1));
+      asyncChain = asyncChain.flatMap(x -> URIO.async((env, callback) -> callback.accept(Try.success(x + 1))));
+    }
+    parMap2 = URIO.parMap2(URIO.<String, Integer>pure(1), URIO.<String, Integer>pure(2), Integer::sum);
+    race = URIO.race(URIO.<String, Integer>pure(1), URIO.<String, Integer>never());
+  }
+
+  @Benchmark
+  public Integer flatMapChain() {
+    return flatMapChain.unsafeRunSync(ENV);
+  }
+
+  @Benchmark
+  public Integer mapChain() {
+    return mapChain.unsafeRunSync(ENV);
+  }
+
+  @Benchmark
+  public Integer recoverChain() {
+    return recoverChain.unsafeRunSync(ENV);
+  }
+
+  @Benchmark
+  public Integer redeemWithChain() {
+    return redeemWithChain.unsafeRunSync(ENV);
+  }
+
+  @Benchmark
+  public Integer asyncChain() {
+    return asyncChain.unsafeRunSync(ENV);
+  }
+
+  @Benchmark
+  public Integer parMap2() {
+    return parMap2.unsafeRunSync(ENV);
+  }
+
+  @Benchmark
+  public Either<Integer, Integer> race() {
+    return race.unsafeRunSync(ENV);
+  }
+}
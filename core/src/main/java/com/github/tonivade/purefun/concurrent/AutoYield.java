@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.concurrent;
+
+import static com.github.tonivade.purefun.core.Precondition.checkRange;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Cooperative scheduling for the run loops of the effects.</p>
+ *
+ * <p>The run loops count the steps evaluated since the last time they started to run, and when the
+ * threshold is reached the rest of the program is submitted to the executor where the run loop is running, so a
+ * long cpu bound chain of operations doesn't monopolize the thread and the fiber never leaves its own pool.</p>
+ *
+ * <p>Virtual threads are not yielded with {@code Thread.yield()} because the continuation is pushed to the local
+ * queue of the carrier thread and it can starve the tasks submitted from outside, like timers.</p>
+ *
+ * <p>The threshold can be configured with the system property {@value #THRESHOLD_PROPERTY}, by default
+ * {@value #DEFAULT_THRESHOLD}, and a threshold of 0 disables the auto yield.</p>
+ */
+public final class AutoYield {
+
+  public static final String THRESHOLD_PROPERTY = "purefun.autoYield.threshold";
+  public static final int DEFAULT_THRESHOLD = 1024;
+
+  private static final LongAdder YIELDS = new LongAdder();
+  private static final LongAdder STEPS = new LongAdder();
+  private static final LongAdder RUNS = new LongAdder();
+  private static final LongAccumulator LONGEST_RUN = new LongAccumulator(Math::max, 0);
+
+  private static volatile int threshold = Integer.getInteger(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD);
+
+  private AutoYield() {}
+
+  public static int threshold() {
+    return threshold;
+  }
+
+  public static void threshold(int value) {
+    threshold = checkRange(value, 0, Integer.MAX_VALUE);
+  }
+
+  public static Metrics metrics() {
+    return new Metrics(YIELDS.sum(), RUNS.sum(), STEPS.sum(), LONGEST_RUN.get());
+  }
+
+  public static void resetMetrics() {
+    YIELDS.reset();
+    RUNS.reset();
+    STEPS.reset();
+    LONGEST_RUN.reset();
+  }
+
+  /**
+   * Submits the continuation of a run loop to the executor where it's running, the run loop should return after that.
+   */
+  public static void yieldNow(Executor executor, Runnable continuation) {
+    YIELDS.increment();
+    executor.execute(continuation);
+  }
+
+  /**
+   * Records the number of steps evaluated by a run loop before it stops.
+   */
+  public static void record(int steps) {
+    if (steps > 0) {
+      RUNS.increment();
+      STEPS.add(steps);
+      LONGEST_RUN.accumulate(steps);
+    }
+  }
+
+  /**
+   * Snapshot of the fairness metrics of the run loops.
+   *
+   * @param yields number of times a run loop has yielded the thread
+   * @param runs number of uninterrupted runs of the run loops
+   * @param steps total number of steps evaluated
+   * @param longestRun maximum number of steps evaluated without yielding the thread
+   */
+  public record Metrics(long yields, long runs, long steps, long longestRun) {
+
+    public double averageRun() {
+      return runs > 0 ? (double) steps / runs : 0;
+    }
+  }
+}
@@ -7,7 +7,6 @@ package com.github.tonivade.purefun.concurrent;
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
 
 import java.util.concurrent.CancellationException;
-import java.util.concurrent.locks.ReentrantLock;
 
 import org.jspecify.annotations.Nullable;
 import com.github.tonivade.purefun.type.Try;
@@ -25,9 +24,9 @@ public sealed interface Cancellable {
   }
 }
 
+// guarded by its own monitor instead of a lock object, so there is nothing else to allocate for every future
 final class CancellableImpl implements Cancellable {
 
-  private final ReentrantLock lock = new ReentrantLock();
   private boolean cancelled = false;
   @Nullable
   private Thread thread = null;
@@ -39,38 +38,25 @@ final class CancellableImpl implements Cancellable {
   }
 
   @Override
-  public void updateThread() {
-    lock.lock();
-    try {
-      thread = Thread.currentThread();
-    } finally {
-      lock.unlock();
-    }
+  public synchronized void updateThread() {
+    thread = Thread.currentThread();
   }
 
   @Override
   public void cancel(boolean mayThreadInterrupted) {
     if (promise.tryComplete(Try.failure(new CancellationException()))) {
-      lock.lock();
-      try {
+      synchronized (this) {
         cancelled = true;
         if (mayThreadInterrupted) {
           interrupt();
         }
-      } finally {
-        lock.unlock();
       }
     }
   }
 
   @Override
-  public boolean isCancelled() {
-    lock.lock();
-    try {
-      return cancelled;
-    } finally {
-      lock.unlock();
-    }
+  public synchronized boolean isCancelled() {
+    return cancelled;
   }
 
   private void interrupt() {
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.concurrent;
+
+/**
+ * <p>Defines how the callbacks registered in a {@code Promise} are executed when the promise is completed.</p>
+ *
+ * <ul>
+ *   <li>FORK: every callback is submitted to the executor of the promise.</li>
+ *   <li>SAME_THREAD: callbacks run in the thread that completes the promise. Nested completions are queued in
+ *   a trampoline, so long chains don't overflow the stack, and once the trampoline has run a maximum number of
+ *   callbacks in a row, configured with the system property {@code purefun.promise.maxDepth}, by default 512,
+ *   the rest are submitted to the executor.</li>
+ * </ul>
+ *
+ * <p>Callbacks registered with {@code onCompleteBlocking} are always submitted to the executor.</p>
+ *
+ * <p>The policy used by {@code Promise.make} and {@code Future} can be configured with the system property
+ * {@value #POLICY_PROPERTY}, by default {@code FORK}.</p>
+ *
+ * @see Promise
+ * @see Future
+ */
+public enum ExecutionPolicy {
+
+  FORK,
+  SAME_THREAD;
+
+  public static final String POLICY_PROPERTY = "purefun.promise.policy";
+
+  private static final ExecutionPolicy DEFAULT = valueOf(System.getProperty(POLICY_PROPERTY, FORK.name()));
+
+  public static ExecutionPolicy defaultPolicy() {
+    return DEFAULT;
+  }
+}
@@ -7,16 +7,15 @@ package com.github.tonivade.purefun.concurrent;
 import static com.github.tonivade.purefun.core.Function1.cons;
 import static com.github.tonivade.purefun.core.Function1.identity;
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
-import static java.util.concurrent.CompletableFuture.supplyAsync;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.time.Duration;
-import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.github.tonivade.purefun.HigherKind;
 import com.github.tonivade.purefun.Kind;
@@ -33,6 +32,7 @@ import com.github.tonivade.purefun.data.ImmutableList;
 import com.github.tonivade.purefun.data.Sequence;
 import com.github.tonivade.purefun.type.Try;
 import com.github.tonivade.purefun.type.TryOf;
+import org.jspecify.annotations.Nullable;
 
 /**
  * <p>This type is an abstraction of a computation executed in another thread. To run the computation an {@code Executor}
@@ -62,6 +62,9 @@ import com.github.tonivade.purefun.type.TryOf;
  * <p>If during the execution of the computation in a thread, this thread is interrupted for any reason, the result
  * of the computation will be a {@code Try.failure(InterruptedException)}.</p>
  *
+ * <p>The callbacks and transformations of a future are executed following the default {@link ExecutionPolicy}. Callbacks
+ * that block the thread should be registered with {@code onCompleteBlocking}.</p>
+ *
  * @param <T> result of the computation
  * @see Try
  * @see Promise
@@ -82,6 +85,7 @@ public sealed interface Future<T> extends FutureOf<T>, Bindable<Future<?>, T> {
   Future<T> onSuccess(Consumer1<? super T> callback);
   Future<T> onFailure(Consumer1<? super Throwable> callback);
   Future<T> onComplete(Consumer1<? super Try<? extends T>> callback);
+  Future<T> onCompleteBlocking(Consumer1<? super Try<? extends T>> callback);
 
   @Override
   <R> Future<R> map(Function1<? super T, ? extends R> mapper);
@@ -283,24 +287,41 @@ public sealed interface Future<T> extends FutureOf<T>, Bindable<Future<?>, T> {
 
 final class FutureImpl<T> implements Future<T> {
 
+  private static final AtomicLong SEQUENCE = new AtomicLong();
+  private static final VarHandle ID;
+
+  static {
+    try {
+      ID = MethodHandles.lookup().findVarHandle(FutureImpl.class, "id", long.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
   private final Executor executor;
   private final Propagate propagate;
+  private final @Nullable Future<?> upstream;
   private final Promise<T> promise;
   private final Cancellable cancellable;
 
-  private final UUID uuid;
+  // only assigned when it is needed, zero means not assigned yet
+  private volatile long id;
 
   private FutureImpl(Executor executor, Callback<T> callback) {
     this(executor, callback, Propagate.noop());
   }
 
   private FutureImpl(Executor executor, Callback<T> callback, Propagate propagate) {
-    this.uuid = UUID.randomUUID();
+    this(executor, Promise.make(executor), null, propagate);
+    callback.accept(promise, cancellable);
+  }
+
+  private FutureImpl(Executor executor, Promise<T> promise, @Nullable Future<?> upstream, Propagate propagate) {
     this.executor = checkNonNull(executor);
+    this.promise = checkNonNull(promise);
+    this.upstream = upstream;
     this.propagate = checkNonNull(propagate);
-    this.promise = Promise.make(executor);
     this.cancellable = Cancellable.from(promise);
-    callback.accept(promise, cancellable);
   }
 
   @Override
@@ -309,6 +330,12 @@ final class FutureImpl<T> implements Future<T> {
     return this;
   }
 
+  @Override
+  public Future<T> onCompleteBlocking(Consumer1<? super Try<? extends T>> consumer) {
+    promise.onCompleteBlocking(consumer);
+    return this;
+  }
+
   @Override
   public Future<T> onSuccess(Consumer1<? super T> consumer) {
     promise.onSuccess(consumer);
@@ -398,6 +425,9 @@ final class FutureImpl<T> implements Future<T> {
     try {
       cancellable.cancel(mayInterruptThread);
     } finally {
+      if (upstream != null) {
+        upstream.cancel(mayInterruptThread);
+      }
       propagate.accept(mayInterruptThread);
     }
   }
@@ -409,22 +439,30 @@ final class FutureImpl<T> implements Future<T> {
 
   @Override
   public String toString() {
-    return "Future(" + uuid + ')';
+    return "Future(" + id() + ')';
+  }
+
+  private long id() {
+    long current = id;
+    if (current == 0) {
+      long next = SEQUENCE.incrementAndGet();
+      current = ID.compareAndSet(this, 0L, next) ? next : id;
+    }
+    return current;
   }
 
   private <R> Future<R> transform(Function1<? super Try<? extends T>, ? extends Try<? extends R>> mapper) {
-    checkNonNull(mapper);
-    return new FutureImpl<>(executor,
-        (p, c) ->
-          promise.onComplete(value -> p.tryComplete(mapper.apply(value))), this::cancel);
+    TransformStage<T, R> stage = new TransformStage<>(executor, ExecutionPolicy.defaultPolicy(), mapper);
+    promise.onComplete(stage);
+    return new FutureImpl<>(executor, stage, this, Propagate.noop());
   }
 
   private <R> Future<R> chain(Function1<? super Try<? extends T>, ? extends Kind<Future<?>, ? extends R>> mapper) {
-    checkNonNull(executor);
     checkNonNull(mapper);
-    return new FutureImpl<>(executor,
-        (p, c) ->
-          promise.onComplete(value -> mapper.andThen(FutureOf::<R>toFuture).apply(value).onComplete(p::tryComplete)), this::cancel);
+    ChainStage<T, R> stage = new ChainStage<>(executor, ExecutionPolicy.defaultPolicy(),
+        value -> FutureOf.<R>toFuture(mapper.apply(value)).toPromise());
+    promise.onComplete(stage);
+    return new FutureImpl<>(executor, stage, this, Propagate.noop());
   }
 
   static <T> Future<T> sync(Executor executor, Try<? extends T> result) {
@@ -463,7 +501,11 @@ final class FutureImpl<T> implements Future<T> {
   static Future<Unit> sleep(Executor executor, Duration delay) {
     checkNonNull(executor);
     checkNonNull(delay);
-    return from(executor, FutureModule.sleep(executor, delay));
+    Promise<Unit> promise = Promise.make(executor);
+    HashedWheelTimer.Timeout timeout = HashedWheelTimer.DEFAULT.schedule(delay,
+        () -> executor.execute(() -> promise.tryComplete(Try.success(Unit.unit()))));
+    return new FutureImpl<>(executor,
+        (p, c) -> promise.onComplete(p::tryComplete), mayInterruptThread -> timeout.cancel());
   }
 
   static <T, R> Future<R> bracket(Executor executor, Future<? extends T> acquire,
@@ -480,19 +522,6 @@ final class FutureImpl<T> implements Future<T> {
   }
 }
 
-interface FutureModule {
-
-  ScheduledExecutorService SCHEDULER = Executors.newScheduledThreadPool(0);
-
-  static Promise<Unit> sleep(Executor executor, Duration delay) {
-    return Promise.from(executor, supplyAsync(Unit::unit, delayedExecutor(delay, executor)));
-  }
-
-  static Executor delayedExecutor(Duration delay, Executor executor) {
-    return task -> SCHEDULER.schedule(() -> executor.execute(task), delay.toMillis(), TimeUnit.MILLISECONDS);
-  }
-}
-
 interface Callback<T> {
 
   void accept(Promise<T> promise, Cancellable cancellable);
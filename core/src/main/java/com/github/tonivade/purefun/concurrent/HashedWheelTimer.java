@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.concurrent;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import static com.github.tonivade.purefun.core.Precondition.checkPositive;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <p>Hashed timing wheel used to schedule the delayed tasks of {@code Future}, {@code IO}, {@code PureIO}
+ * and the {@code Timer} instances.</p>
+ *
+ * <p>The timeouts are stored in a circular array of buckets, one bucket per tick, so scheduling and cancelling
+ * a timeout are O(1) operations and a cancelled timeout is removed from the wheel in the next tick, instead
+ * of remaining in the queue until its deadline. The precision of the timer is the duration of the tick.</p>
+ *
+ * <p>The tasks are executed in the thread of the timer, so they should be short, usually just submitting
+ * the real work to an executor. The thread is started with the first timeout, it waits without ticking
+ * while there are no timeouts scheduled, and it sleeps until the next bucket with timeouts, so a long
+ * timeout doesn't wake it up every tick.</p>
+ *
+ * <p>The tick and the size of the wheel of the default instance can be configured with the system properties
+ * {@value #TICK_PROPERTY} (in milliseconds, 1 by default) and {@value #WHEEL_SIZE_PROPERTY} (512 by default).</p>
+ */
+public final class HashedWheelTimer implements AutoCloseable {
+
+  public static final String TICK_PROPERTY = "purefun.timer.tick";
+  public static final String WHEEL_SIZE_PROPERTY = "purefun.timer.wheelSize";
+
+  public static final HashedWheelTimer DEFAULT = new HashedWheelTimer(
+      Duration.ofMillis(Long.getLong(TICK_PROPERTY, 1)), Integer.getInteger(WHEEL_SIZE_PROPERTY, 512));
+
+  private static final int INIT = 0;
+  private static final int STARTED = 1;
+  private static final int CLOSED = 2;
+
+  private final long tickNanos;
+  private final Bucket[] wheel;
+  private final int mask;
+  private final long startTime = System.nanoTime();
+
+  private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+  private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger size = new AtomicInteger();
+  private final AtomicInteger state = new AtomicInteger(INIT);
+  private final Thread worker;
+
+  // time when the worker is going to wake up, Long.MAX_VALUE while it waits for new timeouts, 0 while it is running
+  private volatile long wakeup;
+
+  // only accessed by the worker thread
+  private long tick;
+
+  public HashedWheelTimer(Duration tick, int wheelSize) {
+    this.tickNanos = checkNonNull(tick).toNanos();
+    checkPositive((int) Math.min(tickNanos, Integer.MAX_VALUE), "tick must be positive");
+    checkPositive(wheelSize, "wheel size must be positive");
+    int normalized = Integer.highestOneBit(wheelSize - 1) << 1;
+    this.wheel = new Bucket[Math.max(normalized, 1)];
+    for (int i = 0; i < wheel.length; i++) {
+      wheel[i] = new Bucket();
+    }
+    this.mask = wheel.length - 1;
+    this.worker = Thread.ofPlatform().daemon().name("purefun-timer").unstarted(this::run);
+  }
+
+  public Timeout schedule(Duration delay, Runnable task) {
+    checkNonNull(delay);
+    checkNonNull(task);
+    start();
+    long deadline = System.nanoTime() - startTime + Math.max(0, delay.toNanos());
+    Timeout timeout = new Timeout(this, task, deadline < 0 ? Long.MAX_VALUE : deadline);
+    size.incrementAndGet();
+    pending.add(timeout);
+    if (timeout.deadline < wakeup) {
+      LockSupport.unpark(worker);
+    }
+    return timeout;
+  }
+
+  /**
+   * Returns the number of timeouts scheduled that are not expired or cancelled yet.
+   */
+  public int size() {
+    return size.get();
+  }
+
+  @Override
+  public void close() {
+    if (state.getAndSet(CLOSED) == STARTED) {
+      LockSupport.unpark(worker);
+    }
+  }
+
+  private void start() {
+    int current = state.get();
+    if (current == CLOSED) {
+      throw new IllegalStateException("timer closed");
+    }
+    if (current == INIT && state.compareAndSet(INIT, STARTED)) {
+      worker.start();
+    }
+  }
+
+  private void run() {
+    tick = elapsed() / tickNanos;
+    while (state.get() == STARTED) {
+      if (size.get() == 0) {
+        wakeup = Long.MAX_VALUE;
+        if (size.get() == 0 && state.get() == STARTED) {
+          LockSupport.park(this);
+        }
+        wakeup = 0;
+        // nothing was scheduled in the skipped ticks
+        tick = Math.max(tick, elapsed() / tickNanos);
+        continue;
+      }
+
+      long now = elapsed();
+      if (now < (tick + 1) * tickNanos) {
+        // the empty buckets are not visited until the worker wakes up, then the ticks are processed in order
+        long deadline = (nextTick() + 1) * tickNanos;
+        wakeup = deadline;
+        if (pending.isEmpty() && state.get() == STARTED) {
+          LockSupport.parkNanos(this, deadline - now);
+        }
+        wakeup = 0;
+        continue;
+      }
+
+      removeCancelled();
+      transferPending();
+      wheel[(int) (tick & mask)].expire();
+      tick++;
+    }
+  }
+
+  // the tick of the next bucket with timeouts, or the current tick if there are timeouts pending to be transferred
+  private long nextTick() {
+    if (!pending.isEmpty()) {
+      return tick;
+    }
+    for (int i = 0; i < wheel.length; i++) {
+      if (wheel[(int) ((tick + i) & mask)].head != null) {
+        return tick + i;
+      }
+    }
+    return tick + wheel.length - 1;
+  }
+
+  private void removeCancelled() {
+    while (true) {
+      Timeout timeout = cancelled.poll();
+      if (timeout == null) {
+        break;
+      }
+      Bucket bucket = timeout.bucket;
+      if (bucket != null) {
+        bucket.remove(timeout);
+      }
+    }
+  }
+
+  private void transferPending() {
+    // limit the number of timeouts transferred in every tick, so the wheel keeps ticking
+    for (int i = 0; i < 100_000; i++) {
+      Timeout timeout = pending.poll();
+      if (timeout == null) {
+        break;
+      }
+      if (timeout.state.get() != Timeout.WAITING) {
+        continue;
+      }
+      long ticks = timeout.deadline / tickNanos;
+      timeout.remainingRounds = (ticks - tick) / wheel.length;
+      wheel[(int) (Math.max(ticks, tick) & mask)].add(timeout);
+    }
+  }
+
+  private long elapsed() {
+    return System.nanoTime() - startTime;
+  }
+
+  public static final class Timeout {
+
+    private static final int WAITING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    private final HashedWheelTimer timer;
+    private final Runnable task;
+    private final long deadline;
+    private final AtomicInteger state = new AtomicInteger(WAITING);
+
+    // only accessed by the worker thread
+    private long remainingRounds;
+    @Nullable
+    private Bucket bucket;
+    @Nullable
+    private Timeout next;
+    @Nullable
+    private Timeout prev;
+
+    private Timeout(HashedWheelTimer timer, Runnable task, long deadline) {
+      this.timer = timer;
+      this.task = task;
+      this.deadline = deadline;
+    }
+
+    public boolean cancel() {
+      if (state.compareAndSet(WAITING, CANCELLED)) {
+        timer.size.decrementAndGet();
+        timer.cancelled.add(this);
+        return true;
+      }
+      return false;
+    }
+
+    public boolean isCancelled() {
+      return state.get() == CANCELLED;
+    }
+
+    public boolean isExpired() {
+      return state.get() == EXPIRED;
+    }
+
+    private void expire() {
+      if (state.compareAndSet(WAITING, EXPIRED)) {
+        timer.size.decrementAndGet();
+        try {
+          task.run();
+        } catch (RuntimeException e) {
+          Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+        }
+      }
+    }
+  }
+
+  private static final class Bucket {
+
+    @Nullable
+    private Timeout head;
+    @Nullable
+    private Timeout tail;
+
+    void add(Timeout timeout) {
+      timeout.bucket = this;
+      if (head == null) {
+        head = tail = timeout;
+      } else if (tail != null) {
+        tail.next = timeout;
+        timeout.prev = tail;
+        tail = timeout;
+      }
+    }
+
+    void expire() {
+      Timeout timeout = head;
+      while (timeout != null) {
+        Timeout next = timeout.next;
+        if (timeout.remainingRounds <= 0) {
+          remove(timeout);
+          timeout.expire();
+        } else if (timeout.isCancelled()) {
+          remove(timeout);
+        } else {
+          timeout.remainingRounds--;
+        }
+        timeout = next;
+      }
+    }
+
+    void remove(Timeout timeout) {
+      if (timeout.bucket != this) {
+        return;
+      }
+      Timeout next = timeout.next;
+      Timeout prev = timeout.prev;
+      if (prev != null) {
+        prev.next = next;
+      }
+      if (next != null) {
+        next.prev = prev;
+      }
+      if (timeout == head) {
+        head = next;
+      }
+      if (timeout == tail) {
+        tail = prev;
+      }
+      timeout.next = null;
+      timeout.prev = null;
+      timeout.bucket = null;
+    }
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.concurrent;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import static com.github.tonivade.purefun.core.Precondition.checkPositive;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.github.tonivade.purefun.core.Consumer1;
+import com.github.tonivade.purefun.core.Function2;
+import com.github.tonivade.purefun.core.Matcher1;
+import com.github.tonivade.purefun.core.Producer;
+import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.data.Sequence;
+import com.github.tonivade.purefun.type.Either;
+import com.github.tonivade.purefun.type.Try;
+
+/**
+ * <p>Runs a task for every value with at most {@code parallelism} tasks in flight at the same time, and
+ * collects the results in the same order as the values. A new task is started as soon as another one
+ * completes, so a slow task doesn't hold back the rest.</p>
+ *
+ * <p>Every task is started with its own connection, created by {@code connection} and published before the
+ * task starts, so {@link #cancel()} reaches all the tasks in flight. The first failure, or the first value
+ * that matches {@code stop}, cancels the rest of the tasks and completes the traversal.</p>
+ *
+ * @param <A> type of the values
+ * @param <B> type of the results of the tasks
+ * @param <C> type of the connection of every task
+ */
+public final class ParTraverse<A, B, C> {
+
+  private final List<? extends A> values;
+  private final Producer<? extends C> connection;
+  private final Consumer1<? super C> canceller;
+  private final Function2<? super A, ? super C, ? extends Promise<? extends B>> runner;
+  private final Matcher1<? super B> stop;
+  private final Consumer1<? super Try<Either<B, Sequence<B>>>> callback;
+
+  private final Object[] results;
+  private final AtomicReferenceArray<C> connections;
+  private final AtomicInteger next = new AtomicInteger();
+  private final AtomicInteger completed = new AtomicInteger();
+  private final AtomicBoolean done = new AtomicBoolean();
+
+  private ParTraverse(Sequence<? extends A> values,
+      Producer<? extends C> connection,
+      Consumer1<? super C> canceller,
+      Function2<? super A, ? super C, ? extends Promise<? extends B>> runner,
+      Matcher1<? super B> stop,
+      Consumer1<? super Try<Either<B, Sequence<B>>>> callback) {
+    this.values = checkNonNull(values).stream().toList();
+    this.connection = checkNonNull(connection);
+    this.canceller = checkNonNull(canceller);
+    this.runner = checkNonNull(runner);
+    this.stop = checkNonNull(stop);
+    this.callback = checkNonNull(callback);
+    this.results = new Object[this.values.size()];
+    this.connections = new AtomicReferenceArray<>(this.values.size());
+  }
+
+  /**
+   * Starts the traversal. The callback receives the results in order, or the first value that matched
+   * {@code stop} as a left, or the first failure.
+   */
+  public static <A, B, C> ParTraverse<A, B, C> start(int parallelism,
+      Sequence<? extends A> values,
+      Producer<? extends C> connection,
+      Consumer1<? super C> canceller,
+      Function2<? super A, ? super C, ? extends Promise<? extends B>> runner,
+      Matcher1<? super B> stop,
+      Consumer1<? super Try<Either<B, Sequence<B>>>> callback) {
+    checkPositive(parallelism);
+    ParTraverse<A, B, C> traverse = new ParTraverse<>(values, connection, canceller, runner, stop, callback);
+    traverse.start(parallelism);
+    return traverse;
+  }
+
+  public void cancel() {
+    done.set(true);
+    for (int i = 0; i < connections.length(); i++) {
+      C current = connections.getAndSet(i, null);
+      if (current != null) {
+        canceller.accept(current);
+      }
+    }
+  }
+
+  private void start(int parallelism) {
+    if (values.isEmpty()) {
+      callback.accept(Try.success(Either.right(ImmutableList.empty())));
+      return;
+    }
+    for (int i = 0; i < Math.min(parallelism, values.size()); i++) {
+      fork();
+    }
+  }
+
+  private void fork() {
+    int index = next.getAndIncrement();
+    if (index >= values.size()) {
+      return;
+    }
+    C current = connection.get();
+    connections.set(index, current);
+    // cancel() may have swept the connections just before this one was published
+    if (done.get()) {
+      if (connections.getAndSet(index, null) != null) {
+        canceller.accept(current);
+      }
+      return;
+    }
+    runner.apply(values.get(index), current).onComplete(result -> {
+      if (result.isFailure()) {
+        failed(Try.failure(result.getCause()));
+      } else if (stop.match(result.getOrElseThrow())) {
+        failed(Try.success(Either.left(result.getOrElseThrow())));
+      } else {
+        succeeded(index, result.getOrElseThrow());
+      }
+    });
+  }
+
+  private void succeeded(int index, B value) {
+    results[index] = value;
+    connections.set(index, null);
+    if (completed.incrementAndGet() == results.length) {
+      if (done.compareAndSet(false, true)) {
+        callback.accept(Try.success(Either.right(result())));
+      }
+    } else {
+      fork();
+    }
+  }
+
+  private void failed(Try<Either<B, Sequence<B>>> result) {
+    if (done.compareAndSet(false, true)) {
+      cancel();
+      callback.accept(result);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private Sequence<B> result() {
+    return ImmutableList.from(Arrays.asList((B[]) results));
+  }
+}
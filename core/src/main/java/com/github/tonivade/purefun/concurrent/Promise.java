@@ -7,16 +7,13 @@ package com.github.tonivade.purefun.concurrent;
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
 
 import java.time.Duration;
-import java.util.ArrayDeque;
-import java.util.Queue;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.LockSupport;
 
 import com.github.tonivade.purefun.HigherKind;
 import com.github.tonivade.purefun.Kind;
@@ -30,9 +27,8 @@ import com.github.tonivade.purefun.core.Function3;
 import com.github.tonivade.purefun.core.Function4;
 import com.github.tonivade.purefun.core.Function5;
 import com.github.tonivade.purefun.core.Unit;
-import com.github.tonivade.purefun.type.Option;
 import com.github.tonivade.purefun.type.Try;
-import com.github.tonivade.purefun.type.TryOf;
+import org.jspecify.annotations.Nullable;
 
 @HigherKind
 public sealed interface Promise<T> extends PromiseOf<T>, Bindable<Promise<?>, T>, Applicable<Promise<?>, T> permits PromiseImpl {
@@ -60,6 +56,12 @@ public sealed interface Promise<T> extends PromiseOf<T>, Bindable<Promise<?>, T>
 
   Promise<T> onComplete(Consumer1<? super Try<? extends T>> consumer);
 
+  /**
+   * Like {@code onComplete}, but the callback is always submitted to the executor of the promise,
+   * whatever the execution policy is. It should be used for callbacks that block the thread.
+   */
+  Promise<T> onCompleteBlocking(Consumer1<? super Try<? extends T>> consumer);
+
   default Promise<T> onSuccess(Consumer1<? super T> consumer) {
     return onComplete(value -> value.onSuccess(consumer));
   }
@@ -100,7 +102,11 @@ public sealed interface Promise<T> extends PromiseOf<T>, Bindable<Promise<?>, T>
   }
 
   static <T> Promise<T> make(Executor executor) {
-    return new PromiseImpl<>(executor);
+    return make(executor, ExecutionPolicy.defaultPolicy());
+  }
+
+  static <T> Promise<T> make(Executor executor, ExecutionPolicy policy) {
+    return new PromiseImpl<>(executor, policy);
   }
 
   static <T> Promise<T> from(CompletableFuture<? extends T> future) {
@@ -148,55 +154,65 @@ public sealed interface Promise<T> extends PromiseOf<T>, Bindable<Promise<?>, T>
   }
 }
 
-final class PromiseImpl<T> implements Promise<T> {
+sealed class PromiseImpl<T> implements Promise<T> permits TransformStage, ChainStage {
 
-  private final ReentrantLock lock = new ReentrantLock();
-  private final Condition condition = lock.newCondition();
-  private final Queue<Consumer1<? super Try<? extends T>>> consumers = new ArrayDeque<>();
-  private final AtomicReference<Try<? extends T>> reference = new AtomicReference<>();
+  private static final VarHandle STATE;
+
+  static {
+    try {
+      STATE = MethodHandles.lookup().findVarHandle(PromiseImpl.class, "state", Object.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  // null when empty, a stack of Node while there are callbacks waiting, and a Try when completed
+  private volatile @Nullable Object state;
 
   private final Executor executor;
+  private final ExecutionPolicy policy;
 
-  PromiseImpl(Executor executor) {
+  PromiseImpl(Executor executor, ExecutionPolicy policy) {
     this.executor = checkNonNull(executor);
+    this.policy = checkNonNull(policy);
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public boolean tryComplete(Try<? extends T> value) {
-    if (isEmpty()) {
-      lock.lock();
-      try {
-        if (isEmpty()) {
-          set(value);
-          condition.signalAll();
-          while (true) {
-            var consumer = consumers.poll();
-            if (consumer != null)
-              submit(value, consumer);
-            else break;
-          }
-          return true;
+    checkNonNull(value);
+    while (true) {
+      Object current = state;
+      if (current instanceof Try<?>) {
+        return false;
+      }
+      if (STATE.compareAndSet(this, current, value)) {
+        if (current != null) {
+          notify(value, (Node<T>) current);
         }
-      } finally {
-        lock.unlock();
+        return true;
       }
     }
-    return false;
   }
 
   @Override
   public Try<T> await() {
-    if (isEmpty()) {
-      lock.lock();
+    Try<T> result = result();
+    if (result != null) {
+      return result;
+    }
+    Node<T> waiter = new Node<>(Thread.currentThread());
+    if (push(waiter)) {
       try {
-        while (isEmpty()) {
-          condition.await();
+        while ((result = result()) == null) {
+          LockSupport.park(this);
+          if (Thread.interrupted()) {
+            Thread.currentThread().interrupt();
+            tryComplete(Try.failure(new InterruptedException()));
+          }
         }
-      } catch (InterruptedException e) {
-        Thread.currentThread().interrupt();
-        set(Try.failure(e));
       } finally {
-        lock.unlock();
+        waiter.thread = null;
       }
     }
     return safeGet();
@@ -204,17 +220,28 @@ final class PromiseImpl<T> implements Promise<T> {
 
   @Override
   public Try<T> await(Duration timeout) {
-    if (isEmpty()) {
-      lock.lock();
+    Try<T> result = result();
+    if (result != null) {
+      return result;
+    }
+    Node<T> waiter = new Node<>(Thread.currentThread());
+    if (push(waiter)) {
       try {
-        if (isEmpty() && !condition.await(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
-          set(Try.failure(new TimeoutException()));
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while ((result = result()) == null) {
+          long remaining = deadline - System.nanoTime();
+          if (remaining <= 0) {
+            tryComplete(Try.failure(new TimeoutException()));
+          } else {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+              Thread.currentThread().interrupt();
+              tryComplete(Try.failure(new InterruptedException()));
+            }
+          }
         }
-      } catch (InterruptedException e) {
-        Thread.currentThread().interrupt();
-        set(Try.failure(e));
       } finally {
-        lock.unlock();
+        waiter.thread = null;
       }
     }
     return safeGet();
@@ -222,23 +249,29 @@ final class PromiseImpl<T> implements Promise<T> {
 
   @Override
   public boolean isCompleted() {
-    lock.lock();
-    try {
-      return !isEmpty();
-    } finally {
-      lock.unlock();
-    }
+    return state instanceof Try<?>;
   }
 
   @Override
   public Promise<T> onComplete(Consumer1<? super Try<? extends T>> consumer) {
-    current(consumer).ifPresent(consumer);
+    if (!push(new Node<>(consumer))) {
+      consumer.accept(safeGet());
+    }
+    return this;
+  }
+
+  @Override
+  public Promise<T> onCompleteBlocking(Consumer1<? super Try<? extends T>> consumer) {
+    Node<T> node = new Node<>(consumer, true);
+    if (!push(node)) {
+      submit(safeGet(), node, ExecutionPolicy.FORK);
+    }
     return this;
   }
 
   @Override
   public <R> Promise<R> ap(Kind<Promise<?>, ? extends Function1<? super T, ? extends R>> apply) {
-    Promise<R> result = new PromiseImpl<>(executor);
+    Promise<R> result = new PromiseImpl<>(executor, policy);
     onComplete(try1 -> PromiseOf.toPromise(apply).onComplete(
         try2 -> result.tryComplete(Try.map2(try2,  try1, Function1::apply))));
     return result;
@@ -246,51 +279,152 @@ final class PromiseImpl<T> implements Promise<T> {
 
   @Override
   public <R> Promise<R> map(Function1<? super T, ? extends R> mapper) {
-    Promise<R> other = new PromiseImpl<>(executor);
-    onComplete(value -> other.tryComplete(value.map(mapper)));
-    return other;
+    checkNonNull(mapper);
+    TransformStage<T, R> stage = new TransformStage<>(executor, policy, value -> value.map(mapper));
+    onComplete(stage);
+    return stage;
   }
 
   @Override
   public <R> Promise<R> flatMap(Function1<? super T, ? extends Kind<Promise<?>, ? extends R>> mapper) {
-    Promise<R> other = new PromiseImpl<>(executor);
-    onComplete(value -> {
-      Try<Promise<R>> map = value.map(mapper.andThen(PromiseOf::toPromise));
-      map.fold(
-        error -> other.tryComplete(Try.failure(error)),
-        next -> next.onComplete(other::tryComplete));
-    });
-    return other;
-  }
-
-  private Option<Try<T>> current(Consumer1<? super Try<? extends T>> consumer) {
-    if (isEmpty()) {
-      lock.lock();
-      try {
-        if (isEmpty()) {
-          consumers.add(consumer);
-        }
-      } finally {
-        lock.unlock();
+    checkNonNull(mapper);
+    ChainStage<T, R> stage = new ChainStage<>(executor, policy,
+        value -> value.fold(error -> new PromiseImpl<R>(executor, policy).failed(error), mapper.andThen(PromiseOf::toPromise)));
+    onComplete(stage);
+    return stage;
+  }
+
+  // returns false if the promise is already completed and the node has not been added
+  @SuppressWarnings("unchecked")
+  private boolean push(Node<T> node) {
+    while (true) {
+      Object current = state;
+      if (current instanceof Try<?>) {
+        return false;
+      }
+      node.next = (Node<T>) current;
+      if (STATE.compareAndSet(this, current, node)) {
+        return true;
       }
     }
-    return Option.of(safeGet());
+  }
+
+  private void notify(Try<? extends T> value, Node<T> stack) {
+    // callbacks are pushed in reverse order, so the stack is reversed to call them in order of registration
+    Node<T> reversed = null;
+    for (Node<T> node = stack; node != null; ) {
+      Node<T> next = node.next;
+      node.next = reversed;
+      reversed = node;
+      node = next;
+    }
+    for (Node<T> node = reversed; node != null; node = node.next) {
+      Thread thread = node.thread;
+      Consumer1<? super Try<? extends T>> consumer = node.consumer;
+      if (thread != null) {
+        LockSupport.unpark(thread);
+      } else if (consumer != null) {
+        submit(value, node, node.blocking ? ExecutionPolicy.FORK : policy);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private @Nullable Try<T> result() {
+    return state instanceof Try<?> result ? (Try<T>) result : null;
   }
 
   @SuppressWarnings("NullAway")
   private Try<T> safeGet() {
-    return TryOf.toTry(reference.get());
+    return result();
   }
 
-  private void set(Try<? extends T> value) {
-    reference.set(value);
+  private void submit(Try<? extends T> value, Node<T> node, ExecutionPolicy policy) {
+    node.value = value;
+    switch (policy) {
+      case FORK -> executor.execute(node);
+      case SAME_THREAD -> Trampoline.execute(executor, node);
+    }
   }
 
-  private boolean isEmpty() {
-    return reference.get() == null;
+  // the node itself is submitted to the executor, so no other object is allocated to run the callback
+  private static final class Node<T> implements Runnable {
+
+    private final @Nullable Consumer1<? super Try<? extends T>> consumer;
+    private volatile @Nullable Thread thread;
+    private @Nullable Node<T> next;
+    private @Nullable Try<? extends T> value;
+    private final boolean blocking;
+
+    private Node(Consumer1<? super Try<? extends T>> consumer) {
+      this(consumer, false);
+    }
+
+    private Node(Consumer1<? super Try<? extends T>> consumer, boolean blocking) {
+      this.consumer = checkNonNull(consumer);
+      this.blocking = blocking;
+    }
+
+    private Node(Thread thread) {
+      this.consumer = null;
+      this.thread = thread;
+      this.blocking = false;
+    }
+
+    @Override
+    @SuppressWarnings("NullAway")
+    public void run() {
+      consumer.accept(value);
+    }
   }
+}
+
+/**
+ * A stage of a chain of transformations. It is at the same time the callback registered in the
+ * previous promise and the promise with the transformed result, so every step only needs one object.
+ */
+final class TransformStage<T, R> extends PromiseImpl<R> implements Consumer1<Try<? extends T>> {
+
+  private final Function1<? super Try<? extends T>, ? extends Try<? extends R>> mapper;
 
-  private void submit(Try<? extends T> value, Consumer1<? super Try<? extends T>> consumer) {
-    executor.execute(() -> consumer.accept(value));
+  TransformStage(Executor executor, ExecutionPolicy policy, Function1<? super Try<? extends T>, ? extends Try<? extends R>> mapper) {
+    super(executor, policy);
+    this.mapper = checkNonNull(mapper);
+  }
+
+  @Override
+  public void run(Try<? extends T> value) {
+    Try<? extends R> result;
+    try {
+      result = mapper.apply(value);
+    } catch (RuntimeException e) {
+      result = Try.failure(e);
+    }
+    tryComplete(result);
+  }
+}
+
+/**
+ * Like {@link TransformStage}, but the transformation returns another promise that completes this stage.
+ */
+final class ChainStage<T, R> extends PromiseImpl<R> implements Consumer1<Try<? extends T>> {
+
+  private final Function1<? super Try<? extends T>, ? extends Promise<? extends R>> mapper;
+
+  ChainStage(Executor executor, ExecutionPolicy policy, Function1<? super Try<? extends T>, ? extends Promise<? extends R>> mapper) {
+    super(executor, policy);
+    this.mapper = checkNonNull(mapper);
+  }
+
+  @Override
+  public void run(Try<? extends T> value) {
+    Promise<? extends R> next;
+    try {
+      next = mapper.apply(value);
+    } catch (RuntimeException e) {
+      tryComplete(Try.failure(e));
+      return;
+    }
+    next.onComplete(this::tryComplete);
   }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.concurrent;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs the callbacks of the promises with the {@code SAME_THREAD} policy. The first callback runs in the
+ * current thread, and the callbacks scheduled while it is running are queued and executed after it, in the
+ * same loop, instead of growing the stack.
+ */
+final class Trampoline {
+
+  static final String MAX_DEPTH_PROPERTY = "purefun.promise.maxDepth";
+  static final int MAX_DEPTH = Integer.getInteger(MAX_DEPTH_PROPERTY, 512);
+
+  private static final ThreadLocal<Trampoline> CURRENT = ThreadLocal.withInitial(Trampoline::new);
+
+  private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+  private boolean running;
+  private int steps;
+
+  private Trampoline() {}
+
+  static void execute(Executor executor, Runnable task) {
+    Trampoline trampoline = CURRENT.get();
+    if (!trampoline.running) {
+      trampoline.run(task);
+    } else if (trampoline.steps + trampoline.tasks.size() < MAX_DEPTH) {
+      trampoline.tasks.addLast(task);
+    } else {
+      executor.execute(task);
+    }
+  }
+
+  private void run(Runnable first) {
+    running = true;
+    steps = 0;
+    try {
+      for (Runnable task = first; task != null; task = tasks.pollFirst()) {
+        steps++;
+        try {
+          task.run();
+        } catch (Throwable e) {
+          // same as if the task was executed by a thread of an executor
+          Thread thread = Thread.currentThread();
+          thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+        }
+      }
+    } finally {
+      running = false;
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.core;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+
+import java.util.Arrays;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <p>Growable array based stack of continuations used by the run loops of the effects.</p>
+ *
+ * <p>The frames are the nodes of the program itself (flatMap, map, recover...), so pushing a frame does
+ * not allocate anything unless the array needs to grow. The array is only allocated when the first frame
+ * is pushed, and is kept while the program is running, even across async boundaries.</p>
+ *
+ * <p>This class is not thread safe, it is intended to be used by a single run loop at a time.</p>
+ *
+ * @param <T> type of the frames
+ */
+public final class CallStack<T> {
+
+  private static final Object[] EMPTY = new Object[0];
+  private static final int INITIAL_CAPACITY = 16;
+
+  private Object[] frames = EMPTY;
+  private int size = 0;
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public void push(T frame) {
+    checkNonNull(frame);
+    if (size == frames.length) {
+      frames = Arrays.copyOf(frames, Math.max(INITIAL_CAPACITY, size << 1));
+    }
+    frames[size++] = frame;
+  }
+
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public T pop() {
+    if (size == 0) {
+      return null;
+    }
+    T frame = (T) frames[--size];
+    frames[size] = null;
+    return frame;
+  }
+
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public T peek() {
+    if (size == 0) {
+      return null;
+    }
+    return (T) frames[size - 1];
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.data;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+import com.github.tonivade.purefun.type.Option;
+
+/**
+ * A {@link DoublePipeline} bound to an input collection.
+ *
+ * @param <T> the type of input elements
+ */
+public final class DoublePipelineWithInput<T> {
+
+  private final DoublePipeline<T> pipeline;
+  private final Iterable<T> input;
+
+  public DoublePipelineWithInput(DoublePipeline<T> pipeline, Iterable<T> input) {
+    this.pipeline = checkNonNull(pipeline, "pipeline must not be null");
+    this.input = checkNonNull(input, "input must not be null");
+  }
+
+  public <A> A reduce(A init, DoublePipeline.DoubleReducer<A> reducer) {
+    return pipeline.reduce(input, init, reducer);
+  }
+
+  public void forEach(DoubleConsumer action) {
+    pipeline.forEach(input, action);
+  }
+
+  public double sum() {
+    return pipeline.sum(input);
+  }
+
+  public Option<Double> min() {
+    return pipeline.min(input);
+  }
+
+  public Option<Double> max() {
+    return pipeline.max(input);
+  }
+
+  public Option<Double> average() {
+    return pipeline.average(input);
+  }
+
+  public DoubleSummaryStatistics statistics() {
+    return pipeline.statistics(input);
+  }
+
+  public double[] toDoubleArray() {
+    return pipeline.toDoubleArray(input);
+  }
+
+  public ImmutableTreeMap<Double, Long> histogram(double width) {
+    return pipeline.histogram(input, width);
+  }
+
+  public DoublePipelineWithInput<T> map(DoubleUnaryOperator f) {
+    return new DoublePipelineWithInput<>(pipeline.map(f), input);
+  }
+
+  public DoublePipelineWithInput<T> filter(DoublePredicate p) {
+    return new DoublePipelineWithInput<>(pipeline.filter(p), input);
+  }
+
+  public DoublePipelineWithInput<T> scan(double init, DoubleBinaryOperator f) {
+    return new DoublePipelineWithInput<>(pipeline.scan(init, f), input);
+  }
+
+  public PipelineWithInput<T, double[]> windowFixed(int size) {
+    return new PipelineWithInput<>(pipeline.windowFixed(size), input);
+  }
+
+  public <U> PipelineWithInput<T, U> mapToObj(DoubleFunction<? extends U> f) {
+    return new PipelineWithInput<>(pipeline.mapToObj(f), input);
+  }
+}
@@ -5,7 +5,6 @@
 package com.github.tonivade.purefun.data;
 
 import static com.github.tonivade.purefun.core.Function1.identity;
-import static com.github.tonivade.purefun.data.Sequence.listOf;
 import com.github.tonivade.purefun.core.Consumer1;
 import com.github.tonivade.purefun.core.Function1;
 import com.github.tonivade.purefun.core.Function2;
@@ -13,9 +12,11 @@ import com.github.tonivade.purefun.core.Matcher1;
 import com.github.tonivade.purefun.core.Operator2;
 import com.github.tonivade.purefun.core.Producer;
 import com.github.tonivade.purefun.core.Unit;
-import com.github.tonivade.purefun.data.Reducer.Step;
 import com.github.tonivade.purefun.type.Option;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * A Finisher is a function that takes a Transducer and produces a result of type A.
@@ -36,6 +37,18 @@ public interface Finisher<A, B, T, U> {
    */
   B apply(Transducer<A, T, U> transducer);
 
+  /**
+   * A Finisher that splits the input and runs the Transducer concurrently on every chunk.
+   * Only pipelines made of stateless steps can be finished with a parallel Finisher.
+   *
+   * @param <A> the type of the result produced by the Finisher
+   * @param <B> the type of the final result
+   * @param <T> the type of input elements processed by the Transducer
+   * @param <U> the type of output elements produced by the Transducer
+   */
+  @FunctionalInterface
+  interface Parallel<A, B, T, U> extends Finisher<A, B, T, U> {}
+
   /**
    * Creates a Finisher that runs the given Transducer on the input collection and produces a result of type A.
    *
@@ -68,7 +81,71 @@ public interface Finisher<A, B, T, U> {
    */
   static <A, B, E, R> Finisher<A, B, E, R> of(
       Iterable<? extends E> input, Producer<A> init, Function2<? super A, ? super R, ? extends A> append, Function1<A, B> onComplete) {
-    return xf -> run(init.get(), input, xf.apply((acc, e) -> Step.more(append.apply(acc, e))), onComplete);
+    return xf -> run(init.get(), input, xf.apply(append::apply), onComplete);
+  }
+
+  /**
+   * Creates a parallel Finisher that splits the input collection in chunks and runs the given Transducer
+   * on every chunk using the common {@link ForkJoinPool}.
+   *
+   * @param input the input collection to process
+   * @param init a Producer that provides the initial value of type A for every chunk
+   * @param append a Function2 that takes the current accumulated value of type A and an element of type E,
+   *               and produces a new accumulated value of type A
+   * @param combiner an associative Operator2 that combines the partial results of two adjacent chunks
+   * @param <A> the type of the result produced by the Finisher
+   * @param <E> the type of input elements to process
+   * @param <R> the type of output elements produced by the Transducer
+   * @return a parallel Finisher that runs the given Transducer on the input collection and produces a result of type A
+   */
+  static <A, E, R> Parallel<A, A, E, R> parallel(
+      Iterable<? extends E> input, Producer<A> init, Function2<? super A, ? super R, ? extends A> append, Operator2<A> combiner) {
+    return parallel(input, init, append, combiner, identity());
+  }
+
+  /**
+   * Creates a parallel Finisher that splits the input collection in chunks and runs the given Transducer
+   * on every chunk using the common {@link ForkJoinPool}.
+   *
+   * @param input the input collection to process
+   * @param init a Producer that provides the initial value of type A for every chunk
+   * @param append a Function2 that takes the current accumulated value of type A and an element of type E,
+   *               and produces a new accumulated value of type A
+   * @param combiner an associative Operator2 that combines the partial results of two adjacent chunks
+   * @param onComplete a Function1 that takes the final accumulated value of type A and produces the final result of type B
+   * @param <A> the type of the result produced by the Finisher
+   * @param <E> the type of input elements to process
+   * @param <R> the type of output elements produced by the Transducer
+   * @return a parallel Finisher that runs the given Transducer on the input collection and produces a result of type B
+   */
+  static <A, B, E, R> Parallel<A, B, E, R> parallel(
+      Iterable<? extends E> input, Producer<A> init, Function2<? super A, ? super R, ? extends A> append,
+      Operator2<A> combiner, Function1<A, B> onComplete) {
+    return parallel(ForkJoinPool.commonPool(), input, init, append, combiner, onComplete);
+  }
+
+  /**
+   * Creates a parallel Finisher that splits the input collection in chunks and runs the given Transducer
+   * on every chunk using the given {@link ForkJoinPool}. Every chunk is reduced with its own accumulator,
+   * and the partial results are combined in encounter order, so the combiner only needs to be associative.
+   *
+   * @param pool the ForkJoinPool where the chunks are executed
+   * @param input the input collection to process
+   * @param init a Producer that provides the initial value of type A for every chunk
+   * @param append a Function2 that takes the current accumulated value of type A and an element of type E,
+   *               and produces a new accumulated value of type A
+   * @param combiner an associative Operator2 that combines the partial results of two adjacent chunks
+   * @param onComplete a Function1 that takes the final accumulated value of type A and produces the final result of type B
+   * @param <A> the type of the result produced by the Finisher
+   * @param <E> the type of input elements to process
+   * @param <R> the type of output elements produced by the Transducer
+   * @return a parallel Finisher that runs the given Transducer on the input collection and produces a result of type B
+   */
+  static <A, B, E, R> Parallel<A, B, E, R> parallel(ForkJoinPool pool,
+      Iterable<? extends E> input, Producer<A> init, Function2<? super A, ? super R, ? extends A> append,
+      Operator2<A> combiner, Function1<A, B> onComplete) {
+    return xf -> onComplete.apply(ParallelReduction.<A, E>reduce(pool, input, init,
+        () -> xf.apply(append::apply), combiner));
   }
 
   /**
@@ -132,7 +209,7 @@ public interface Finisher<A, B, T, U> {
    *  first output element, or None if there are no output elements
    */
   static <E, R> Finisher<Option<R>, Option<R>, E, R> findFirst(Iterable<? extends E> input) {
-    return xf -> run(Option.none(), input, xf.apply((acc, e) -> Step.done(Option.some(e))));
+    return xf -> run(Option.none(), input, xf.apply(Reducer.<Option<R>, R>of((acc, e) -> Option.some(e), Option::isPresent)));
   }
 
   /**
@@ -147,12 +224,7 @@ public interface Finisher<A, B, T, U> {
    *   or false if there are no output elements or if no output element matches the given matcher
    */
   static <E, R> Finisher<Boolean, Boolean, E, R> anyMatch(Iterable<? extends E> input, Matcher1<? super R> matcher) {
-    return xf -> run(false, input, xf.apply((acc, e) -> {
-      if (matcher.test(e)) {
-        return Step.done(true);
-      }
-      return Step.more(acc);
-    }));
+    return xf -> run(false, input, xf.apply(Reducer.<Boolean, R>of((acc, e) -> matcher.test(e), acc -> acc)));
   }
 
   /**
@@ -167,12 +239,7 @@ public interface Finisher<A, B, T, U> {
    *  true if all output elements match the given matcher, or false if there are no output elements or if any output element does not match the given matcher
    */
   static <E, R> Finisher<Boolean, Boolean, E, R> allMatch(Iterable<? extends E> input, Matcher1<? super R> matcher) {
-    return xf -> run(true, input, xf.apply((acc, e) -> {
-      if (!matcher.test(e)) {
-        return Step.done(false);
-      }
-      return Step.more(acc);
-    }));
+    return xf -> run(true, input, xf.apply(Reducer.<Boolean, R>of((acc, e) -> matcher.test(e), acc -> !acc)));
   }
 
   /**
@@ -187,10 +254,18 @@ public interface Finisher<A, B, T, U> {
    * @return a Finisher that runs the given Transducer on the input collection and produces an ImmutableMap that groups
    *  the output elements by the keys produced by the given selector function
    */
-  static <K, E, R> Finisher<ImmutableMap<K, ImmutableList<R>>, ImmutableMap<K, ImmutableList<R>>, E, R> groupBy(
+  static <K, E, R> Finisher<Map<K, ImmutableList.Builder<R>>, ImmutableMap<K, ImmutableList<R>>, E, R> groupBy(
         Iterable<? extends E> input, Function1<? super R, ? extends K> selector) {
-    return of(input, ImmutableMap::empty,
-      (acc, e) -> acc.merge(selector.apply(e), listOf(e), ImmutableList::appendAll));
+    return of(input, HashMap::new,
+      (acc, e) -> {
+        acc.computeIfAbsent(selector.apply(e), key -> ImmutableList.builder()).append(e);
+        return acc;
+      },
+      acc -> {
+        var builder = ImmutableMap.<K, ImmutableList<R>>builder();
+        acc.forEach((key, values) -> builder.put(key, values.build()));
+        return builder.build();
+      });
   }
 
   /**
@@ -201,8 +276,8 @@ public interface Finisher<A, B, T, U> {
    * @param <R> the type of output elements
    * @return a Finisher that runs the given Transducer on the input collection and produces an ImmutableArray of type R
    */
-  static <E, R> Finisher<ImmutableArray<R>, ImmutableArray<R>, E, R> toImmutableArray(Iterable<? extends E> input) {
-    return of(input, ImmutableArray::empty, ImmutableArray::append);
+  static <E, R> Finisher<ImmutableArray.Builder<R>, ImmutableArray<R>, E, R> toImmutableArray(Iterable<? extends E> input) {
+    return of(input, ImmutableArray::builder, ImmutableArray.Builder::append, ImmutableArray.Builder::build);
   }
 
   /**
@@ -213,8 +288,8 @@ public interface Finisher<A, B, T, U> {
    * @param <R> the type of output elements
    * @return a Finisher that runs the given Transducer on the input collection and produces an ImmutableList of type R
    */
-  static <E, R> Finisher<ImmutableList<R>, ImmutableList<R>, E, R> toImmutableList(Iterable<? extends E> input) {
-    return of(input, ImmutableList::empty, ImmutableList::append);
+  static <E, R> Finisher<ImmutableList.Builder<R>, ImmutableList<R>, E, R> toImmutableList(Iterable<? extends E> input) {
+    return of(input, ImmutableList::builder, ImmutableList.Builder::append, ImmutableList.Builder::build);
   }
 
   /**
@@ -233,10 +308,9 @@ public interface Finisher<A, B, T, U> {
    *  where the keys and values are produced by the given keySelector and valueSelector functions, respectively.
    *  If there are duplicate keys, an IllegalArgumentException is thrown.
    */
-  static <E, R, K, V> Finisher<ImmutableMap<K, V>, ImmutableMap<K, V>, E, R> toImmutableMap(
+  static <E, R, K, V> Finisher<ImmutableMap.Builder<K, V>, ImmutableMap<K, V>, E, R> toImmutableMap(
       Iterable<? extends E> input, Function1<? super R, ? extends K> keySelector, Function1<? super R, ? extends V> valueSelector) {
-    return of(input, ImmutableMap::empty,
-      (acc, e) -> acc.merge(keySelector.apply(e), valueSelector.apply(e), Finisher::throwingMerge));
+    return toImmutableMap(input, keySelector, valueSelector, Finisher::throwingMerge);
   }
 
   /**
@@ -256,10 +330,10 @@ public interface Finisher<A, B, T, U> {
    *  where the keys and values are produced by the given keySelector and valueSelector functions, respectively.
    *  If there are duplicate keys, the values are merged using the given merger function.
    */
-  static <E, R, K, V> Finisher<ImmutableMap<K, V>, ImmutableMap<K, V>, E, R> toImmutableMap(
+  static <E, R, K, V> Finisher<ImmutableMap.Builder<K, V>, ImmutableMap<K, V>, E, R> toImmutableMap(
       Iterable<? extends E> input, Function1<? super R, ? extends K> keySelector, Function1<? super R, ? extends V> valueSelector, Operator2<V> merger) {
-    return of(input, ImmutableMap::empty,
-      (acc, e) -> acc.merge(keySelector.apply(e), valueSelector.apply(e), merger));
+    return of(input, ImmutableMap::builder,
+      (acc, e) -> acc.merge(keySelector.apply(e), valueSelector.apply(e), merger), ImmutableMap.Builder::build);
   }
 
   /**
@@ -278,7 +352,7 @@ public interface Finisher<A, B, T, U> {
    *  where the keys and values are produced by the given keySelector and valueSelector functions, respectively.
    *  If there are duplicate keys, an IllegalArgumentException is thrown.
    */
-  static <E, R, K, V> Finisher<ImmutableTreeMap<K, V>, ImmutableTreeMap<K, V>, E, R> toImmutableTreeMap(
+  static <E, R, K, V> Finisher<ImmutableTreeMap.Builder<K, V>, ImmutableTreeMap<K, V>, E, R> toImmutableTreeMap(
       Iterable<? extends E> input, Function1<? super R, ? extends K> keySelector, Function1<? super R, ? extends V> valueSelector) {
     return toImmutableTreeMap(input, keySelector, valueSelector, Finisher::throwingMerge);
   }
@@ -301,10 +375,9 @@ public interface Finisher<A, B, T, U> {
    *  where the keys and values are produced by the given keySelector and valueSelector functions, respectively.
    *  If there are duplicate keys, the values are merged using the given merger function.
    */
-  static <E, R, K, V> Finisher<ImmutableTreeMap<K, V>, ImmutableTreeMap<K, V>, E, R> toImmutableTreeMap(
+  static <E, R, K, V> Finisher<ImmutableTreeMap.Builder<K, V>, ImmutableTreeMap<K, V>, E, R> toImmutableTreeMap(
       Iterable<? extends E> input, Function1<? super R, ? extends K> keySelector, Function1<? super R, ? extends V> valueSelector, Operator2<V> merger) {
-    return of(input, ImmutableTreeMap::empty,
-      (acc, e) -> acc.merge(keySelector.apply(e), valueSelector.apply(e), merger));
+    return toImmutableTreeMap(input, naturalOrder(), keySelector, valueSelector, merger);
   }
 
   /**
@@ -325,7 +398,7 @@ public interface Finisher<A, B, T, U> {
    *  where the keys and values are produced by the given keySelector and valueSelector functions, respectively.
    *  If there are duplicate keys, an IllegalArgumentException is thrown.
    */
-  static <E, R, K, V> Finisher<ImmutableTreeMap<K, V>, ImmutableTreeMap<K, V>, E, R> toImmutableTreeMap(
+  static <E, R, K, V> Finisher<ImmutableTreeMap.Builder<K, V>, ImmutableTreeMap<K, V>, E, R> toImmutableTreeMap(
       Iterable<? extends E> input, Comparator<? super K> comparator,
       Function1<? super R, ? extends K> keySelector, Function1<? super R, ? extends V> valueSelector) {
     return toImmutableTreeMap(input, comparator, keySelector, valueSelector, Finisher::throwingMerge);
@@ -350,11 +423,11 @@ public interface Finisher<A, B, T, U> {
    *  where the keys and values are produced by the given keySelector and valueSelector functions, respectively.
    *  If there are duplicate keys, the values are merged using the given merger function.
    */
-  static <E, R, K, V> Finisher<ImmutableTreeMap<K, V>, ImmutableTreeMap<K, V>, E, R> toImmutableTreeMap(
+  static <E, R, K, V> Finisher<ImmutableTreeMap.Builder<K, V>, ImmutableTreeMap<K, V>, E, R> toImmutableTreeMap(
       Iterable<? extends E> input, Comparator<? super K> comparator,
       Function1<? super R, ? extends K> keySelector, Function1<? super R, ? extends V> valueSelector, Operator2<V> merger) {
-    return of(input, () -> ImmutableTreeMap.empty(comparator),
-      (acc, e) -> acc.merge(keySelector.apply(e), valueSelector.apply(e), merger));
+    return of(input, () -> ImmutableTreeMap.builder(comparator),
+      (acc, e) -> acc.merge(keySelector.apply(e), valueSelector.apply(e), merger), ImmutableTreeMap.Builder::build);
   }
 
   /**
@@ -365,8 +438,8 @@ public interface Finisher<A, B, T, U> {
    * @param <R> the type of output elements
    * @return a Finisher that runs the given Transducer on the input collection and produces an ImmutableSet of type R
    */
-  static <E, R> Finisher<ImmutableSet<R>, ImmutableSet<R>, E, R> toImmutableSet(Iterable<? extends E> input) {
-    return of(input, ImmutableSet::empty, ImmutableSet::append);
+  static <E, R> Finisher<ImmutableSet.Builder<R>, ImmutableSet<R>, E, R> toImmutableSet(Iterable<? extends E> input) {
+    return of(input, ImmutableSet::builder, ImmutableSet.Builder::append, ImmutableSet.Builder::build);
   }
 
   /**
@@ -377,8 +450,8 @@ public interface Finisher<A, B, T, U> {
    * @param <R> the type of output elements
    * @return a Finisher that runs the given Transducer on the input collection and produces an ImmutableTree of type R
    */
-  static <E, R> Finisher<ImmutableTree<R>, ImmutableTree<R>, E, R> toImmutableTree(Iterable<? extends E> input) {
-    return of(input, ImmutableTree::empty, ImmutableTree::append);
+  static <E, R> Finisher<ImmutableTree.Builder<R>, ImmutableTree<R>, E, R> toImmutableTree(Iterable<? extends E> input) {
+    return of(input, ImmutableTree::builder, ImmutableTree.Builder::append, ImmutableTree.Builder::build);
   }
 
   /**
@@ -390,9 +463,45 @@ public interface Finisher<A, B, T, U> {
    * @param <R> the type of output elements
    * @return a Finisher that runs the given Transducer on the input collection and produces an ImmutableTree of type R
    */
-  static <E, R> Finisher<ImmutableTree<R>, ImmutableTree<R>, E, R> toImmutableTree(
+  static <E, R> Finisher<ImmutableTree.Builder<R>, ImmutableTree<R>, E, R> toImmutableTree(
       Iterable<? extends E> input, Comparator<? super R> comparator) {
-    return of(input, () -> ImmutableTree.empty(comparator), ImmutableTree::append);
+    return of(input, () -> ImmutableTree.builder(comparator), ImmutableTree.Builder::append, ImmutableTree.Builder::build);
+  }
+
+  /**
+   * Creates a parallel Finisher that runs the given Transducer on the input collection and produces an ImmutableArray of type R.
+   *
+   * @param input the input collection to process
+   * @param <E> the type of input elements to process
+   * @param <R> the type of output elements
+   * @return a parallel Finisher that runs the given Transducer on the input collection and produces an ImmutableArray of type R
+   */
+  static <E, R> Parallel<ImmutableArray.Builder<R>, ImmutableArray<R>, E, R> parallelToImmutableArray(Iterable<? extends E> input) {
+    return parallel(input, ImmutableArray::builder, ImmutableArray.Builder::append, ImmutableArray.Builder::appendAll, ImmutableArray.Builder::build);
+  }
+
+  /**
+   * Creates a parallel Finisher that runs the given Transducer on the input collection and produces an ImmutableList of type R.
+   *
+   * @param input the input collection to process
+   * @param <E> the type of input elements to process
+   * @param <R> the type of output elements
+   * @return a parallel Finisher that runs the given Transducer on the input collection and produces an ImmutableList of type R
+   */
+  static <E, R> Parallel<ImmutableList.Builder<R>, ImmutableList<R>, E, R> parallelToImmutableList(Iterable<? extends E> input) {
+    return parallel(input, ImmutableList::builder, ImmutableList.Builder::append, ImmutableList.Builder::appendAll, ImmutableList.Builder::build);
+  }
+
+  /**
+   * Creates a parallel Finisher that runs the given Transducer on the input collection and produces an ImmutableSet of type R.
+   *
+   * @param input the input collection to process
+   * @param <E> the type of input elements to process
+   * @param <R> the type of output elements
+   * @return a parallel Finisher that runs the given Transducer on the input collection and produces an ImmutableSet of type R
+   */
+  static <E, R> Parallel<ImmutableSet.Builder<R>, ImmutableSet<R>, E, R> parallelToImmutableSet(Iterable<? extends E> input) {
+    return parallel(input, ImmutableSet::builder, ImmutableSet.Builder::append, ImmutableSet.Builder::appendAll, ImmutableSet.Builder::build);
   }
 
   private static <A, T> A run(A init, Iterable<? extends T> input, Reducer<A, T> reducer) {
@@ -401,16 +510,22 @@ public interface Finisher<A, B, T, U> {
 
   private static <A, B, T> B run(A init, Iterable<? extends T> input, Reducer<A, T> reducer, Function1<A, B> complete) {
     var acc = init;
-    for (var value : input) {
-      var step = reducer.apply(acc, value);
-      acc = step.value();
-      if (step instanceof Step.Done) {
-        break;
+    if (!reducer.isDone(acc)) {
+      for (var value : input) {
+        acc = reducer.apply(acc, value);
+        if (reducer.isDone(acc)) {
+          break;
+        }
       }
     }
     return complete.apply(acc);
   }
 
+  @SuppressWarnings("unchecked")
+  private static <T> Comparator<T> naturalOrder() {
+    return (Comparator<T>) Comparator.naturalOrder();
+  }
+
   @SuppressWarnings("unused")
   static <V> V throwingMerge(V a, V b) {
     throw new IllegalArgumentException("conflict detected");
@@ -0,0 +1,473 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.data;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <p>Compressed hash-array mapped prefix trie (CHAMP) shared by {@code HashTrieMap} and {@code HashTrieSet}.</p>
+ *
+ * <p>Every node has two bitmaps, one for the entries stored inline and other for the sub nodes, and a single
+ * array with the entries at the beginning and the sub nodes at the end. An entry takes {@code tuple} slots
+ * of the array, 2 for maps (key and value) and 1 for sets (only the key). The trie is kept in canonical form,
+ * a sub node with a single entry is always inlined in its parent, so two tries with the same entries have the
+ * same shape and can be compared node by node.</p>
+ */
+final class HashTrie {
+
+  static final Object NOT_FOUND = new Object();
+
+  private static final int BITS = 5;
+  private static final int MASK = (1 << BITS) - 1;
+  private static final int HASH_LENGTH = 32;
+  private static final int MAX_DEPTH = (HASH_LENGTH + BITS - 1) / BITS + 1;
+
+  static final Node EMPTY = new BitmapNode(0, 0, new Object[0]);
+
+  private HashTrie() {}
+
+  static int hash(@Nullable Object key) {
+    int hash = Objects.hashCode(key);
+    return hash ^ (hash >>> 16);
+  }
+
+  private static int bitpos(int hash, int shift) {
+    return 1 << ((hash >>> shift) & MASK);
+  }
+
+  static final class Change {
+
+    private boolean modified;
+    private boolean replaced;
+    @Nullable
+    private Object oldValue;
+
+    boolean isModified() {
+      return modified;
+    }
+
+    boolean isReplaced() {
+      return replaced;
+    }
+
+    @Nullable
+    Object oldValue() {
+      return oldValue;
+    }
+
+    void reset() {
+      modified = false;
+      replaced = false;
+      oldValue = null;
+    }
+
+    private void added() {
+      modified = true;
+    }
+
+    private void replaced(@Nullable Object value) {
+      modified = true;
+      replaced = true;
+      oldValue = value;
+    }
+
+    private void removed(@Nullable Object value) {
+      modified = true;
+      oldValue = value;
+    }
+  }
+
+  abstract static sealed class Node permits BitmapNode, CollisionNode {
+
+    final Object[] content;
+
+    Node(Object[] content) {
+      this.content = content;
+    }
+
+    abstract int payloadArity();
+
+    abstract int nodeArity();
+
+    abstract Node nodeAt(int index);
+
+    @Nullable
+    abstract Object find(@Nullable Object key, int hash, int shift, int tuple);
+
+    abstract Node update(@Nullable Object key, @Nullable Object value, int hash, int shift, int tuple, boolean replace, Change change);
+
+    abstract Node remove(@Nullable Object key, int hash, int shift, int tuple, Change change);
+
+    abstract boolean equivalent(Node other, int tuple);
+
+    final boolean isSingleEntry() {
+      return nodeArity() == 0 && payloadArity() == 1;
+    }
+  }
+
+  static final class BitmapNode extends Node {
+
+    private final int dataMap;
+    private final int nodeMap;
+
+    BitmapNode(int dataMap, int nodeMap, Object[] content) {
+      super(content);
+      this.dataMap = dataMap;
+      this.nodeMap = nodeMap;
+    }
+
+    @Override
+    int payloadArity() {
+      return Integer.bitCount(dataMap);
+    }
+
+    @Override
+    int nodeArity() {
+      return Integer.bitCount(nodeMap);
+    }
+
+    @Override
+    Node nodeAt(int index) {
+      return (Node) content[content.length - 1 - index];
+    }
+
+    @Override
+    @Nullable
+    Object find(@Nullable Object key, int hash, int shift, int tuple) {
+      int bit = bitpos(hash, shift);
+      if ((dataMap & bit) != 0) {
+        int index = tuple * dataIndex(bit);
+        if (Objects.equals(content[index], key)) {
+          return content[index + tuple - 1];
+        }
+        return NOT_FOUND;
+      }
+      if ((nodeMap & bit) != 0) {
+        return subNode(bit).find(key, hash, shift + BITS, tuple);
+      }
+      return NOT_FOUND;
+    }
+
+    @Override
+    Node update(@Nullable Object key, @Nullable Object value, int hash, int shift, int tuple, boolean replace, Change change) {
+      int bit = bitpos(hash, shift);
+      if ((dataMap & bit) != 0) {
+        int index = tuple * dataIndex(bit);
+        Object currentKey = content[index];
+        if (Objects.equals(currentKey, key)) {
+          if (tuple == 1 || !replace || content[index + 1] == value) {
+            return this;
+          }
+          change.replaced(content[index + 1]);
+          Object[] copy = content.clone();
+          copy[index + 1] = value;
+          return new BitmapNode(dataMap, nodeMap, copy);
+        }
+        Object currentValue = content[index + tuple - 1];
+        Node subNode = mergeTwo(currentKey, currentValue, hash(currentKey), key, value, hash, shift + BITS, tuple);
+        change.added();
+        return migrateFromInlineToNode(bit, subNode, tuple);
+      }
+      if ((nodeMap & bit) != 0) {
+        Node subNode = subNode(bit);
+        Node newSubNode = subNode.update(key, value, hash, shift + BITS, tuple, replace, change);
+        if (newSubNode == subNode) {
+          return this;
+        }
+        return copyAndSetNode(bit, newSubNode);
+      }
+      change.added();
+      return insertValue(bit, key, value, tuple);
+    }
+
+    @Override
+    Node remove(@Nullable Object key, int hash, int shift, int tuple, Change change) {
+      int bit = bitpos(hash, shift);
+      if ((dataMap & bit) != 0) {
+        int index = tuple * dataIndex(bit);
+        if (!Objects.equals(content[index], key)) {
+          return this;
+        }
+        change.removed(content[index + tuple - 1]);
+        return removeValue(bit, tuple);
+      }
+      if ((nodeMap & bit) != 0) {
+        Node subNode = subNode(bit);
+        Node newSubNode = subNode.remove(key, hash, shift + BITS, tuple, change);
+        if (newSubNode == subNode) {
+          return this;
+        }
+        if (newSubNode.isSingleEntry()) {
+          return migrateFromNodeToInline(bit, newSubNode, tuple);
+        }
+        return copyAndSetNode(bit, newSubNode);
+      }
+      return this;
+    }
+
+    @Override
+    boolean equivalent(Node other, int tuple) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof BitmapNode node) || node.dataMap != dataMap || node.nodeMap != nodeMap) {
+        return false;
+      }
+      int payload = tuple * payloadArity();
+      for (int i = 0; i < payload; i++) {
+        if (!Objects.equals(content[i], node.content[i])) {
+          return false;
+        }
+      }
+      for (int i = payload; i < content.length; i++) {
+        if (!((Node) content[i]).equivalent((Node) node.content[i], tuple)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private int dataIndex(int bit) {
+      return Integer.bitCount(dataMap & (bit - 1));
+    }
+
+    private int nodeIndex(int bit) {
+      return content.length - 1 - Integer.bitCount(nodeMap & (bit - 1));
+    }
+
+    private Node subNode(int bit) {
+      return (Node) content[nodeIndex(bit)];
+    }
+
+    private Node copyAndSetNode(int bit, Node node) {
+      Object[] copy = content.clone();
+      copy[nodeIndex(bit)] = node;
+      return new BitmapNode(dataMap, nodeMap, copy);
+    }
+
+    private Node insertValue(int bit, @Nullable Object key, @Nullable Object value, int tuple) {
+      int index = tuple * dataIndex(bit);
+      Object[] copy = new Object[content.length + tuple];
+      System.arraycopy(content, 0, copy, 0, index);
+      copy[index] = key;
+      if (tuple == 2) {
+        copy[index + 1] = value;
+      }
+      System.arraycopy(content, index, copy, index + tuple, content.length - index);
+      return new BitmapNode(dataMap | bit, nodeMap, copy);
+    }
+
+    private Node removeValue(int bit, int tuple) {
+      int index = tuple * dataIndex(bit);
+      Object[] copy = new Object[content.length - tuple];
+      System.arraycopy(content, 0, copy, 0, index);
+      System.arraycopy(content, index + tuple, copy, index, content.length - index - tuple);
+      return new BitmapNode(dataMap ^ bit, nodeMap, copy);
+    }
+
+    private Node migrateFromInlineToNode(int bit, Node node, int tuple) {
+      int dataIndex = tuple * dataIndex(bit);
+      int nodeIndex = content.length - tuple - Integer.bitCount(nodeMap & (bit - 1));
+      Object[] copy = new Object[content.length - tuple + 1];
+      System.arraycopy(content, 0, copy, 0, dataIndex);
+      System.arraycopy(content, dataIndex + tuple, copy, dataIndex, nodeIndex - dataIndex);
+      copy[nodeIndex] = node;
+      System.arraycopy(content, nodeIndex + tuple, copy, nodeIndex + 1, content.length - nodeIndex - tuple);
+      return new BitmapNode(dataMap ^ bit, nodeMap | bit, copy);
+    }
+
+    private Node migrateFromNodeToInline(int bit, Node node, int tuple) {
+      int dataIndex = tuple * dataIndex(bit);
+      int nodeIndex = nodeIndex(bit);
+      Object[] copy = new Object[content.length - 1 + tuple];
+      System.arraycopy(content, 0, copy, 0, dataIndex);
+      System.arraycopy(node.content, 0, copy, dataIndex, tuple);
+      System.arraycopy(content, dataIndex, copy, dataIndex + tuple, nodeIndex - dataIndex);
+      System.arraycopy(content, nodeIndex + 1, copy, nodeIndex + tuple, content.length - nodeIndex - 1);
+      return new BitmapNode(dataMap | bit, nodeMap ^ bit, copy);
+    }
+  }
+
+  static final class CollisionNode extends Node {
+
+    private final int hash;
+    private final int tuple;
+
+    CollisionNode(int hash, int tuple, Object[] content) {
+      super(content);
+      this.hash = hash;
+      this.tuple = tuple;
+    }
+
+    @Override
+    int payloadArity() {
+      return content.length / tuple;
+    }
+
+    @Override
+    int nodeArity() {
+      return 0;
+    }
+
+    @Override
+    Node nodeAt(int index) {
+      throw new IndexOutOfBoundsException(index);
+    }
+
+    @Override
+    @Nullable
+    Object find(@Nullable Object key, int hash, int shift, int tuple) {
+      int index = indexOf(key, tuple);
+      return index < 0 ? NOT_FOUND : content[index + tuple - 1];
+    }
+
+    @Override
+    Node update(@Nullable Object key, @Nullable Object value, int hash, int shift, int tuple, boolean replace, Change change) {
+      int index = indexOf(key, tuple);
+      if (index >= 0) {
+        if (tuple == 1 || !replace || content[index + 1] == value) {
+          return this;
+        }
+        change.replaced(content[index + 1]);
+        Object[] copy = content.clone();
+        copy[index + 1] = value;
+        return new CollisionNode(hash, tuple, copy);
+      }
+      change.added();
+      Object[] copy = new Object[content.length + tuple];
+      System.arraycopy(content, 0, copy, 0, content.length);
+      copy[content.length] = key;
+      if (tuple == 2) {
+        copy[content.length + 1] = value;
+      }
+      return new CollisionNode(hash, tuple, copy);
+    }
+
+    @Override
+    Node remove(@Nullable Object key, int hash, int shift, int tuple, Change change) {
+      int index = indexOf(key, tuple);
+      if (index < 0) {
+        return this;
+      }
+      change.removed(content[index + tuple - 1]);
+      Object[] copy = new Object[content.length - tuple];
+      System.arraycopy(content, 0, copy, 0, index);
+      System.arraycopy(content, index + tuple, copy, index, content.length - index - tuple);
+      return new CollisionNode(hash, tuple, copy);
+    }
+
+    @Override
+    boolean equivalent(Node other, int tuple) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof CollisionNode node) || node.hash != hash || node.content.length != content.length) {
+        return false;
+      }
+      for (int i = 0; i < content.length; i += tuple) {
+        int index = node.indexOf(content[i], tuple);
+        if (index < 0 || !Objects.equals(content[i + tuple - 1], node.content[index + tuple - 1])) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private int indexOf(@Nullable Object key, int tuple) {
+      for (int i = 0; i < content.length; i += tuple) {
+        if (Objects.equals(content[i], key)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+  }
+
+  private static Node mergeTwo(@Nullable Object key0, @Nullable Object value0, int hash0,
+      @Nullable Object key1, @Nullable Object value1, int hash1, int shift, int tuple) {
+    if (shift >= HASH_LENGTH) {
+      Object[] content = tuple == 2 ? new Object[] { key0, value0, key1, value1 } : new Object[] { key0, key1 };
+      return new CollisionNode(hash0, tuple, content);
+    }
+    int mask0 = (hash0 >>> shift) & MASK;
+    int mask1 = (hash1 >>> shift) & MASK;
+    if (mask0 != mask1) {
+      int dataMap = (1 << mask0) | (1 << mask1);
+      Object[] content;
+      if (tuple == 2) {
+        content = mask0 < mask1 ? new Object[] { key0, value0, key1, value1 } : new Object[] { key1, value1, key0, value0 };
+      } else {
+        content = mask0 < mask1 ? new Object[] { key0, key1 } : new Object[] { key1, key0 };
+      }
+      return new BitmapNode(dataMap, 0, content);
+    }
+    Node node = mergeTwo(key0, value0, hash0, key1, value1, hash1, shift + BITS, tuple);
+    return new BitmapNode(0, 1 << mask0, new Object[] { node });
+  }
+
+  abstract static class TrieIterator<T> implements Iterator<T> {
+
+    private final int tuple;
+    private final Node[] nodes = new Node[MAX_DEPTH];
+    private final int[] cursors = new int[MAX_DEPTH];
+    private int depth = -1;
+    private Object[] payload;
+    private int index;
+    private int end;
+
+    TrieIterator(Node root, int tuple) {
+      this.tuple = tuple;
+      this.payload = root.content;
+      push(root);
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (index >= end) {
+        if (!advance()) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      T next = value(payload, index);
+      index += tuple;
+      return next;
+    }
+
+    abstract T value(Object[] content, int index);
+
+    private boolean advance() {
+      while (depth >= 0) {
+        Node node = nodes[depth];
+        if (cursors[depth] < node.nodeArity()) {
+          push(node.nodeAt(cursors[depth]++));
+          return true;
+        }
+        depth--;
+      }
+      return false;
+    }
+
+    private void push(Node node) {
+      depth++;
+      nodes[depth] = node;
+      cursors[depth] = 0;
+      payload = node.content;
+      index = 0;
+      end = tuple * node.payloadArity();
+    }
+  }
+}
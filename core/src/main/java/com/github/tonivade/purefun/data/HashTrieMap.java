@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.data;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+
+import com.github.tonivade.purefun.core.Tuple;
+import com.github.tonivade.purefun.core.Tuple2;
+import com.github.tonivade.purefun.data.HashTrie.Change;
+import com.github.tonivade.purefun.data.HashTrie.Node;
+import com.github.tonivade.purefun.data.HashTrie.TrieIterator;
+
+/**
+ * Persistent hash map implemented as a CHAMP trie.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+final class HashTrieMap<K, V> implements Iterable<Tuple2<K, V>>, Serializable {
+
+  @Serial
+  private static final long serialVersionUID = -3717318185385209734L;
+
+  private static final int TUPLE = 2;
+
+  private static final HashTrieMap<?, ?> EMPTY = new HashTrieMap<>(HashTrie.EMPTY, 0);
+
+  private final transient Node root;
+  private final transient int size;
+
+  private HashTrieMap(Node root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <K, V> HashTrieMap<K, V> empty() {
+    return (HashTrieMap<K, V>) EMPTY;
+  }
+
+  static <K, V> HashTrieMap<K, V> from(Map<? extends K, ? extends V> map) {
+    HashTrieMap<K, V> result = empty();
+    for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+      result = result.put(entry.getKey(), entry.getValue());
+    }
+    return result;
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  boolean containsKey(@Nullable Object key) {
+    return root.find(key, HashTrie.hash(key), 0, TUPLE) != HashTrie.NOT_FOUND;
+  }
+
+  @Nullable
+  @SuppressWarnings("unchecked")
+  V get(@Nullable Object key) {
+    Object value = root.find(key, HashTrie.hash(key), 0, TUPLE);
+    return value == HashTrie.NOT_FOUND ? null : (V) value;
+  }
+
+  HashTrieMap<K, V> put(K key, V value) {
+    return update(key, value, true);
+  }
+
+  HashTrieMap<K, V> putIfAbsent(K key, V value) {
+    return update(key, value, false);
+  }
+
+  HashTrieMap<K, V> putAll(HashTrieMap<? extends K, ? extends V> other) {
+    if (other.size > size) {
+      // keep the structure of the bigger map, and the values of other
+      @SuppressWarnings("unchecked")
+      HashTrieMap<K, V> result = (HashTrieMap<K, V>) other;
+      for (Tuple2<K, V> entry : this) {
+        result = result.putIfAbsent(entry.get1(), entry.get2());
+      }
+      return result;
+    }
+    HashTrieMap<K, V> result = this;
+    for (Tuple2<? extends K, ? extends V> entry : other) {
+      result = result.put(entry.get1(), entry.get2());
+    }
+    return result;
+  }
+
+  HashTrieMap<K, V> remove(@Nullable Object key) {
+    Change change = new Change();
+    Node newRoot = root.remove(key, HashTrie.hash(key), 0, TUPLE, change);
+    if (!change.isModified()) {
+      return this;
+    }
+    return size == 1 ? empty() : new HashTrieMap<>(newRoot, size - 1);
+  }
+
+  HashTrieMap<K, V> removeAll(Iterable<?> keys) {
+    HashTrieMap<K, V> result = this;
+    for (Object key : keys) {
+      result = result.remove(key);
+    }
+    return result;
+  }
+
+  Iterable<K> keys() {
+    return () -> new TrieIterator<>(root, TUPLE) {
+      @SuppressWarnings("unchecked")
+      @Override
+      K value(Object[] content, int index) {
+        return (K) content[index];
+      }
+    };
+  }
+
+  Iterable<V> values() {
+    return () -> new TrieIterator<>(root, TUPLE) {
+      @SuppressWarnings("unchecked")
+      @Override
+      V value(Object[] content, int index) {
+        return (V) content[index + 1];
+      }
+    };
+  }
+
+  @Override
+  public Iterator<Tuple2<K, V>> iterator() {
+    return new TrieIterator<>(root, TUPLE) {
+      @SuppressWarnings("unchecked")
+      @Override
+      Tuple2<K, V> value(Object[] content, int index) {
+        return Tuple.of((K) content[index], (V) content[index + 1]);
+      }
+    };
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 0;
+    for (Tuple2<K, V> entry : this) {
+      hashCode += Objects.hashCode(entry.get1()) ^ Objects.hashCode(entry.get2());
+    }
+    return hashCode;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    return obj instanceof HashTrieMap<?, ?> other && other.size == size && root.equivalent(other.root, TUPLE);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("{");
+    for (Tuple2<K, V> entry : this) {
+      if (sb.length() > 1) {
+        sb.append(", ");
+      }
+      sb.append(entry.get1()).append('=').append(entry.get2());
+    }
+    return sb.append('}').toString();
+  }
+
+  private HashTrieMap<K, V> update(K key, V value, boolean replace) {
+    Change change = new Change();
+    Node newRoot = root.update(key, value, HashTrie.hash(key), 0, TUPLE, replace, change);
+    if (!change.isModified()) {
+      return this;
+    }
+    return new HashTrieMap<>(newRoot, change.isReplaced() ? size : size + 1);
+  }
+
+  @Serial
+  private Object writeReplace() {
+    Object[] entries = new Object[size * TUPLE];
+    int i = 0;
+    for (Tuple2<K, V> entry : this) {
+      entries[i++] = entry.get1();
+      entries[i++] = entry.get2();
+    }
+    return new SerializedForm(entries);
+  }
+
+  @Serial
+  private void readObject(ObjectInputStream stream) throws InvalidObjectException {
+    throw new InvalidObjectException("serialization proxy required");
+  }
+
+  // the entries are serialized instead of the nodes, because the hash codes can change between jvms
+  private record SerializedForm(Object[] entries) implements Serializable {
+
+    @Serial
+    @SuppressWarnings("unchecked")
+    private Object readResolve() {
+      HashTrieMap<Object, Object> result = empty();
+      for (int i = 0; i < entries.length; i += TUPLE) {
+        result = result.put(entries[i], entries[i + 1]);
+      }
+      return result;
+    }
+  }
+}
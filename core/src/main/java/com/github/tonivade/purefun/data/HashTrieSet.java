@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.data;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+
+import com.github.tonivade.purefun.data.HashTrie.Change;
+import com.github.tonivade.purefun.data.HashTrie.Node;
+import com.github.tonivade.purefun.data.HashTrie.TrieIterator;
+
+/**
+ * Persistent hash set implemented as a CHAMP trie.
+ *
+ * @param <E> the type of the elements
+ */
+final class HashTrieSet<E> implements Iterable<E>, Serializable {
+
+  @Serial
+  private static final long serialVersionUID = 2861092335394727457L;
+
+  private static final int TUPLE = 1;
+
+  private static final HashTrieSet<?> EMPTY = new HashTrieSet<>(HashTrie.EMPTY, 0);
+
+  private final transient Node root;
+  private final transient int size;
+
+  private HashTrieSet(Node root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <E> HashTrieSet<E> empty() {
+    return (HashTrieSet<E>) EMPTY;
+  }
+
+  static <E> HashTrieSet<E> from(Iterable<? extends E> elements) {
+    return HashTrieSet.<E>empty().plusAll(elements);
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  boolean contains(@Nullable Object element) {
+    return root.find(element, HashTrie.hash(element), 0, TUPLE) != HashTrie.NOT_FOUND;
+  }
+
+  HashTrieSet<E> plus(E element) {
+    Change change = new Change();
+    Node newRoot = root.update(element, null, HashTrie.hash(element), 0, TUPLE, false, change);
+    if (!change.isModified()) {
+      return this;
+    }
+    return new HashTrieSet<>(newRoot, size + 1);
+  }
+
+  HashTrieSet<E> plusAll(Iterable<? extends E> elements) {
+    HashTrieSet<E> result = this;
+    for (E element : elements) {
+      result = result.plus(element);
+    }
+    return result;
+  }
+
+  HashTrieSet<E> minus(@Nullable Object element) {
+    Change change = new Change();
+    Node newRoot = root.remove(element, HashTrie.hash(element), 0, TUPLE, change);
+    if (!change.isModified()) {
+      return this;
+    }
+    return size == 1 ? empty() : new HashTrieSet<>(newRoot, size - 1);
+  }
+
+  HashTrieSet<E> minusAll(Iterable<?> elements) {
+    HashTrieSet<E> result = this;
+    for (Object element : elements) {
+      result = result.minus(element);
+    }
+    return result;
+  }
+
+  @SuppressWarnings("unchecked")
+  HashTrieSet<E> union(HashTrieSet<? extends E> other) {
+    // add the elements of the smaller set to the bigger one, so most of the structure is shared
+    if (other.size > size) {
+      return ((HashTrieSet<E>) other).plusAll(this);
+    }
+    return plusAll(other);
+  }
+
+  HashTrieSet<E> intersection(HashTrieSet<?> other) {
+    if (other.size < size) {
+      HashTrieSet<E> result = empty();
+      for (Object element : other) {
+        if (contains(element)) {
+          @SuppressWarnings("unchecked")
+          E value = (E) element;
+          result = result.plus(value);
+        }
+      }
+      return result;
+    }
+    HashTrieSet<E> result = this;
+    for (E element : this) {
+      if (!other.contains(element)) {
+        result = result.minus(element);
+      }
+    }
+    return result;
+  }
+
+  HashTrieSet<E> difference(HashTrieSet<?> other) {
+    if (other.size < size) {
+      return minusAll(other);
+    }
+    HashTrieSet<E> result = this;
+    for (E element : this) {
+      if (other.contains(element)) {
+        result = result.minus(element);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new TrieIterator<>(root, TUPLE) {
+      @SuppressWarnings("unchecked")
+      @Override
+      E value(Object[] content, int index) {
+        return (E) content[index];
+      }
+    };
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 0;
+    for (E element : this) {
+      hashCode += Objects.hashCode(element);
+    }
+    return hashCode;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    return obj instanceof HashTrieSet<?> other && other.size == size && root.equivalent(other.root, TUPLE);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("[");
+    for (E element : this) {
+      if (sb.length() > 1) {
+        sb.append(", ");
+      }
+      sb.append(element);
+    }
+    return sb.append(']').toString();
+  }
+
+  @Serial
+  private Object writeReplace() {
+    Object[] elements = new Object[size];
+    int i = 0;
+    for (E element : this) {
+      elements[i++] = element;
+    }
+    return new SerializedForm(elements);
+  }
+
+  @Serial
+  private void readObject(ObjectInputStream stream) throws InvalidObjectException {
+    throw new InvalidObjectException("serialization proxy required");
+  }
+
+  // the elements are serialized instead of the nodes, because the hash codes can change between jvms
+  private record SerializedForm(Object[] elements) implements Serializable {
+
+    @Serial
+    private Object readResolve() {
+      return HashTrieSet.from(Arrays.asList(elements));
+    }
+  }
+}
@@ -5,21 +5,23 @@
 package com.github.tonivade.purefun.data;
 
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
-import static java.util.stream.Collectors.collectingAndThen;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
-import org.pcollections.PVector;
-import org.pcollections.TreePVector;
 
 import com.github.tonivade.purefun.Kind;
 import com.github.tonivade.purefun.core.Equal;
@@ -118,25 +120,54 @@ public interface ImmutableArray<E> extends Sequence<E> {
   }
 
   static <E> Collector<E, ?, ImmutableArray<E>> toImmutableArray() {
-    return collectingAndThen(Collectors.toCollection(ArrayList::new), PImmutableArray::new);
+    return Collector.<E, Builder<E>, ImmutableArray<E>>of(ImmutableArray::builder, Builder::append, Builder::appendAll, Builder::build);
+  }
+
+  static <E> Builder<E> builder() {
+    return new Builder<>();
+  }
+
+  final class Builder<E> {
+
+    private final List<E> buffer = new ArrayList<>();
+
+    private Builder() {
+    }
+
+    public Builder<E> append(E element) {
+      buffer.add(element);
+      return this;
+    }
+
+    public Builder<E> appendAll(Builder<? extends E> other) {
+      buffer.addAll(other.buffer);
+      return this;
+    }
+
+    public ImmutableArray<E> build() {
+      if (buffer.isEmpty()) {
+        return empty();
+      }
+      return new PImmutableArray<>(buffer);
+    }
   }
 
   final class PImmutableArray<E> implements ImmutableArray<E>, Serializable {
 
-    private static final ImmutableArray<?> EMPTY = new PImmutableArray<>(TreePVector.empty());
+    private static final ImmutableArray<?> EMPTY = new PImmutableArray<>(PersistentVector.empty());
 
     private static final Equal<PImmutableArray<?>> EQUAL = Equal.<PImmutableArray<?>>of().comparing(a -> a.backend);
 
     @Serial
     private static final long serialVersionUID = -6967820945086954257L;
 
-    private final PVector<E> backend;
+    private final PersistentVector<E> backend;
 
     private PImmutableArray(Collection<E> collection) {
-      this(TreePVector.from(collection));
+      this(PersistentVector.from(collection));
     }
 
-    private PImmutableArray(PVector<E> backend) {
+    private PImmutableArray(PersistentVector<E> backend) {
       this.backend = checkNonNull(backend);
     }
 
@@ -147,7 +178,7 @@ public interface ImmutableArray<E> extends Sequence<E> {
 
     @Override
     public boolean contains(Object element) {
-      return backend.contains(element);
+      return backend.indexOf(element) >= 0;
     }
 
     @Override
@@ -156,8 +187,14 @@ public interface ImmutableArray<E> extends Sequence<E> {
     }
 
     @Override
+    public void forEach(Consumer<? super E> action) {
+      backend.forEach(action);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
     public List<E> toList() {
-      return new ArrayList<>(backend);
+      return new ArrayList<>((List<E>) Arrays.asList(backend.toArray()));
     }
 
     @Override
@@ -167,22 +204,42 @@ public interface ImmutableArray<E> extends Sequence<E> {
 
     @Override
     public ImmutableArray<E> append(E element) {
-      return new PImmutableArray<>(backend.plus(element));
+      return new PImmutableArray<>(backend.append(element));
     }
 
     @Override
     public ImmutableArray<E> remove(E element) {
-      return new PImmutableArray<>(backend.minus(element));
+      int index = backend.indexOf(element);
+      if (index < 0) {
+        return this;
+      }
+      return new PImmutableArray<>(backend.remove(index));
     }
 
     @Override
     public ImmutableArray<E> appendAll(Sequence<? extends E> other) {
-      return new PImmutableArray<>(backend.plusAll(other.toCollection()));
+      return new PImmutableArray<>(backend.appendAll(other.toCollection()));
     }
 
     @Override
     public ImmutableArray<E> removeAll(Sequence<? extends E> other) {
-      return new PImmutableArray<>(backend.minusAll(other.toCollection()));
+      // removes the first occurrence of every element of other, like removing them one by one
+      Map<Object, Integer> pending = new HashMap<>();
+      for (E element : other) {
+        pending.merge(element, 1, Integer::sum);
+      }
+      List<E> result = new ArrayList<>(backend.size());
+      for (E element : backend) {
+        Integer count = pending.get(element);
+        if (count == null) {
+          result.add(element);
+        } else if (count > 1) {
+          pending.put(element, count - 1);
+        } else {
+          pending.remove(element);
+        }
+      }
+      return new PImmutableArray<>(result);
     }
 
     @Override
@@ -190,19 +247,26 @@ public interface ImmutableArray<E> extends Sequence<E> {
       if (n >= backend.size()) {
         return empty();
       }
-      return new PImmutableArray<>(backend.subList(n, backend.size()));
+      return new PImmutableArray<>(backend.slice(Math.max(n, 0), backend.size()));
     }
 
     @Override
     public ImmutableArray<E> reverse() {
-      return new PImmutableArray<>(backend.reversed());
+      Object[] array = backend.toArray();
+      for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+        Object tmp = array[i];
+        array[i] = array[j];
+        array[j] = tmp;
+      }
+      return new PImmutableArray<>(PersistentVector.fromArray(array));
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public ImmutableArray<E> sort(Comparator<? super E> comparator) {
-      var copy = new ArrayList<>(backend);
-      copy.sort(comparator);
-      return new PImmutableArray<>(copy);
+      Object[] array = backend.toArray();
+      Arrays.sort(array, (a, b) -> comparator.compare((E) a, (E) b));
+      return new PImmutableArray<>(PersistentVector.fromArray(array));
     }
 
     @Override
@@ -212,7 +276,7 @@ public interface ImmutableArray<E> extends Sequence<E> {
 
     @Override
     public ImmutableArray<E> remove(int position) {
-      return new PImmutableArray<>(backend.minus(position));
+      return new PImmutableArray<>(backend.remove(position));
     }
 
     @Override
@@ -222,12 +286,12 @@ public interface ImmutableArray<E> extends Sequence<E> {
 
     @Override
     public ImmutableArray<E> insert(int position, E element) {
-      return new PImmutableArray<>(backend.plus(position, element));
+      return new PImmutableArray<>(backend.insertAll(position, Collections.singletonList(element)));
     }
 
     @Override
     public ImmutableArray<E> insertAll(int position, Sequence<? extends E> elements) {
-      return new PImmutableArray<>(backend.plusAll(position, elements.toCollection()));
+      return new PImmutableArray<>(backend.insertAll(position, elements.toCollection()));
     }
 
     @Override
@@ -246,11 +310,25 @@ public interface ImmutableArray<E> extends Sequence<E> {
     }
 
     @Serial
-    private Object readResolve() {
-      if (backend.isEmpty()) {
-        return EMPTY;
+    private Object writeReplace() {
+      return new SerializedForm(backend.toArray());
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream stream) throws InvalidObjectException {
+      throw new InvalidObjectException("serialization proxy required");
+    }
+
+    // the elements are serialized instead of the nodes of the vector, so the form doesn't depend on the backend
+    private record SerializedForm(Object[] elements) implements Serializable {
+
+      @Serial
+      private Object readResolve() {
+        if (elements.length == 0) {
+          return EMPTY;
+        }
+        return new PImmutableArray<>(PersistentVector.fromArray(elements));
       }
-      return this;
     }
   }
 }
\ No newline at end of file
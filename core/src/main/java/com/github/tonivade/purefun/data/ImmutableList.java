@@ -5,7 +5,6 @@
 package com.github.tonivade.purefun.data;
 
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
-import static java.util.stream.Collectors.collectingAndThen;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -17,7 +16,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 import org.pcollections.ConsPStack;
 import org.pcollections.PStack;
 
@@ -121,7 +119,33 @@ public interface ImmutableList<E> extends Sequence<E> {
   }
 
   static <E> Collector<E, ?, ImmutableList<E>> toImmutableList() {
-    return collectingAndThen(Collectors.toCollection(ArrayList::new), PImmutableList::from);
+    return Collector.<E, Builder<E>, ImmutableList<E>>of(ImmutableList::builder, Builder::append, Builder::appendAll, Builder::build);
+  }
+
+  static <E> Builder<E> builder() {
+    return new Builder<>();
+  }
+
+  final class Builder<E> {
+
+    private final List<E> buffer = new ArrayList<>();
+
+    private Builder() {
+    }
+
+    public Builder<E> append(E element) {
+      buffer.add(element);
+      return this;
+    }
+
+    public Builder<E> appendAll(Builder<? extends E> other) {
+      buffer.addAll(other.buffer);
+      return this;
+    }
+
+    public ImmutableList<E> build() {
+      return PImmutableList.from(buffer);
+    }
   }
 
   final class PImmutableList<E> implements ImmutableList<E>, Serializable {
@@ -136,7 +160,13 @@ public interface ImmutableList<E> extends Sequence<E> {
     private final PStack<E> backend;
 
     static <E> ImmutableList<E> from(Collection<E> backend) {
-      return from(ConsPStack.from(backend));
+      // ConsPStack.from is recursive, so the stack is built from the last element instead
+      List<E> list = backend instanceof List<E> l ? l : new ArrayList<>(backend);
+      PStack<E> stack = ConsPStack.empty();
+      for (var iterator = list.listIterator(list.size()); iterator.hasPrevious();) {
+        stack = stack.plus(iterator.previous());
+      }
+      return from(stack);
     }
 
     static <E> ImmutableList<E> from(PStack<E> backend) {
@@ -12,7 +12,6 @@ import com.github.tonivade.purefun.core.Function1;
 import com.github.tonivade.purefun.core.Matcher1;
 import com.github.tonivade.purefun.core.Operator2;
 import com.github.tonivade.purefun.core.Producer;
-import com.github.tonivade.purefun.core.Tuple;
 import com.github.tonivade.purefun.core.Tuple2;
 import com.github.tonivade.purefun.type.Option;
 import java.io.Serial;
@@ -25,8 +24,6 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
-import org.pcollections.HashTreePMap;
-import org.pcollections.PMap;
 
 /**
  * Similar to a HashMap
@@ -157,8 +154,22 @@ public interface ImmutableMap<K, V> extends Iterable<Tuple2<K, V>> {
       return this;
     }
 
+    public Builder<K, V> merge(K key, V value, Operator2<V> merger) {
+      var oldValue = map.get(key);
+      var newValue = oldValue == null ? value : merger.apply(oldValue, value);
+      if (newValue == null) {
+        map.remove(key);
+      } else {
+        map.put(key, newValue);
+      }
+      return this;
+    }
+
     public ImmutableMap<K, V> build() {
-      return ImmutableMap.from(map);
+      if (map.isEmpty()) {
+        return empty();
+      }
+      return new PImmutableMap<>(map);
     }
   }
 
@@ -167,44 +178,49 @@ public interface ImmutableMap<K, V> extends Iterable<Tuple2<K, V>> {
     @Serial
     private static final long serialVersionUID = -7846127227891259826L;
 
-    private static final ImmutableMap<?, ?> EMPTY = new PImmutableMap<>(HashTreePMap.empty());
+    private static final ImmutableMap<?, ?> EMPTY = new PImmutableMap<>(HashTrieMap.empty());
 
     private static final Equal<PImmutableMap<?, ?>> EQUAL =
         Equal.<PImmutableMap<?, ?>>of().comparing(a -> a.backend);
 
-    private final PMap<K, V> backend;
+    private final HashTrieMap<K, V> backend;
 
     private PImmutableMap(Map<K, V> backend) {
-      this(HashTreePMap.from(backend));
+      this(HashTrieMap.from(backend));
     }
 
-    private PImmutableMap(PMap<K, V> backend) {
+    private PImmutableMap(HashTrieMap<K, V> backend) {
       this.backend = checkNonNull(backend);
     }
 
     @Override
     public Map<K, V> toMap() {
-      return new HashMap<>(backend);
+      Map<K, V> map = new HashMap<>();
+      backend.forEach(entry -> map.put(entry.get1(), entry.get2()));
+      return map;
     }
 
     @Override
     public ImmutableMap<K, V> put(K key, V value) {
-      return new PImmutableMap<>(backend.plus(key, value));
+      return new PImmutableMap<>(backend.put(key, value));
     }
 
     @Override
     public ImmutableMap<K, V> putAll(ImmutableMap<? extends K, ? extends V> other) {
-      return new PImmutableMap<>(backend.plusAll(other.toMap()));
+      if (other instanceof PImmutableMap<? extends K, ? extends V> map) {
+        return new PImmutableMap<>(backend.putAll(map.backend));
+      }
+      return new PImmutableMap<>(backend.putAll(HashTrieMap.from(other.toMap())));
     }
 
     @Override
     public ImmutableMap<K, V> remove(K key) {
-      return new PImmutableMap<>(backend.minus(key));
+      return new PImmutableMap<>(backend.remove(key));
     }
 
     @Override
     public ImmutableMap<K, V> removeAll(Sequence<? extends K> keys) {
-      return new PImmutableMap<>(backend.minusAll(keys.toCollection()));
+      return new PImmutableMap<>(backend.removeAll(keys));
     }
 
     @Override
@@ -219,12 +235,12 @@ public interface ImmutableMap<K, V> extends Iterable<Tuple2<K, V>> {
 
     @Override
     public ImmutableSet<K> keys() {
-      return ImmutableSet.from(backend.keySet());
+      return ImmutableSet.from(backend.keys());
     }
 
     @Override
     public ImmutableSet<Tuple2<K, V>> entries() {
-      return ImmutableSet.from(backend.entrySet()).map(Tuple::from);
+      return ImmutableSet.from(backend);
     }
 
     @Override
@@ -232,9 +248,9 @@ public interface ImmutableMap<K, V> extends Iterable<Tuple2<K, V>> {
       var oldValue = backend.get(key);
       var newValue = oldValue == null ? value : merger.apply(oldValue, value);
       if (newValue == null) {
-        return new PImmutableMap<>(backend.minus(key));
+        return new PImmutableMap<>(backend.remove(key));
       }
-      return new PImmutableMap<>(backend.plus(key, newValue));
+      return new PImmutableMap<>(backend.put(key, newValue));
     }
 
     @Override
@@ -5,7 +5,6 @@
 package com.github.tonivade.purefun.data;
 
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
-import static java.util.stream.Collectors.collectingAndThen;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -17,9 +16,6 @@ import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
-import org.pcollections.HashTreePSet;
-import org.pcollections.PSet;
 
 import com.github.tonivade.purefun.Kind;
 import com.github.tonivade.purefun.core.Equal;
@@ -100,7 +96,36 @@ public interface ImmutableSet<E> extends Sequence<E> {
   }
 
   static <E> Collector<E, ?, ImmutableSet<E>> toImmutableSet() {
-    return collectingAndThen(Collectors.toCollection(ArrayList::new), PImmutableSet::new);
+    return Collector.<E, Builder<E>, ImmutableSet<E>>of(ImmutableSet::builder, Builder::append, Builder::appendAll, Builder::build);
+  }
+
+  static <E> Builder<E> builder() {
+    return new Builder<>();
+  }
+
+  final class Builder<E> {
+
+    private final Set<E> buffer = new HashSet<>();
+
+    private Builder() {
+    }
+
+    public Builder<E> append(E element) {
+      buffer.add(element);
+      return this;
+    }
+
+    public Builder<E> appendAll(Builder<? extends E> other) {
+      buffer.addAll(other.buffer);
+      return this;
+    }
+
+    public ImmutableSet<E> build() {
+      if (buffer.isEmpty()) {
+        return empty();
+      }
+      return new PImmutableSet<>(buffer);
+    }
   }
 
   final class PImmutableSet<E> implements ImmutableSet<E>, Serializable {
@@ -108,17 +133,17 @@ public interface ImmutableSet<E> extends Sequence<E> {
     @Serial
     private static final long serialVersionUID = -8988192488466183450L;
 
-    private static final ImmutableSet<?> EMPTY = new PImmutableSet<>(HashTreePSet.empty());
+    private static final ImmutableSet<?> EMPTY = new PImmutableSet<>(HashTrieSet.empty());
 
     private static final Equal<PImmutableSet<?>> EQUAL = Equal.<PImmutableSet<?>>of().comparing(x -> x.backend);
 
-    private final PSet<E> backend;
+    private final HashTrieSet<E> backend;
 
     private PImmutableSet(Collection<E> backend) {
-      this(HashTreePSet.from(backend));
+      this(HashTrieSet.from(backend));
     }
 
-    private PImmutableSet(PSet<E> backend) {
+    private PImmutableSet(HashTrieSet<E> backend) {
       this.backend = checkNonNull(backend);
     }
 
@@ -144,7 +169,9 @@ public interface ImmutableSet<E> extends Sequence<E> {
 
     @Override
     public Set<E> toSet() {
-      return new HashSet<>(backend);
+      Set<E> set = new HashSet<>();
+      backend.forEach(set::add);
+      return set;
     }
 
     @Override
@@ -159,12 +186,12 @@ public interface ImmutableSet<E> extends Sequence<E> {
 
     @Override
     public ImmutableSet<E> appendAll(Sequence<? extends E> other) {
-      return new PImmutableSet<>(backend.plusAll(other.toCollection()));
+      return new PImmutableSet<>(backend.plusAll(other));
     }
 
     @Override
     public ImmutableSet<E> removeAll(Sequence<? extends E> other) {
-      return new PImmutableSet<>(backend.minusAll(other.toCollection()));
+      return new PImmutableSet<>(backend.minusAll(other));
     }
 
     @Override
@@ -174,20 +201,26 @@ public interface ImmutableSet<E> extends Sequence<E> {
 
     @Override
     public ImmutableSet<E> union(ImmutableSet<? extends E> other) {
-      return new PImmutableSet<>(backend.plusAll(other.toCollection()));
+      if (other instanceof PImmutableSet<? extends E> set) {
+        return new PImmutableSet<>(backend.union(set.backend));
+      }
+      return new PImmutableSet<>(backend.plusAll(other));
     }
 
     @Override
     public ImmutableSet<E> intersection(ImmutableSet<? extends E> other) {
-      // TODO: reimplement when retainingAll will be implemented
-      Set<E> copy = new HashSet<>(backend);
-      copy.retainAll(other.toCollection());
-      return new PImmutableSet<>(copy);
+      if (other instanceof PImmutableSet<? extends E> set) {
+        return new PImmutableSet<>(backend.intersection(set.backend));
+      }
+      return new PImmutableSet<>(backend.intersection(HashTrieSet.from(other)));
     }
 
     @Override
     public ImmutableSet<E> difference(ImmutableSet<? extends E> other) {
-      return new PImmutableSet<>(backend.minusAll(other.toCollection()));
+      if (other instanceof PImmutableSet<? extends E> set) {
+        return new PImmutableSet<>(backend.difference(set.backend));
+      }
+      return new PImmutableSet<>(backend.minusAll(other));
     }
 
     @Override
@@ -5,7 +5,6 @@
 package com.github.tonivade.purefun.data;
 
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
-import static java.util.stream.Collectors.collectingAndThen;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -19,7 +18,6 @@ import java.util.SequencedSet;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 import org.pcollections.PSortedSet;
 import org.pcollections.TreePSet;
 
@@ -147,7 +145,38 @@ public interface ImmutableTree<E> extends Sequence<E> {
   }
 
   static <E> Collector<E, ?, ImmutableTree<E>> toImmutableTree() {
-    return collectingAndThen(Collectors.toCollection(TreeSet::new), PImmutableTree::new);
+    return Collector.<E, Builder<E>, ImmutableTree<E>>of(ImmutableTree::builder, Builder::append, Builder::appendAll, Builder::build);
+  }
+
+  static <E> Builder<E> builder() {
+    return builder(naturalOrder());
+  }
+
+  static <E> Builder<E> builder(Comparator<? super E> comparator) {
+    return new Builder<>(comparator);
+  }
+
+  final class Builder<E> {
+
+    private final NavigableSet<E> buffer;
+
+    private Builder(Comparator<? super E> comparator) {
+      this.buffer = new TreeSet<>(comparator);
+    }
+
+    public Builder<E> append(E element) {
+      buffer.add(element);
+      return this;
+    }
+
+    public Builder<E> appendAll(Builder<? extends E> other) {
+      buffer.addAll(other.buffer);
+      return this;
+    }
+
+    public ImmutableTree<E> build() {
+      return new PImmutableTree<>(buffer);
+    }
   }
 
   @SuppressWarnings("unchecked")
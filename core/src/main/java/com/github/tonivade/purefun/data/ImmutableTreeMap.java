@@ -206,22 +206,39 @@ public interface ImmutableTreeMap<K, V> extends ImmutableMap<K, V> {
   }
 
   static <K extends Comparable<?>, V> Builder<K, V> builder() {
-    return new Builder<>();
+    return new Builder<>(naturalOrder());
   }
 
-  final class Builder<K extends Comparable<?>, V> {
+  static <K, V> Builder<K, V> builder(Comparator<? super K> comparator) {
+    return new Builder<>(comparator);
+  }
+
+  final class Builder<K, V> {
 
-    private final NavigableMap<K, V> map = new TreeMap<>();
+    private final NavigableMap<K, V> map;
 
-    private Builder() { }
+    private Builder(Comparator<? super K> comparator) {
+      this.map = new TreeMap<>(comparator);
+    }
 
     public Builder<K, V> put(K key, V value) {
       map.put(key, value);
       return this;
     }
 
+    public Builder<K, V> merge(K key, V value, Operator2<V> merger) {
+      var oldValue = map.get(key);
+      var newValue = oldValue == null ? value : merger.apply(oldValue, value);
+      if (newValue == null) {
+        map.remove(key);
+      } else {
+        map.put(key, newValue);
+      }
+      return this;
+    }
+
     public ImmutableTreeMap<K, V> build() {
-      return ImmutableTreeMap.from(map);
+      return new PImmutableTreeMap<>(map);
     }
   }
 
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.data;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+
+import java.util.IntSummaryStatistics;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+import com.github.tonivade.purefun.type.Option;
+
+/**
+ * A {@link IntPipeline} bound to an input collection.
+ *
+ * @param <T> the type of input elements
+ */
+public final class IntPipelineWithInput<T> {
+
+  private final IntPipeline<T> pipeline;
+  private final Iterable<T> input;
+
+  public IntPipelineWithInput(IntPipeline<T> pipeline, Iterable<T> input) {
+    this.pipeline = checkNonNull(pipeline, "pipeline must not be null");
+    this.input = checkNonNull(input, "input must not be null");
+  }
+
+  public <A> A reduce(A init, IntPipeline.IntReducer<A> reducer) {
+    return pipeline.reduce(input, init, reducer);
+  }
+
+  public void forEach(IntConsumer action) {
+    pipeline.forEach(input, action);
+  }
+
+  public long sum() {
+    return pipeline.sum(input);
+  }
+
+  public Option<Integer> min() {
+    return pipeline.min(input);
+  }
+
+  public Option<Integer> max() {
+    return pipeline.max(input);
+  }
+
+  public Option<Double> average() {
+    return pipeline.average(input);
+  }
+
+  public IntSummaryStatistics statistics() {
+    return pipeline.statistics(input);
+  }
+
+  public int[] toIntArray() {
+    return pipeline.toIntArray(input);
+  }
+
+  public ImmutableTreeMap<Integer, Long> histogram() {
+    return pipeline.histogram(input);
+  }
+
+  public IntPipelineWithInput<T> map(IntUnaryOperator f) {
+    return new IntPipelineWithInput<>(pipeline.map(f), input);
+  }
+
+  public IntPipelineWithInput<T> filter(IntPredicate p) {
+    return new IntPipelineWithInput<>(pipeline.filter(p), input);
+  }
+
+  public IntPipelineWithInput<T> scan(int init, IntBinaryOperator f) {
+    return new IntPipelineWithInput<>(pipeline.scan(init, f), input);
+  }
+
+  public PipelineWithInput<T, int[]> windowFixed(int size) {
+    return new PipelineWithInput<>(pipeline.windowFixed(size), input);
+  }
+
+  public <U> PipelineWithInput<T, U> mapToObj(IntFunction<? extends U> f) {
+    return new PipelineWithInput<>(pipeline.mapToObj(f), input);
+  }
+
+  public LongPipelineWithInput<T> asLongPipeline() {
+    return new LongPipelineWithInput<>(pipeline.asLongPipeline(), input);
+  }
+
+  public DoublePipelineWithInput<T> asDoublePipeline() {
+    return new DoublePipelineWithInput<>(pipeline.asDoublePipeline(), input);
+  }
+}
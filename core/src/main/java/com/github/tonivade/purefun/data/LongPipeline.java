@@ -0,0 +1,362 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.data;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import static com.github.tonivade.purefun.core.Precondition.checkPositive;
+
+import java.util.Arrays;
+import java.util.LongSummaryStatistics;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+import com.github.tonivade.purefun.core.Function1;
+import com.github.tonivade.purefun.type.Option;
+
+/**
+ * A pipeline of transformations over primitive long values, produced from a sequence of elements of type T.
+ * Values are passed between the steps and to the finishers without boxing.
+ * The pipeline is immutable and can be reused multiple times, even concurrently from different threads.
+ *
+ * @param <T> the type of input elements
+ */
+public final class LongPipeline<T> {
+
+  private final Function1<LongReducer<Object>, Reducer<Object, T>> transducer;
+  private final boolean stateless;
+
+  LongPipeline(Function1<LongReducer<Object>, Reducer<Object, T>> transducer, boolean stateless) {
+    this.transducer = checkNonNull(transducer, "transducer must not be null");
+    this.stateless = stateless;
+  }
+
+  /**
+   * A reducer of primitive long values.
+   *
+   * @param <A> the type of the accumulator
+   */
+  @FunctionalInterface
+  public interface LongReducer<A> {
+
+    /**
+     * Adds the given value to the accumulator, returning the new accumulator.
+     *
+     * @param accumulator the current accumulator
+     * @param value the value to add
+     * @return the new accumulator
+     */
+    A apply(A accumulator, long value);
+
+    /**
+     * Returns true if the reduction is complete and no more values should be applied.
+     *
+     * @param accumulator the current accumulator
+     * @return true if the reduction is complete
+     */
+    default boolean isDone(A accumulator) {
+      return false;
+    }
+  }
+
+  /**
+   * Creates a pipeline that unboxes the input long values.
+   *
+   * @return an identity pipeline of long values
+   */
+  public static LongPipeline<Long> identity() {
+    return Pipeline.<Long>identity().mapToLong(Long::longValue);
+  }
+
+  /**
+   * Returns a pipeline that applies the given function to each value.
+   *
+   * @param f the function to apply to each value
+   * @return a pipeline that applies the function to each value
+   */
+  public LongPipeline<T> map(LongUnaryOperator f) {
+    return chain(next -> new Forward<>(next) {
+      @Override
+      public Object apply(Object acc, long value) {
+        return next.apply(acc, f.applyAsLong(value));
+      }
+    }, true);
+  }
+
+  /**
+   * Returns a pipeline that filters the values using the given predicate.
+   *
+   * @param p the predicate to test on each value
+   * @return a pipeline that filters the values
+   */
+  public LongPipeline<T> filter(LongPredicate p) {
+    return chain(next -> new Forward<>(next) {
+      @Override
+      public Object apply(Object acc, long value) {
+        return p.test(value) ? next.apply(acc, value) : acc;
+      }
+    }, true);
+  }
+
+  /**
+   * Returns a pipeline that produces the cumulative results of applying the given function,
+   * starting with the initial value.
+   *
+   * @param init the initial value for the accumulation
+   * @param f the function to combine the accumulated value with each value
+   * @return a pipeline that produces cumulative results
+   */
+  public LongPipeline<T> scan(long init, LongBinaryOperator f) {
+    return chain(next -> new Forward<>(next) {
+
+      private long current = init;
+      private boolean started = false;
+
+      @Override
+      public Object apply(Object acc, long value) {
+        var result = acc;
+        if (!started) {
+          started = true;
+          result = next.apply(result, current);
+          if (next.isDone(result)) {
+            return result;
+          }
+        }
+        current = f.applyAsLong(current, value);
+        return next.apply(result, current);
+      }
+    }, false);
+  }
+
+  /**
+   * Returns a pipeline that produces fixed windows of the values. The last window is discarded if it is incomplete.
+   *
+   * @param size the size of the fixed window
+   * @return a pipeline that produces arrays with the values of every window
+   */
+  public Pipeline<T, long[]> windowFixed(int size) {
+    checkPositive(size, "size must be positive");
+    return Pipeline.of(next -> transducer.apply(new LongReducer<>() {
+
+      private long[] window = new long[size];
+      private int count = 0;
+
+      @Override
+      public Object apply(Object acc, long value) {
+        window[count++] = value;
+        if (count == size) {
+          var result = window;
+          window = new long[size];
+          count = 0;
+          return next.apply(acc, result);
+        }
+        return acc;
+      }
+
+      @Override
+      public boolean isDone(Object acc) {
+        return next.isDone(acc);
+      }
+    }), false);
+  }
+
+  /**
+   * Returns a pipeline that boxes the values using the given function.
+   *
+   * @param f the function to apply to each value
+   * @param <U> the type of output elements
+   * @return a pipeline of objects
+   */
+  public <U> Pipeline<T, U> mapToObj(LongFunction<? extends U> f) {
+    return Pipeline.of(next -> transducer.apply(new LongReducer<>() {
+      @Override
+      public Object apply(Object acc, long value) {
+        return next.apply(acc, f.apply(value));
+      }
+
+      @Override
+      public boolean isDone(Object acc) {
+        return next.isDone(acc);
+      }
+    }), stateless);
+  }
+
+  /**
+   * Returns a pipeline that converts the values to double.
+   *
+   * @return a pipeline of double values
+   */
+  public DoublePipeline<T> asDoublePipeline() {
+    return new DoublePipeline<>(next -> transducer.apply(new LongReducer<>() {
+      @Override
+      public Object apply(Object acc, long value) {
+        return next.apply(acc, value);
+      }
+
+      @Override
+      public boolean isDone(Object acc) {
+        return next.isDone(acc);
+      }
+    }), stateless);
+  }
+
+  /**
+   * Applies the pipeline to an input collection and reduces the values with the given reducer.
+   *
+   * @param input the input collection to process
+   * @param init the initial value of the accumulator
+   * @param reducer the reducer of the values
+   * @param <A> the type of the accumulator
+   * @return the final value of the accumulator
+   */
+  @SuppressWarnings("unchecked")
+  public <A> A reduce(Iterable<? extends T> input, A init, LongReducer<A> reducer) {
+    Reducer<Object, T> composed = transducer.apply((LongReducer<Object>) reducer);
+    Object acc = init;
+    if (!composed.isDone(acc)) {
+      for (T value : input) {
+        acc = composed.apply(acc, value);
+        if (composed.isDone(acc)) {
+          break;
+        }
+      }
+    }
+    return (A) acc;
+  }
+
+  /**
+   * Applies the pipeline to an input collection and performs the given action on each value.
+   *
+   * @param input the input collection to process
+   * @param action the action to perform on each value
+   */
+  public void forEach(Iterable<? extends T> input, LongConsumer action) {
+    reduce(input, action, (acc, value) -> {
+      acc.accept(value);
+      return acc;
+    });
+  }
+
+  /**
+   * Returns the sum of the values.
+   *
+   * @param input the input collection to process
+   * @return the sum of the values
+   */
+  public long sum(Iterable<? extends T> input) {
+    return reduce(input, new long[1], (acc, value) -> {
+      acc[0] += value;
+      return acc;
+    })[0];
+  }
+
+  /**
+   * Returns the minimum value, or none if there are no values.
+   *
+   * @param input the input collection to process
+   * @return the minimum value
+   */
+  public Option<Long> min(Iterable<? extends T> input) {
+    var statistics = statistics(input);
+    return statistics.getCount() > 0 ? Option.some(statistics.getMin()) : Option.none();
+  }
+
+  /**
+   * Returns the maximum value, or none if there are no values.
+   *
+   * @param input the input collection to process
+   * @return the maximum value
+   */
+  public Option<Long> max(Iterable<? extends T> input) {
+    var statistics = statistics(input);
+    return statistics.getCount() > 0 ? Option.some(statistics.getMax()) : Option.none();
+  }
+
+  /**
+   * Returns the arithmetic mean of the values, or none if there are no values.
+   *
+   * @param input the input collection to process
+   * @return the average of the values
+   */
+  public Option<Double> average(Iterable<? extends T> input) {
+    var statistics = statistics(input);
+    return statistics.getCount() > 0 ? Option.some(statistics.getAverage()) : Option.none();
+  }
+
+  /**
+   * Returns the count, sum, minimum, maximum and average of the values in a single pass.
+   *
+   * @param input the input collection to process
+   * @return the statistics of the values
+   */
+  public LongSummaryStatistics statistics(Iterable<? extends T> input) {
+    return reduce(input, new LongSummaryStatistics(), (acc, value) -> {
+      acc.accept(value);
+      return acc;
+    });
+  }
+
+  /**
+   * Returns the values in an array.
+   *
+   * @param input the input collection to process
+   * @return an array with all the values
+   */
+  public long[] toLongArray(Iterable<? extends T> input) {
+    return reduce(input, LongStream.builder(), LongStream.Builder::add).build().toArray();
+  }
+
+  /**
+   * Returns the number of occurrences of every distinct value, ordered by value.
+   *
+   * @param input the input collection to process
+   * @return a map from every distinct value to the number of times it appears
+   */
+  public ImmutableTreeMap<Long, Long> histogram(Iterable<? extends T> input) {
+    long[] values = toLongArray(input);
+    Arrays.sort(values);
+    var builder = ImmutableTreeMap.<Long, Long>builder();
+    int i = 0;
+    while (i < values.length) {
+      int j = i + 1;
+      while (j < values.length && values[j] == values[i]) {
+        j++;
+      }
+      builder.put(values[i], (long) (j - i));
+      i = j;
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns true if all the steps of this pipeline are stateless.
+   *
+   * @return true if the pipeline is stateless
+   */
+  public boolean isStateless() {
+    return stateless;
+  }
+
+  private LongPipeline<T> chain(Function1<LongReducer<Object>, LongReducer<Object>> next, boolean statelessStep) {
+    return new LongPipeline<>(reducer -> transducer.apply(next.apply(reducer)), stateless && statelessStep);
+  }
+
+  private abstract static class Forward<A> implements LongReducer<A> {
+
+    private final LongReducer<A> next;
+
+    Forward(LongReducer<A> next) {
+      this.next = next;
+    }
+
+    @Override
+    public boolean isDone(A acc) {
+      return next.isDone(acc);
+    }
+  }
+}
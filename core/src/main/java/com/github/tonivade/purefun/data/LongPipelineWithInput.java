@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.data;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+
+import java.util.LongSummaryStatistics;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+import com.github.tonivade.purefun.type.Option;
+
+/**
+ * A {@link LongPipeline} bound to an input collection.
+ *
+ * @param <T> the type of input elements
+ */
+public final class LongPipelineWithInput<T> {
+
+  private final LongPipeline<T> pipeline;
+  private final Iterable<T> input;
+
+  public LongPipelineWithInput(LongPipeline<T> pipeline, Iterable<T> input) {
+    this.pipeline = checkNonNull(pipeline, "pipeline must not be null");
+    this.input = checkNonNull(input, "input must not be null");
+  }
+
+  public <A> A reduce(A init, LongPipeline.LongReducer<A> reducer) {
+    return pipeline.reduce(input, init, reducer);
+  }
+
+  public void forEach(LongConsumer action) {
+    pipeline.forEach(input, action);
+  }
+
+  public long sum() {
+    return pipeline.sum(input);
+  }
+
+  public Option<Long> min() {
+    return pipeline.min(input);
+  }
+
+  public Option<Long> max() {
+    return pipeline.max(input);
+  }
+
+  public Option<Double> average() {
+    return pipeline.average(input);
+  }
+
+  public LongSummaryStatistics statistics() {
+    return pipeline.statistics(input);
+  }
+
+  public long[] toLongArray() {
+    return pipeline.toLongArray(input);
+  }
+
+  public ImmutableTreeMap<Long, Long> histogram() {
+    return pipeline.histogram(input);
+  }
+
+  public LongPipelineWithInput<T> map(LongUnaryOperator f) {
+    return new LongPipelineWithInput<>(pipeline.map(f), input);
+  }
+
+  public LongPipelineWithInput<T> filter(LongPredicate p) {
+    return new LongPipelineWithInput<>(pipeline.filter(p), input);
+  }
+
+  public LongPipelineWithInput<T> scan(long init, LongBinaryOperator f) {
+    return new LongPipelineWithInput<>(pipeline.scan(init, f), input);
+  }
+
+  public PipelineWithInput<T, long[]> windowFixed(int size) {
+    return new PipelineWithInput<>(pipeline.windowFixed(size), input);
+  }
+
+  public <U> PipelineWithInput<T, U> mapToObj(LongFunction<? extends U> f) {
+    return new PipelineWithInput<>(pipeline.mapToObj(f), input);
+  }
+
+  public DoublePipelineWithInput<T> asDoublePipeline() {
+    return new DoublePipelineWithInput<>(pipeline.asDoublePipeline(), input);
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.data;
+
+import java.io.Serial;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.github.tonivade.purefun.core.Operator2;
+import com.github.tonivade.purefun.core.Producer;
+
+/**
+ * Fork/join task that splits the input with a {@link Spliterator}, reduces every chunk
+ * with a fresh accumulator and combines the partial results in encounter order.
+ *
+ * @param <A> the type of the accumulator
+ * @param <T> the type of the input elements
+ */
+final class ParallelReduction<A, T> extends RecursiveTask<A> {
+
+  @Serial
+  private static final long serialVersionUID = -6403128451409856217L;
+
+  private static final int MIN_CHUNK = 1 << 10;
+
+  private final transient Spliterator<? extends T> spliterator;
+  private final transient Producer<A> init;
+  private final transient Producer<Reducer<A, T>> reducer;
+  private final transient Operator2<A> combiner;
+  private final long threshold;
+
+  private ParallelReduction(Spliterator<? extends T> spliterator, Producer<A> init,
+      Producer<Reducer<A, T>> reducer, Operator2<A> combiner, long threshold) {
+    this.spliterator = spliterator;
+    this.init = init;
+    this.reducer = reducer;
+    this.combiner = combiner;
+    this.threshold = threshold;
+  }
+
+  static <A, T> A reduce(ForkJoinPool pool, Iterable<? extends T> input, Producer<A> init,
+      Producer<Reducer<A, T>> reducer, Operator2<A> combiner) {
+    Spliterator<? extends T> spliterator = input.spliterator();
+    return pool.invoke(new ParallelReduction<>(spliterator, init, reducer, combiner, threshold(pool, spliterator)));
+  }
+
+  @Override
+  protected A compute() {
+    Spliterator<? extends T> current = spliterator;
+    if (current.estimateSize() > threshold) {
+      Spliterator<? extends T> prefix = current.trySplit();
+      if (prefix != null) {
+        var left = new ParallelReduction<>(prefix, init, reducer, combiner, threshold);
+        var right = new ParallelReduction<>(current, init, reducer, combiner, threshold);
+        left.fork();
+        A suffix = right.compute();
+        return combiner.apply(left.join(), suffix);
+      }
+    }
+    return sequential(current);
+  }
+
+  private A sequential(Spliterator<? extends T> current) {
+    var state = new Object() {
+      A acc = init.get();
+    };
+    Reducer<A, T> chunk = reducer.get();
+    while (!chunk.isDone(state.acc) && current.tryAdvance(value -> state.acc = chunk.apply(state.acc, value))) {
+      // nothing to do
+    }
+    return state.acc;
+  }
+
+  private static long threshold(ForkJoinPool pool, Spliterator<?> spliterator) {
+    long size = spliterator.estimateSize();
+    if (size == Long.MAX_VALUE) {
+      return MIN_CHUNK;
+    }
+    return Math.max(size / (pool.getParallelism() * 4L), MIN_CHUNK);
+  }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.data;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Persistent vector implemented as a 32-way branching trie, with the last elements in a tail array,
+ * so appending is amortized O(1) and indexed access is O(log32 n) reading one array per level.
+ *
+ * <p>Bulk operations like slicing, concatenation or insertion copy the leaf arrays and rebuild the trie
+ * from the bottom, which is linear but avoids the allocation of a new path for every element.</p>
+ *
+ * @param <E> the type of the elements
+ */
+final class PersistentVector<E> implements Iterable<E>, Serializable {
+
+  @Serial
+  private static final long serialVersionUID = 6385493716290932517L;
+
+  private static final int BITS = 5;
+  private static final int WIDTH = 1 << BITS;
+  private static final int MASK = WIDTH - 1;
+
+  private static final Object[] EMPTY_ARRAY = new Object[0];
+
+  private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, new Object[WIDTH], EMPTY_ARRAY);
+
+  private final int size;
+  private final int shift;
+  private final Object[] root;
+  private final Object[] tail;
+
+  private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+    this.size = size;
+    this.shift = shift;
+    this.root = root;
+    this.tail = tail;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <E> PersistentVector<E> empty() {
+    return (PersistentVector<E>) EMPTY;
+  }
+
+  static <E> PersistentVector<E> from(Collection<? extends E> collection) {
+    return fromArray(collection.toArray());
+  }
+
+  static <E> PersistentVector<E> fromArray(Object[] array) {
+    return fromArray(array, array.length);
+  }
+
+  private static <E> PersistentVector<E> fromArray(Object[] array, int size) {
+    if (size == 0) {
+      return empty();
+    }
+    int tailOffset = tailOffset(size);
+    Object[] tail = Arrays.copyOfRange(array, tailOffset, size);
+    Object[][] nodes = new Object[tailOffset >>> BITS][];
+    for (int i = 0; i < nodes.length; i++) {
+      nodes[i] = Arrays.copyOfRange(array, i << BITS, (i + 1) << BITS);
+    }
+    int shift = BITS;
+    nodes = parents(nodes);
+    while (nodes.length > 1) {
+      nodes = parents(nodes);
+      shift += BITS;
+    }
+    Object[] root = nodes.length == 0 ? new Object[WIDTH] : nodes[0];
+    return new PersistentVector<>(size, shift, root, tail);
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  @SuppressWarnings("unchecked")
+  E get(int index) {
+    return (E) chunkFor(index)[index & MASK];
+  }
+
+  PersistentVector<E> append(E element) {
+    int tailLength = size - tailOffset(size);
+    if (tailLength < WIDTH) {
+      Object[] newTail = Arrays.copyOf(tail, tailLength + 1);
+      newTail[tailLength] = element;
+      return new PersistentVector<>(size + 1, shift, root, newTail);
+    }
+    Object[] newRoot;
+    int newShift = shift;
+    if ((size >>> BITS) > (1 << shift)) {
+      newRoot = new Object[WIDTH];
+      newRoot[0] = root;
+      newRoot[1] = newPath(shift, tail);
+      newShift += BITS;
+    } else {
+      newRoot = pushTail(shift, root, tail);
+    }
+    return new PersistentVector<>(size + 1, newShift, newRoot, new Object[] { element });
+  }
+
+  PersistentVector<E> appendAll(Collection<? extends E> elements) {
+    if (elements.size() <= WIDTH) {
+      PersistentVector<E> result = this;
+      for (E element : elements) {
+        result = result.append(element);
+      }
+      return result;
+    }
+    Object[] other = elements.toArray();
+    Object[] array = Arrays.copyOf(toArray(), size + other.length);
+    System.arraycopy(other, 0, array, size, other.length);
+    return fromArray(array);
+  }
+
+  PersistentVector<E> with(int index, E element) {
+    Objects.checkIndex(index, size);
+    if (index >= tailOffset(size)) {
+      Object[] newTail = tail.clone();
+      newTail[index & MASK] = element;
+      return new PersistentVector<>(size, shift, root, newTail);
+    }
+    return new PersistentVector<>(size, shift, doAssoc(shift, root, index, element), tail);
+  }
+
+  PersistentVector<E> insertAll(int index, Collection<? extends E> elements) {
+    Objects.checkIndex(index, size + 1);
+    if (index == size) {
+      return appendAll(elements);
+    }
+    Object[] other = elements.toArray();
+    Object[] array = new Object[size + other.length];
+    copyTo(0, index, array, 0);
+    System.arraycopy(other, 0, array, index, other.length);
+    copyTo(index, size, array, index + other.length);
+    return fromArray(array);
+  }
+
+  PersistentVector<E> remove(int index) {
+    Objects.checkIndex(index, size);
+    Object[] array = new Object[size - 1];
+    copyTo(0, index, array, 0);
+    copyTo(index + 1, size, array, index);
+    return fromArray(array);
+  }
+
+  PersistentVector<E> slice(int from, int to) {
+    Objects.checkFromToIndex(from, to, size);
+    if (from == 0 && to == size) {
+      return this;
+    }
+    Object[] array = new Object[to - from];
+    copyTo(from, to, array, 0);
+    return fromArray(array);
+  }
+
+  int indexOf(@Nullable Object element) {
+    for (int i = 0; i < size; i += WIDTH) {
+      Object[] chunk = chunkFor(i);
+      int length = Math.min(WIDTH, size - i);
+      for (int j = 0; j < length; j++) {
+        if (Objects.equals(chunk[j], element)) {
+          return i + j;
+        }
+      }
+    }
+    return -1;
+  }
+
+  Object[] toArray() {
+    Object[] array = new Object[size];
+    copyTo(0, size, array, 0);
+    return array;
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new ChunkedIterator();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    for (int i = 0; i < size; i += WIDTH) {
+      Object[] chunk = chunkFor(i);
+      int length = Math.min(WIDTH, size - i);
+      for (int j = 0; j < length; j++) {
+        action.accept((E) chunk[j]);
+      }
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    for (int i = 0; i < size; i += WIDTH) {
+      Object[] chunk = chunkFor(i);
+      int length = Math.min(WIDTH, size - i);
+      for (int j = 0; j < length; j++) {
+        hashCode = 31 * hashCode + Objects.hashCode(chunk[j]);
+      }
+    }
+    return hashCode;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof PersistentVector<?> other) || other.size != size) {
+      return false;
+    }
+    for (int i = 0; i < size; i += WIDTH) {
+      Object[] chunk = chunkFor(i);
+      Object[] otherChunk = other.chunkFor(i);
+      if (chunk != otherChunk && !Arrays.equals(chunk, 0, Math.min(WIDTH, size - i), otherChunk, 0, Math.min(WIDTH, size - i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("[");
+    forEach(e -> {
+      if (sb.length() > 1) {
+        sb.append(", ");
+      }
+      sb.append(e);
+    });
+    return sb.append(']').toString();
+  }
+
+  private void copyTo(int from, int to, Object[] target, int offset) {
+    int i = from;
+    while (i < to) {
+      int length = Math.min(WIDTH - (i & MASK), to - i);
+      System.arraycopy(chunkFor(i), i & MASK, target, offset + i - from, length);
+      i += length;
+    }
+  }
+
+  private Object[] chunkFor(int index) {
+    Objects.checkIndex(index, size);
+    if (index >= tailOffset(size)) {
+      return tail;
+    }
+    Object[] node = root;
+    for (int level = shift; level > 0; level -= BITS) {
+      node = (Object[]) node[(index >>> level) & MASK];
+    }
+    return node;
+  }
+
+  private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+    int index = ((size - 1) >>> level) & MASK;
+    Object[] result = parent.clone();
+    Object[] child = (Object[]) parent[index];
+    if (level == BITS) {
+      result[index] = tailNode;
+    } else if (child != null) {
+      result[index] = pushTail(level - BITS, child, tailNode);
+    } else {
+      result[index] = newPath(level - BITS, tailNode);
+    }
+    return result;
+  }
+
+  private static Object[] newPath(int level, Object[] node) {
+    if (level == 0) {
+      return node;
+    }
+    Object[] result = new Object[WIDTH];
+    result[0] = newPath(level - BITS, node);
+    return result;
+  }
+
+  private static Object[] doAssoc(int level, Object[] node, int index, Object value) {
+    Object[] result = node.clone();
+    if (level == 0) {
+      result[index & MASK] = value;
+    } else {
+      int child = (index >>> level) & MASK;
+      result[child] = doAssoc(level - BITS, (Object[]) node[child], index, value);
+    }
+    return result;
+  }
+
+  private static Object[][] parents(Object[][] nodes) {
+    Object[][] parents = new Object[(nodes.length + MASK) >>> BITS][];
+    for (int i = 0; i < parents.length; i++) {
+      Object[] parent = new Object[WIDTH];
+      System.arraycopy(nodes, i << BITS, parent, 0, Math.min(WIDTH, nodes.length - (i << BITS)));
+      parents[i] = parent;
+    }
+    return parents;
+  }
+
+  private static int tailOffset(int size) {
+    return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+  }
+
+  private final class ChunkedIterator implements Iterator<E> {
+
+    private int index;
+    private Object[] chunk = EMPTY_ARRAY;
+
+    @Override
+    public boolean hasNext() {
+      return index < size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E next() {
+      if (index >= size) {
+        throw new NoSuchElementException();
+      }
+      if ((index & MASK) == 0) {
+        chunk = chunkFor(index);
+      }
+      return (E) chunk[index++ & MASK];
+    }
+  }
+}
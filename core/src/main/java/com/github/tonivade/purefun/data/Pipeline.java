@@ -6,16 +6,22 @@ package com.github.tonivade.purefun.data;
 
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
 
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
 import com.github.tonivade.purefun.core.Consumer1;
 import com.github.tonivade.purefun.core.Function1;
 import com.github.tonivade.purefun.core.Function2;
 import com.github.tonivade.purefun.core.Matcher1;
+import com.github.tonivade.purefun.core.Operator2;
 import com.github.tonivade.purefun.core.PartialFunction1;
+import com.github.tonivade.purefun.core.Producer;
 import com.github.tonivade.purefun.core.Tuple2;
 
 /**
  * A pipeline of transducers to be applied to a sequence.
- * The pipeline is immutable and can be reused multiple times.
+ * The pipeline is immutable and can be reused multiple times, even concurrently from different threads.
  *
  * @param <T> the type of input elements
  * @param <U> the type of output elements
@@ -23,23 +29,59 @@ import com.github.tonivade.purefun.core.Tuple2;
 public final class Pipeline<T, U> {
 
   private final Transducer<Object, T, U> transducer;
+  private final boolean stateless;
 
-  private Pipeline(Transducer<Object, T, U> transducer) {
+  private Pipeline(Transducer<Object, T, U> transducer, boolean stateless) {
     this.transducer = checkNonNull(transducer, "transducer must not be null");
+    this.stateless = stateless;
   }
 
   /**
    * Collects the results of applying the pipeline to an input collection using the given finisher.
+   * A {@link Finisher.Parallel} finisher is only accepted if all the steps of the pipeline are stateless.
    *
    * @param finisher the finisher to collect the results
    * @param <A> the type of the result produced by the finisher
    * @return the result produced by applying the pipeline and collecting with the finisher
+   * @throws IllegalStateException if the finisher is parallel and the pipeline has stateful steps
    */
   @SuppressWarnings("unchecked")
   public <A, B> B finish(Finisher<A, B, T, U> finisher) {
+    if (finisher instanceof Finisher.Parallel && !stateless) {
+      throw new IllegalStateException("pipeline with stateful steps cannot be executed in parallel");
+    }
     return finisher.apply((Transducer<A, T, U>) transducer);
   }
 
+  /**
+   * Applies the pipeline to an input collection in parallel, splitting the input in chunks that are
+   * reduced independently in the common {@link java.util.concurrent.ForkJoinPool}, and combining the
+   * partial results with the given associative combiner.
+   *
+   * @param input the input collection to process
+   * @param init a producer that provides the initial value for every chunk
+   * @param append the function to accumulate an output element
+   * @param combiner the associative function to combine the results of two adjacent chunks
+   * @param onComplete the function to produce the final result
+   * @param <A> the type of the accumulated value
+   * @param <B> the type of the final result
+   * @return the result produced by applying the pipeline in parallel
+   * @throws IllegalStateException if the pipeline has stateful steps
+   */
+  public <A, B> B parallel(Iterable<? extends T> input, Producer<A> init,
+      Function2<? super A, ? super U, ? extends A> append, Operator2<A> combiner, Function1<A, B> onComplete) {
+    return finish(Finisher.parallel(input, init, append, combiner, onComplete));
+  }
+
+  /**
+   * Returns true if all the steps of this pipeline are stateless, so it can be executed in parallel.
+   *
+   * @return true if the pipeline can be executed in parallel
+   */
+  public boolean isStateless() {
+    return stateless;
+  }
+
   /**
    * Applies the pipeline to an input collection and performs the given action on each output element.
    *
@@ -57,7 +99,7 @@ public final class Pipeline<T, U> {
    * @return an identity pipeline
    */
   public static <T> Pipeline<T, T> identity() {
-    return new Pipeline<>(Transducer.identity());
+    return new Pipeline<>(Transducer.identity(), true);
   }
 
   /**
@@ -68,7 +110,7 @@ public final class Pipeline<T, U> {
    * @return a pipeline that applies the function to each element
    */
   public <V> Pipeline<T, V> map(Function1<? super U, ? extends V> f) {
-    return chain(Transducer.map(f));
+    return chain(Transducer.map(f), true);
   }
 
   /**
@@ -89,7 +131,7 @@ public final class Pipeline<T, U> {
    * @return a pipeline that filters the input elements
    */
   public Pipeline<T, U> filter(Matcher1<? super U> p) {
-    return chain(Transducer.filter(p));
+    return chain(Transducer.filter(p), true);
   }
 
   /**
@@ -110,7 +152,7 @@ public final class Pipeline<T, U> {
    * @return a pipeline that applies the function and flattens the results
    */
   public <V> Pipeline<T, V> flatMap(Function1<? super U, ? extends Sequence<V>> f) {
-    return chain(Transducer.flatMap(f));
+    return chain(Transducer.flatMap(f), true);
   }
 
   /**
@@ -210,10 +252,78 @@ public final class Pipeline<T, U> {
    * @return a pipeline that performs the action on each output element
    */
   public Pipeline<T, U> peek(Consumer1<? super U> consumer) {
-    return chain(Transducer.peek(consumer));
+    return chain(Transducer.peek(consumer), true);
+  }
+
+  /**
+   * Returns a pipeline of primitive int values, produced by applying the given function to each element.
+   *
+   * @param f the function to apply to each element
+   * @return a pipeline of int values
+   */
+  public IntPipeline<T> mapToInt(ToIntFunction<? super U> f) {
+    return new IntPipeline<>(next -> transducer.apply(new Reducer<>() {
+      @Override
+      public Object apply(Object acc, U value) {
+        return next.apply(acc, f.applyAsInt(value));
+      }
+
+      @Override
+      public boolean isDone(Object acc) {
+        return next.isDone(acc);
+      }
+    }), stateless);
+  }
+
+  /**
+   * Returns a pipeline of primitive long values, produced by applying the given function to each element.
+   *
+   * @param f the function to apply to each element
+   * @return a pipeline of long values
+   */
+  public LongPipeline<T> mapToLong(ToLongFunction<? super U> f) {
+    return new LongPipeline<>(next -> transducer.apply(new Reducer<>() {
+      @Override
+      public Object apply(Object acc, U value) {
+        return next.apply(acc, f.applyAsLong(value));
+      }
+
+      @Override
+      public boolean isDone(Object acc) {
+        return next.isDone(acc);
+      }
+    }), stateless);
+  }
+
+  /**
+   * Returns a pipeline of primitive double values, produced by applying the given function to each element.
+   *
+   * @param f the function to apply to each element
+   * @return a pipeline of double values
+   */
+  public DoublePipeline<T> mapToDouble(ToDoubleFunction<? super U> f) {
+    return new DoublePipeline<>(next -> transducer.apply(new Reducer<>() {
+      @Override
+      public Object apply(Object acc, U value) {
+        return next.apply(acc, f.applyAsDouble(value));
+      }
+
+      @Override
+      public boolean isDone(Object acc) {
+        return next.isDone(acc);
+      }
+    }), stateless);
+  }
+
+  static <T, U> Pipeline<T, U> of(Transducer<Object, T, U> transducer, boolean stateless) {
+    return new Pipeline<>(transducer, stateless);
   }
 
   private <V> Pipeline<T, V> chain(Transducer<Object, U, V> next) {
-    return new Pipeline<>(Transducer.chain(transducer, next));
+    return chain(next, false);
+  }
+
+  private <V> Pipeline<T, V> chain(Transducer<Object, U, V> next, boolean statelessStep) {
+    return new Pipeline<>(Transducer.chain(transducer, next), stateless && statelessStep);
   }
 }
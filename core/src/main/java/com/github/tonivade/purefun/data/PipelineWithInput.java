@@ -7,6 +7,9 @@ package com.github.tonivade.purefun.data;
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
 
 import java.util.Comparator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 import com.github.tonivade.purefun.core.Consumer1;
 import com.github.tonivade.purefun.core.Function1;
@@ -94,6 +97,18 @@ public final class PipelineWithInput<T, U> {
     return pipeline.finish(Finisher.allMatch(input, condition));
   }
 
+  public IntPipelineWithInput<T> mapToInt(ToIntFunction<? super U> f) {
+    return new IntPipelineWithInput<>(pipeline.mapToInt(f), input);
+  }
+
+  public LongPipelineWithInput<T> mapToLong(ToLongFunction<? super U> f) {
+    return new LongPipelineWithInput<>(pipeline.mapToLong(f), input);
+  }
+
+  public DoublePipelineWithInput<T> mapToDouble(ToDoubleFunction<? super U> f) {
+    return new DoublePipelineWithInput<>(pipeline.mapToDouble(f), input);
+  }
+
   public <V> PipelineWithInput<T, V> map(Function1<? super U, ? extends V> f) {
     return new PipelineWithInput<>(pipeline.map(f), input);
   }
@@ -4,7 +4,6 @@
  */
 package com.github.tonivade.purefun.data;
 
-import static com.github.tonivade.purefun.core.Function1.identity;
 import static com.github.tonivade.purefun.core.Precondition.check;
 import static com.github.tonivade.purefun.core.Precondition.greaterThanOrEquals;
 import static com.github.tonivade.purefun.type.Validation.mapN;
@@ -13,7 +12,16 @@ import static com.github.tonivade.purefun.type.Validation.requireLowerThan;
 import static com.github.tonivade.purefun.type.Validation.requireLowerThanOrEqual;
 import static com.github.tonivade.purefun.type.Validation.requireNonEquals;
 
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -54,12 +62,66 @@ public record Range(int begin, int end, int increment) implements Iterable<Integ
     return Math.abs(end - begin);
   }
 
+  public int get(int index) {
+    Objects.checkIndex(index, size());
+    return increment < 0 ? begin - 1 - index : begin + index;
+  }
+
   public ImmutableArray<Integer> collect() {
-    return map(identity());
+    return mapToObj(Integer::valueOf);
   }
 
   public <T> ImmutableArray<T> map(Function1<? super Integer, ? extends T> map) {
-    return ImmutableArray.from(intStream().boxed()::iterator).map(map);
+    return mapToObj(map::apply);
+  }
+
+  public <T> ImmutableArray<T> mapToObj(IntFunction<? extends T> mapper) {
+    int size = size();
+    Object[] result = new Object[size];
+    for (int i = 0; i < size; i++) {
+      result[i] = mapper.apply(get(i));
+    }
+    @SuppressWarnings("unchecked")
+    List<T> list = (List<T>) Arrays.asList(result);
+    return ImmutableArray.from(list);
+  }
+
+  public int[] mapToInt(IntUnaryOperator mapper) {
+    int size = size();
+    int[] result = new int[size];
+    for (int i = 0; i < size; i++) {
+      result[i] = mapper.applyAsInt(get(i));
+    }
+    return result;
+  }
+
+  public int[] toIntArray() {
+    return mapToInt(IntUnaryOperator.identity());
+  }
+
+  public void forEachInt(IntConsumer action) {
+    int size = size();
+    for (int i = 0; i < size; i++) {
+      action.accept(get(i));
+    }
+  }
+
+  public int foldLeft(int initial, IntBinaryOperator combinator) {
+    int result = initial;
+    int size = size();
+    for (int i = 0; i < size; i++) {
+      result = combinator.applyAsInt(result, get(i));
+    }
+    return result;
+  }
+
+  public long sum() {
+    long result = 0;
+    int size = size();
+    for (int i = 0; i < size; i++) {
+      result += get(i);
+    }
+    return result;
   }
 
   public IntStream intStream() {
@@ -73,9 +135,13 @@ public record Range(int begin, int end, int increment) implements Iterable<Integ
     return intStream().boxed();
   }
 
+  public PrimitiveIterator.OfInt intIterator() {
+    return new RangeIterator(this);
+  }
+
   @Override
   public Iterator<Integer> iterator() {
-    return intStream().iterator();
+    return intIterator();
   }
 
   @Override
@@ -96,3 +162,35 @@ public record Range(int begin, int end, int increment) implements Iterable<Integ
         requireNonEquals(increment, 0), Range::new).getOrElseThrow();
   }
 }
+
+final class RangeIterator implements PrimitiveIterator.OfInt {
+
+  private final Range range;
+  private final int size;
+  private int index;
+
+  RangeIterator(Range range) {
+    this.range = range;
+    this.size = range.size();
+  }
+
+  @Override
+  public boolean hasNext() {
+    return index < size;
+  }
+
+  @Override
+  public int nextInt() {
+    if (index >= size) {
+      throw new NoSuchElementException();
+    }
+    return range.get(index++);
+  }
+
+  @Override
+  public void forEachRemaining(IntConsumer action) {
+    for (; index < size; index++) {
+      action.accept(range.get(index));
+    }
+  }
+}
@@ -4,10 +4,16 @@
  */
 package com.github.tonivade.purefun.data;
 
+import com.github.tonivade.purefun.core.Function2;
+import com.github.tonivade.purefun.core.Matcher1;
+
 /**
  * Reducer is a functional interface that represents a function that takes an accumulator and an element, and returns a new accumulator.
  * It is used in the context of pipelines to define how to combine elements into a result.
  *
+ * <p>Early termination is signaled by {@link #isDone(Object)}, that is checked after every step, so
+ * no wrapper needs to be allocated for every element processed.</p>
+ *
  * @param <A> The type of the accumulator (e.g., List, Set, etc.)
  * @param <E> The type of the input elements
  */
@@ -19,60 +25,41 @@ public interface Reducer<A, E> {
    *
    * @param accumulator The current state of the accumulator
    * @param element The element to be added to the accumulator
-   * @return A Step that indicates whether the reduction should continue (More) or is complete (Done), along with the new accumulator value
+   * @return The new accumulator value
    */
-  Step<A> apply(A accumulator, E element);
+  A apply(A accumulator, E element);
 
   /**
-   * Step is a sealed interface that represents the result of applying a reducer. It can be either a "More" step, which indicates that the reduction should continue with the new accumulator, or a "Done" step, which indicates that the reduction is complete and provides the final result.
+   * Returns true if the reduction is complete and no more elements should be applied to this reducer.
+   * By default a reducer consumes all the elements.
    *
-   * @param <A> The type of the accumulator
+   * @param accumulator The current state of the accumulator
+   * @return true if the reduction is complete, false otherwise
    */
-  sealed interface Step<A> {
-
-    /**
-     * More is a record that represents a step in the reduction process where the reduction should continue with the new accumulator value.
-     *
-     * @param value The new accumulator value for the next step
-     * @param <A> The type of the accumulator
-     */
-    record More<A>(A value) implements Step<A> {}
-
-    /**
-     * Done is a record that represents a step in the reduction process where the reduction is complete and provides the final result.
-     *
-     * @param value The final accumulator value
-     * @param <A> The type of the accumulator
-     */
-    record Done<A>(A value) implements Step<A> {}
-
-    /**
-     * Retrieves the value contained in this Step, whether it is a More or Done step.
-     *
-     * @return The value of the accumulator at this step
-     */
-    A value();
+  default boolean isDone(A accumulator) {
+    return false;
+  }
 
-    /**
-     * Creates a More step with the given value, indicating that the reduction should continue.
-     *
-     * @param value The new accumulator value for the next step
-     * @param <A> The type of the accumulator
-     * @return A More step containing the new accumulator value
-     */
-    static <A> More<A> more(A value) {
-      return new More<>(value);
-    }
+  /**
+   * Creates a reducer that completes as soon as the accumulator matches the given condition.
+   *
+   * @param step The function to add an element to the accumulator
+   * @param done The condition to check if the reduction is complete
+   * @param <A> The type of the accumulator
+   * @param <E> The type of the input elements
+   * @return A new reducer
+   */
+  static <A, E> Reducer<A, E> of(Function2<? super A, ? super E, ? extends A> step, Matcher1<? super A> done) {
+    return new Reducer<>() {
+      @Override
+      public A apply(A accumulator, E element) {
+        return step.apply(accumulator, element);
+      }
 
-    /**
-     * Creates a Done step with the given value, indicating that the reduction is complete.
-     *
-     * @param value The final accumulator value
-     * @param <A> The type of the accumulator
-     * @return A Done step containing the final accumulator value
-     */
-    static <A> Done<A> done(A value) {
-      return new Done<>(value);
-    }
+      @Override
+      public boolean isDone(A accumulator) {
+        return done.test(accumulator);
+      }
+    };
   }
 }
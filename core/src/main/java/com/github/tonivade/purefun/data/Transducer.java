@@ -6,8 +6,10 @@ package com.github.tonivade.purefun.data;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.github.tonivade.purefun.core.Consumer1;
 import com.github.tonivade.purefun.core.Function1;
@@ -16,8 +18,6 @@ import com.github.tonivade.purefun.core.Matcher1;
 import com.github.tonivade.purefun.core.Producer;
 import com.github.tonivade.purefun.core.Tuple;
 import com.github.tonivade.purefun.core.Tuple2;
-import com.github.tonivade.purefun.core.Unit;
-import com.github.tonivade.purefun.data.Reducer.Step;
 
 /**
  * Transducer is a higher-order function that takes a reducer and returns a new reducer.
@@ -138,6 +138,7 @@ public interface Transducer<A, T, U> {
    * The state is initialized using the provided init function, and the step function defines how to transition from one state to another and what output to produce for each input value.
    * The step function can emit a single value, emit multiple values, skip the current input, or stop the processing entirely based on the current state and input value.
    * The state is updated after processing each input value, allowing for dynamic behavior that can adapt to the sequence of inputs.
+   * A new state is initialized every time the transducer is applied to a reducer, so the transducer itself is stateless.
    *
    * @param init A producer function that initializes the state before processing any input elements
    * @param step A function that takes the current state and an input value, and returns
@@ -150,44 +151,41 @@ public interface Transducer<A, T, U> {
    */
   static <A, T, S, U> Transducer<A, T, U> statefulMap(
       Producer<S> init, Function2<? super S, ? super T, ? extends Transition<S, U>> step) {
-    return new Transducer<>() {
+    return reducer -> new ForwardingReducer<A, T, U>(reducer) {
 
-      S state = init.get();
+      // the state is created for every execution, so the same transducer can be reused or run concurrently
+      private S state = init.get();
+      private boolean stopped;
 
       @Override
-      public Reducer<A, T> apply(Reducer<A, U> reducer) {
-
-        return (acc, value) -> {
-          var t = step.apply(state, value);
-
-          return switch (t) {
-            case Transition.Emit<S, U>(var nextState, var nextValue) -> {
-              state = nextState;
-              yield reducer.apply(acc, nextValue);
-            }
-            case Transition.EmitMany<S, U>(var nextState, var nextValues) -> {
-              state = nextState;
-              var result = acc;
-              for (var u : nextValues) {
-                var inner = reducer.apply(result, u);
-                if (inner instanceof Step.Done) {
-                  yield inner;
-                }
-                result = inner.value();
-              }
-              yield Step.more(result);
-            }
-            case Transition.Skip<S, U>(var nextState) -> {
-              state = nextState;
-              yield Step.more(acc);
-            }
-            case Transition.Stop<S, U>(var nextState) -> {
-              state = nextState;
-              yield Step.done(acc);
-            }
-          };
+      public A apply(A acc, T value) {
+        var t = step.apply(state, value);
+
+        return switch (t) {
+          case Transition.Emit<S, U>(var nextState, var nextValue) -> {
+            state = nextState;
+            yield downstream.apply(acc, nextValue);
+          }
+          case Transition.EmitMany<S, U>(var nextState, var nextValues) -> {
+            state = nextState;
+            yield applyAll(acc, nextValues);
+          }
+          case Transition.Skip<S, U>(var nextState) -> {
+            state = nextState;
+            yield acc;
+          }
+          case Transition.Stop<S, U>(var nextState) -> {
+            state = nextState;
+            stopped = true;
+            yield acc;
+          }
         };
       }
+
+      @Override
+      public boolean isDone(A acc) {
+        return stopped || super.isDone(acc);
+      }
     };
   }
 
@@ -207,7 +205,12 @@ public interface Transducer<A, T, U> {
    * @return A new transducer that applies the mapping function
    */
   static <A, T, U> Transducer<A, T, U> map(Function1<? super T, ? extends U> mapper) {
-    return statefulMap(Unit::unit, (s, t) -> Transition.emit(s, mapper.apply(t)));
+    return reducer -> new ForwardingReducer<A, T, U>(reducer) {
+      @Override
+      public A apply(A acc, T value) {
+        return downstream.apply(acc, mapper.apply(value));
+      }
+    };
   }
 
   /**
@@ -217,7 +220,12 @@ public interface Transducer<A, T, U> {
    * @return A new transducer that applies the flat-mapping function
    */
   static <A, T, U> Transducer<A, T, U> flatMap(Function1<? super T, ? extends Sequence<U>> mapper) {
-    return statefulMap(Unit::unit, (s, t) -> Transition.emitMany(s, mapper.apply(t)));
+    return reducer -> new ForwardingReducer<A, T, U>(reducer) {
+      @Override
+      public A apply(A acc, T value) {
+        return applyAll(acc, mapper.apply(value));
+      }
+    };
   }
 
   /**
@@ -227,7 +235,12 @@ public interface Transducer<A, T, U> {
    * @return A new transducer that applies the filtering logic
    */
   static <A, T> Transducer<A, T, T> filter(Matcher1<? super T> matcher) {
-    return statefulMap(Unit::unit, (s, t) -> matcher.test(t) ? Transition.emit(s, t) : Transition.skip(s));
+    return reducer -> new ForwardingReducer<A, T, T>(reducer) {
+      @Override
+      public A apply(A acc, T value) {
+        return matcher.test(value) ? downstream.apply(acc, value) : acc;
+      }
+    };
   }
 
   /**
@@ -237,12 +250,24 @@ public interface Transducer<A, T, U> {
    * @return A new transducer that applies the take logic
    */
   static <A, T> Transducer<A, T, T> take(int n) {
-    return statefulMap(() -> n, (state, value) -> {
-      if (state > 0) {
-        return Transition.emit(state - 1, value);
+    return reducer -> new ForwardingReducer<A, T, T>(reducer) {
+
+      private int remaining = n;
+
+      @Override
+      public A apply(A acc, T value) {
+        if (remaining > 0) {
+          remaining--;
+          return downstream.apply(acc, value);
+        }
+        return acc;
       }
-      return Transition.stop(state);
-    });
+
+      @Override
+      public boolean isDone(A acc) {
+        return remaining <= 0 || super.isDone(acc);
+      }
+    };
   }
 
   /**
@@ -252,12 +277,24 @@ public interface Transducer<A, T, U> {
    * @return A new transducer that applies the takeWhile logic
    */
   static <A, T> Transducer<A, T, T> takeWhile(Matcher1<? super T> matcher) {
-    return statefulMap(() -> true, (state, value) -> {
-      if (state && matcher.test(value)) {
-        return Transition.emit(true, value);
+    return reducer -> new ForwardingReducer<A, T, T>(reducer) {
+
+      private boolean taking = true;
+
+      @Override
+      public A apply(A acc, T value) {
+        if (taking && matcher.test(value)) {
+          return downstream.apply(acc, value);
+        }
+        taking = false;
+        return acc;
       }
-      return Transition.stop(false);
-    });
+
+      @Override
+      public boolean isDone(A acc) {
+        return !taking || super.isDone(acc);
+      }
+    };
   }
 
   /**
@@ -267,12 +304,19 @@ public interface Transducer<A, T, U> {
    * @return A new transducer that applies the drop logic
    */
   static <A, T> Transducer<A, T, T> drop(int n) {
-    return statefulMap(() -> n, (state, value) -> {
-      if (state > 0) {
-        return Transition.skip(state - 1);
+    return reducer -> new ForwardingReducer<A, T, T>(reducer) {
+
+      private int remaining = n;
+
+      @Override
+      public A apply(A acc, T value) {
+        if (remaining > 0) {
+          remaining--;
+          return acc;
+        }
+        return downstream.apply(acc, value);
       }
-      return Transition.emit(state, value);
-    });
+    };
   }
 
   /**
@@ -282,12 +326,19 @@ public interface Transducer<A, T, U> {
    * @return A new transducer that applies the dropWhile logic
    */
   static <A, T> Transducer<A, T, T> dropWhile(Matcher1<? super T> matcher) {
-    return statefulMap(() -> true, (state, value) -> {
-      if (state && matcher.test(value)) {
-        return Transition.skip(true);
+    return reducer -> new ForwardingReducer<A, T, T>(reducer) {
+
+      private boolean dropping = true;
+
+      @Override
+      public A apply(A acc, T value) {
+        if (dropping && matcher.test(value)) {
+          return acc;
+        }
+        dropping = false;
+        return downstream.apply(acc, value);
       }
-      return Transition.emit(false, value);
-    });
+    };
   }
 
   /**
@@ -299,12 +350,15 @@ public interface Transducer<A, T, U> {
    * @return A new transducer that filters out duplicate elements, allowing only distinct elements to be processed by the reducer
    */
   static <A, T> Transducer<A, T, T> distinct() {
-    return statefulMap(() -> new HashSet<T>(), (seen, value) -> {
-      if (seen.add(value)) {
-        return Transition.emit(seen, value);
+    return reducer -> new ForwardingReducer<A, T, T>(reducer) {
+
+      private final Set<T> seen = new HashSet<>();
+
+      @Override
+      public A apply(A acc, T value) {
+        return seen.add(value) ? downstream.apply(acc, value) : acc;
       }
-      return Transition.skip(seen);
-    });
+    };
   }
 
   /**
@@ -314,7 +368,15 @@ public interface Transducer<A, T, U> {
    * @return A new transducer that applies the zipWithIndex logic
    */
   static <A, T> Transducer<A, T, Tuple2<Integer, T>> zipWithIndex() {
-    return statefulMap(() -> 0, (index, value) -> Transition.emit(index + 1, Tuple.of(index, value)));
+    return reducer -> new ForwardingReducer<A, T, Tuple2<Integer, T>>(reducer) {
+
+      private int index = 0;
+
+      @Override
+      public A apply(A acc, T value) {
+        return downstream.apply(acc, Tuple.of(index++, value));
+      }
+    };
   }
 
   /**
@@ -325,15 +387,21 @@ public interface Transducer<A, T, U> {
    * @return A new transducer that applies the fixed window logic
    */
   static <A, T> Transducer<A, T, Sequence<T>> windowFixed(int size) {
-    return Transducer.<A, T, ArrayList<T>, Sequence<T>>statefulMap(() -> new ArrayList<T>(size), (window, value) -> {
-      window.add(value);
-      if (window.size() == size) {
-        var result = ImmutableList.from(window);
-        window.clear();
-        return Transition.emit(window, result);
+    return reducer -> new ForwardingReducer<A, T, Sequence<T>>(reducer) {
+
+      private final List<T> window = new ArrayList<>(size);
+
+      @Override
+      public A apply(A acc, T value) {
+        window.add(value);
+        if (window.size() == size) {
+          var result = ImmutableList.<T>from(window);
+          window.clear();
+          return downstream.apply(acc, result);
+        }
+        return acc;
       }
-      return Transition.skip(window);
-    });
+    };
   }
 
   /**
@@ -345,16 +413,22 @@ public interface Transducer<A, T, U> {
    * @return A new transducer that applies the sliding window logic
    */
   static <A, T> Transducer<A, T, Sequence<T>> windowSliding(int size) {
-    return statefulMap(() -> new ArrayDeque<T>(size), (window, value) -> {
-      window.addLast(value);
-      if (window.size() > size) {
-        window.removeFirst();
-      }
-      if (window.size() == size) {
-        return Transition.emit(window, ImmutableList.from(window));
+    return reducer -> new ForwardingReducer<A, T, Sequence<T>>(reducer) {
+
+      private final Deque<T> window = new ArrayDeque<>(size);
+
+      @Override
+      public A apply(A acc, T value) {
+        window.addLast(value);
+        if (window.size() > size) {
+          window.removeFirst();
+        }
+        if (window.size() == size) {
+          return downstream.apply(acc, ImmutableList.<T>from(window));
+        }
+        return acc;
       }
-      return Transition.skip(window);
-    });
+    };
   }
 
   /**
@@ -367,13 +441,25 @@ public interface Transducer<A, T, U> {
    * @return A new transducer that applies the scan logic, emitting the accumulated value after processing each input element
    */
   static <A, T, R> Transducer<A, T, R> scan(R initial, Function2<? super R, ? super T, ? extends R> reducer) {
-    return statefulMap(() -> Tuple.of(initial, false), (state, value) -> {
-      R next = reducer.apply(state.get1(), value);
-      if (state.get2()) {
-        return Transition.emit(Tuple.of(next, true), next);
+    return next -> new ForwardingReducer<A, T, R>(next) {
+
+      private R current = initial;
+      private boolean started = false;
+
+      @Override
+      public A apply(A acc, T value) {
+        var result = acc;
+        if (!started) {
+          started = true;
+          result = downstream.apply(result, current);
+          if (downstream.isDone(result)) {
+            return result;
+          }
+        }
+        current = reducer.apply(current, value);
+        return downstream.apply(result, current);
       }
-      return Transition.emitMany(Tuple.of(next, true), List.of(state.get1(), next));
-    });
+    };
   }
 
   /**
@@ -385,9 +471,44 @@ public interface Transducer<A, T, U> {
    * @return A new transducer that applies the peek logic, allowing you to perform side effects on each input element while passing the original elements to the reducer
    */
   static <A, T> Transducer<A, T, T> peek(Consumer1<? super T> consumer) {
-    return statefulMap(Unit::unit, (s, t) -> {
-      consumer.accept(t);
-      return Transition.emit(s, t);
-    });
+    return reducer -> new ForwardingReducer<A, T, T>(reducer) {
+      @Override
+      public A apply(A acc, T value) {
+        consumer.accept(value);
+        return downstream.apply(acc, value);
+      }
+    };
+  }
+}
+
+/**
+ * Base class for the reducers created by the transducers, forwards the termination check to the downstream reducer.
+ *
+ * @param <A> The type of the accumulator
+ * @param <T> The type of the input elements
+ * @param <U> The type of the elements passed to the downstream reducer
+ */
+abstract class ForwardingReducer<A, T, U> implements Reducer<A, T> {
+
+  protected final Reducer<A, U> downstream;
+
+  ForwardingReducer(Reducer<A, U> downstream) {
+    this.downstream = downstream;
+  }
+
+  @Override
+  public boolean isDone(A acc) {
+    return downstream.isDone(acc);
+  }
+
+  protected A applyAll(A acc, Iterable<? extends U> values) {
+    var result = acc;
+    for (var value : values) {
+      result = downstream.apply(result, value);
+      if (downstream.isDone(result)) {
+        break;
+      }
+    }
+    return result;
   }
 }
@@ -130,6 +130,47 @@ public class FutureTest {
     assertEquals(Try.success("HELLO WORLD!"), result.await());
   }
 
+  @Test
+  public void mapChain() {
+    Future<Integer> future = Future.success(0);
+    for (int i = 0; i < 1000; i++) {
+      future = future.map(x -> x + 1);
+    }
+
+    assertEquals(Try.success(1000), future.await());
+  }
+
+  @Test
+  public void mapperError() {
+    RuntimeException error = new UnsupportedOperationException();
+
+    Future<String> result = Future.success("Hello world!").<String>flatMap(string -> { throw error; });
+
+    assertEquals(Try.failure(error), result.await());
+  }
+
+  @Test
+  public void cancelUpstream() {
+    Future<Unit> future = Future.sleep(Duration.ofSeconds(1));
+
+    Future<String> result = future.map(ignore -> "ok").filter(string -> !string.isEmpty());
+    result.cancel(false);
+
+    assertAll(
+        () -> assertTrue(result.isCancelled()),
+        () -> assertTrue(future.isCancelled()),
+        () -> assertTrue(result.await().getCause() instanceof CancellationException));
+  }
+
+  @Test
+  public void identity() {
+    Future<String> future = Future.success("Hello world!");
+
+    assertAll(
+        () -> assertEquals(future.toString(), future.toString()),
+        () -> assertFalse(future.toString().equals(future.map(String::toUpperCase).toString())));
+  }
+
   @Test
   public void flatMap() {
     Future<String> future = Future.success("Hello world!");
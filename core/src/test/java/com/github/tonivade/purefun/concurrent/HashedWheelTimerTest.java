@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class HashedWheelTimerTest {
+
+  @Test
+  void schedule() throws InterruptedException {
+    try (HashedWheelTimer timer = new HashedWheelTimer(Duration.ofMillis(1), 8)) {
+      CountDownLatch latch = new CountDownLatch(1);
+      long start = System.nanoTime();
+
+      HashedWheelTimer.Timeout timeout = timer.schedule(Duration.ofMillis(50), latch::countDown);
+
+      assertTrue(latch.await(1, TimeUnit.SECONDS));
+      assertAll(
+          () -> assertTrue(System.nanoTime() - start >= Duration.ofMillis(50).toNanos()),
+          () -> assertTrue(timeout.isExpired()),
+          () -> assertFalse(timeout.cancel()),
+          () -> assertEquals(0, timer.size()));
+    }
+  }
+
+  @Test
+  void cancel() throws InterruptedException {
+    try (HashedWheelTimer timer = new HashedWheelTimer(Duration.ofMillis(1), 8)) {
+      AtomicInteger counter = new AtomicInteger();
+
+      HashedWheelTimer.Timeout timeout = timer.schedule(Duration.ofMillis(50), counter::incrementAndGet);
+
+      assertTrue(timeout.cancel());
+      Thread.sleep(100);
+
+      assertAll(
+          () -> assertTrue(timeout.isCancelled()),
+          () -> assertFalse(timeout.isExpired()),
+          () -> assertEquals(0, counter.get()),
+          () -> assertEquals(0, timer.size()));
+    }
+  }
+
+  @Test
+  void severalRounds() throws InterruptedException {
+    try (HashedWheelTimer timer = new HashedWheelTimer(Duration.ofMillis(1), 4)) {
+      CountDownLatch latch = new CountDownLatch(100);
+      AtomicInteger counter = new AtomicInteger();
+
+      for (int i = 0; i < 100; i++) {
+        timer.schedule(Duration.ofMillis(i), () -> {
+          counter.incrementAndGet();
+          latch.countDown();
+        });
+        timer.schedule(Duration.ofMillis(i + 10), counter::decrementAndGet).cancel();
+      }
+
+      assertTrue(latch.await(1, TimeUnit.SECONDS));
+      Thread.sleep(50);
+      assertEquals(100, counter.get());
+    }
+  }
+
+  @Test
+  void earlierTimeoutWhileSleeping() throws InterruptedException {
+    try (HashedWheelTimer timer = new HashedWheelTimer(Duration.ofMillis(1), 8)) {
+      CountDownLatch latch = new CountDownLatch(1);
+
+      HashedWheelTimer.Timeout longTimeout = timer.schedule(Duration.ofSeconds(10), () -> {});
+      Thread.sleep(20);
+      long start = System.nanoTime();
+      timer.schedule(Duration.ofMillis(10), latch::countDown);
+
+      assertTrue(latch.await(1, TimeUnit.SECONDS));
+      assertAll(
+          () -> assertTrue(System.nanoTime() - start < Duration.ofMillis(500).toNanos()),
+          () -> assertTrue(longTimeout.cancel()));
+    }
+  }
+
+  @Test
+  void closed() {
+    HashedWheelTimer timer = new HashedWheelTimer(Duration.ofMillis(1), 8);
+
+    timer.close();
+
+    assertThrows(IllegalStateException.class, () -> timer.schedule(Duration.ofMillis(1), () -> {}));
+  }
+}
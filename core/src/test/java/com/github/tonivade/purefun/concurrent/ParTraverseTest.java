@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tonivade.purefun.core.Matcher1;
+import com.github.tonivade.purefun.data.Sequence;
+import com.github.tonivade.purefun.type.Either;
+import com.github.tonivade.purefun.type.Try;
+
+class ParTraverseTest {
+
+  private final List<Promise<Integer>> running = new ArrayList<>();
+  private final AtomicReference<Try<Either<Integer, Sequence<Integer>>>> result = new AtomicReference<>();
+
+  @Test
+  void keepsOrderWithBoundedParallelism() {
+    ParTraverse.<Integer, Integer, AtomicBoolean>start(2, Sequence.listOf(1, 2, 3), AtomicBoolean::new, flag -> flag.set(true),
+        (value, connection) -> task(), Matcher1.never(), result::set);
+
+    assertEquals(2, running.size());
+
+    running.get(1).succeeded(20);
+    assertEquals(3, running.size());
+    running.get(2).succeeded(30);
+    running.get(0).succeeded(10);
+
+    assertEquals(Try.success(Either.right(Sequence.listOf(10, 20, 30))), result.get());
+  }
+
+  @Test
+  void stopCancelsRunningTasks() {
+    List<AtomicBoolean> connections = new ArrayList<>();
+
+    ParTraverse.<Integer, Integer, AtomicBoolean>start(2, Sequence.listOf(1, 2, 3), () -> add(connections), flag -> flag.set(true),
+        (value, connection) -> task(), value -> value < 0, result::set);
+
+    running.get(0).succeeded(-1);
+
+    assertEquals(Try.success(Either.left(-1)), result.get());
+    assertEquals(2, running.size());
+    assertTrue(connections.get(1).get());
+  }
+
+  @Test
+  void cancelWhileForking() {
+    List<AtomicBoolean> connections = new ArrayList<>();
+    AtomicReference<ParTraverse<Integer, Integer, AtomicBoolean>> traverse = new AtomicReference<>();
+
+    traverse.set(ParTraverse.<Integer, Integer, AtomicBoolean>start(1, Sequence.listOf(1, 2), () -> {
+      // cancelled just before the connection of the next task is published
+      if (traverse.get() != null) {
+        traverse.get().cancel();
+      }
+      return add(connections);
+    }, flag -> flag.set(true), (value, connection) -> task(), Matcher1.never(), result::set));
+
+    running.get(0).succeeded(10);
+
+    assertEquals(1, running.size());
+    assertTrue(connections.get(1).get());
+    assertFalse(connections.get(0).get());
+    assertNull(result.get());
+  }
+
+  private Promise<Integer> task() {
+    Promise<Integer> promise = Promise.make(Runnable::run, ExecutionPolicy.SAME_THREAD);
+    running.add(promise);
+    return promise;
+  }
+
+  private static AtomicBoolean add(List<AtomicBoolean> connections) {
+    AtomicBoolean connection = new AtomicBoolean();
+    connections.add(connection);
+    return connection;
+  }
+}
@@ -15,6 +15,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -175,6 +176,63 @@ class PromiseTest {
     assertEquals(Try.success(Tuple.of("one", "two")), promise.await());
   }
 
+  @Test
+  void concurrentSubscribers() throws InterruptedException {
+    Promise<String> promise = Promise.make();
+    AtomicInteger counter = new AtomicInteger();
+
+    try (var threads = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < 10000; i++) {
+        threads.execute(() -> promise.onComplete(value -> counter.incrementAndGet()));
+        threads.execute(() -> promise.await().onSuccess(value -> counter.incrementAndGet()));
+      }
+      Thread.sleep(100);
+      promise.succeeded("hola mundo!");
+    }
+
+    verifyCounter(counter, 20000);
+  }
+
+  @Test
+  void sameThread() {
+    Promise<String> promise = Promise.make(executor, ExecutionPolicy.SAME_THREAD);
+    Thread[] thread = new Thread[1];
+
+    promise.onComplete(value -> thread[0] = Thread.currentThread());
+    promise.succeeded("hola mundo!");
+
+    assertSame(Thread.currentThread(), thread[0]);
+  }
+
+  @Test
+  void sameThreadLongChain() {
+    Promise<Integer> promise = Promise.make(executor, ExecutionPolicy.SAME_THREAD);
+    Promise<Integer> result = promise;
+    for (int i = 0; i < 100000; i++) {
+      result = result.map(x -> x + 1);
+    }
+
+    promise.succeeded(0);
+
+    assertEquals(Try.success(100000), result.await());
+  }
+
+  @Test
+  void sameThreadBlocking() throws InterruptedException {
+    Promise<String> promise = Promise.make(executor, ExecutionPolicy.SAME_THREAD);
+    AtomicInteger counter = new AtomicInteger();
+    Thread[] thread = new Thread[1];
+
+    promise.onCompleteBlocking(value -> {
+      thread[0] = Thread.currentThread();
+      counter.incrementAndGet();
+    });
+    promise.succeeded("hola mundo!");
+
+    verifyCounter(counter, 1);
+    assertNotSame(Thread.currentThread(), thread[0]);
+  }
+
   @Test
   void toFuture() {
     Promise<String> promise = Promise.<String>make().succeeded("hola mundo!");
@@ -183,4 +241,11 @@ class PromiseTest {
 
     assertEquals(Try.success("hola mundo!"), result);
   }
+
+  private static void verifyCounter(AtomicInteger counter, int expected) throws InterruptedException {
+    for (int i = 0; i < 50 && counter.get() < expected; i++) {
+      Thread.sleep(100);
+    }
+    assertEquals(expected, counter.get());
+  }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.core;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class CallStackTest {
+
+  @Test
+  public void empty() {
+    CallStack<String> stack = new CallStack<>();
+
+    assertAll(
+        () -> assertTrue(stack.isEmpty()),
+        () -> assertEquals(0, stack.size()),
+        () -> assertNull(stack.peek()),
+        () -> assertNull(stack.pop()));
+  }
+
+  @Test
+  public void pushAndPop() {
+    CallStack<String> stack = new CallStack<>();
+
+    stack.push("a");
+    stack.push("b");
+
+    assertAll(
+        () -> assertEquals(2, stack.size()),
+        () -> assertEquals("b", stack.peek()),
+        () -> assertEquals("b", stack.pop()),
+        () -> assertEquals("a", stack.pop()),
+        () -> assertTrue(stack.isEmpty()));
+  }
+
+  @Test
+  public void grow() {
+    CallStack<Integer> stack = new CallStack<>();
+
+    for (int i = 0; i < 1000; i++) {
+      stack.push(i);
+    }
+
+    int sum = 0;
+    Integer value;
+    while ((value = stack.pop()) != null) {
+      sum += value;
+    }
+
+    assertEquals(499500, sum);
+  }
+}
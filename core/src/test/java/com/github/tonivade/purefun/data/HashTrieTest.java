@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.data;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tonivade.purefun.core.Tuple2;
+
+class HashTrieTest {
+
+  @Test
+  void map() {
+    Random random = new Random(42);
+    Map<Object, Integer> expected = new HashMap<>();
+    HashTrieMap<Object, Integer> map = HashTrieMap.empty();
+
+    for (int i = 0; i < 20_000; i++) {
+      Object key = randomKey(random);
+      if (random.nextInt(3) == 0) {
+        expected.remove(key);
+        map = map.remove(key);
+      } else {
+        expected.put(key, i);
+        map = map.put(key, i);
+      }
+    }
+
+    assertEquals(expected, toMap(map));
+    assertEquals(expected.size(), map.size());
+    for (Object key : expected.keySet()) {
+      assertEquals(expected.get(key), map.get(key));
+    }
+    assertEquals(HashTrieMap.from(expected), map);
+    assertEquals(HashTrieMap.from(expected).hashCode(), map.hashCode());
+  }
+
+  @Test
+  void set() {
+    Random random = new Random(42);
+    Set<Object> expected = new HashSet<>();
+    HashTrieSet<Object> set = HashTrieSet.empty();
+
+    for (int i = 0; i < 20_000; i++) {
+      Object key = randomKey(random);
+      if (random.nextInt(3) == 0) {
+        expected.remove(key);
+        set = set.minus(key);
+      } else {
+        expected.add(key);
+        set = set.plus(key);
+      }
+    }
+
+    assertEquals(expected, toSet(set));
+    assertEquals(expected.size(), set.size());
+    assertEquals(HashTrieSet.from(expected), set);
+    assertEquals(HashTrieSet.from(expected).hashCode(), set.hashCode());
+  }
+
+  @Test
+  void collisions() {
+    HashTrieMap<Object, String> map = HashTrieMap.<Object, String>empty()
+        .put(new Colliding(1), "a").put(new Colliding(2), "b").put(new Colliding(3), "c");
+
+    HashTrieMap<Object, String> removed = map.remove(new Colliding(2)).remove(new Colliding(3));
+
+    assertAll(
+        () -> assertEquals(3, map.size()),
+        () -> assertEquals("b", map.get(new Colliding(2))),
+        () -> assertNull(map.get(new Colliding(4))),
+        () -> assertEquals(1, removed.size()),
+        () -> assertEquals("a", removed.get(new Colliding(1))),
+        () -> assertEquals(HashTrieMap.empty().put(new Colliding(1), "a"), removed),
+        () -> assertEquals(map.remove(new Colliding(1)), HashTrieMap.empty().put(new Colliding(3), "c").put(new Colliding(2), "b")));
+  }
+
+  @Test
+  void operations() {
+    HashTrieSet<Integer> small = HashTrieSet.from(List.of(1, 2, 3, 4));
+    HashTrieSet<Integer> big = HashTrieSet.from(List.of(3, 4, 5, 6, 7, 8));
+    HashTrieMap<String, Integer> first = HashTrieMap.<String, Integer>empty().put("a", 1).put("b", 2);
+    HashTrieMap<String, Integer> second = HashTrieMap.<String, Integer>empty().put("b", 3).put("c", 4).put("d", 5);
+
+    assertAll(
+        () -> assertEquals(HashTrieSet.from(List.of(1, 2, 3, 4, 5, 6, 7, 8)), small.union(big)),
+        () -> assertEquals(HashTrieSet.from(List.of(3, 4)), small.intersection(big)),
+        () -> assertEquals(HashTrieSet.from(List.of(3, 4)), big.intersection(small)),
+        () -> assertEquals(HashTrieSet.from(List.of(1, 2)), small.difference(big)),
+        () -> assertEquals(HashTrieSet.from(List.of(5, 6, 7, 8)), big.difference(small)),
+        () -> assertEquals(Map.of("a", 1, "b", 3, "c", 4, "d", 5), toMap(first.putAll(second))),
+        () -> assertEquals(Map.of("a", 1, "b", 2, "c", 4, "d", 5), toMap(second.putAll(first))),
+        () -> assertSame(first, first.put("a", 1).remove("z")),
+        () -> assertNotEquals(first, first.put("a", 2)),
+        () -> assertFalse(first.containsKey("z")),
+        () -> assertTrue(first.containsKey("a")));
+  }
+
+  @Test
+  void serialization() throws IOException, ClassNotFoundException {
+    HashTrieMap<String, Integer> map = HashTrieMap.<String, Integer>empty().put("a", 1).put("b", 2);
+    HashTrieSet<String> set = HashTrieSet.from(List.of("a", "b", "c"));
+
+    assertEquals(map, serializeAndDeserialize(map));
+    assertEquals(set, serializeAndDeserialize(set));
+  }
+
+  private static Object randomKey(Random random) {
+    int value = random.nextInt(5000);
+    return value % 7 == 0 ? new Colliding(value) : value;
+  }
+
+  private static <K, V> Map<K, V> toMap(HashTrieMap<K, V> map) {
+    Map<K, V> result = new HashMap<>();
+    for (Tuple2<K, V> entry : map) {
+      result.put(entry.get1(), entry.get2());
+    }
+    return result;
+  }
+
+  private static <E> Set<E> toSet(HashTrieSet<E> set) {
+    Set<E> result = new HashSet<>();
+    set.forEach(result::add);
+    return result;
+  }
+
+  private static Object serializeAndDeserialize(Object value) throws IOException, ClassNotFoundException {
+    var output = new ByteArrayOutputStream();
+    try (var objectOutput = new ObjectOutputStream(output)) {
+      objectOutput.writeObject(value);
+    }
+    try (var objectInput = new ObjectInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+      return objectInput.readObject();
+    }
+  }
+
+  private record Colliding(int value) {
+
+    @Override
+    public int hashCode() {
+      return 42;
+    }
+  }
+}
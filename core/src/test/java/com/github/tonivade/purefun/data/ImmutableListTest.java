@@ -20,11 +20,15 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import org.junit.jupiter.api.Test;
 
 import com.github.tonivade.purefun.core.Function1;
 import com.github.tonivade.purefun.core.Tuple;
+import com.github.tonivade.purefun.core.Tuple2;
 import com.github.tonivade.purefun.type.Option;
 
 public class ImmutableListTest {
@@ -113,6 +117,82 @@ public class ImmutableListTest {
     );
   }
 
+  @Test
+  public void builder() {
+    ImmutableList<Integer> list = ImmutableList.<Integer>builder().append(1).append(2).append(3).build();
+    ImmutableList<Integer> large = Range.of(0, 100_000).map(identity()).asList();
+
+    assertAll(
+        () -> assertEquals(listOf(1, 2, 3), list),
+        () -> assertSame(ImmutableList.empty(), ImmutableList.builder().build()),
+        () -> assertEquals(100_000, large.map(i -> i + 1).size()),
+        () -> assertEquals(Option.some(100_000), large.map(i -> i + 1).reverse().head()),
+        () -> assertEquals(listOf(3, 2, 1), list.reverse().stream().collect(toImmutableList())));
+  }
+
+  @Test
+  public void parallel() {
+    ImmutableList<Integer> large = Range.of(0, 100_000).map(identity()).asList();
+    ImmutableList<Integer> expected = large.map(i -> i * 2).filter(i -> i % 3 == 0).flatMap(i -> listOf(i, -i));
+
+    Pipeline<Integer, Integer> stateless = Pipeline.<Integer>identity().map(i -> i * 2).filter(i -> i % 3 == 0).flatMap(i -> listOf(i, -i));
+    Pipeline<Integer, Integer> stateful = stateless.take(10);
+
+    assertAll(
+        () -> assertTrue(stateless.isStateless()),
+        () -> assertFalse(stateful.isStateless()),
+        () -> assertEquals(expected, stateless.finish(Finisher.parallelToImmutableList(large))),
+        () -> assertEquals(expected, large.pipeline().map(i -> i * 2).filter(i -> i % 3 == 0).flatMap(i -> listOf(i, -i))
+            .finish(Finisher::parallelToImmutableList)),
+        () -> assertEquals(ImmutableSet.from(expected), stateless.finish(Finisher.parallelToImmutableSet(large))),
+        () -> assertEquals(expected.stream().mapToLong(i -> i).sum(), stateless.parallel(large, () -> 0L, (acc, i) -> acc + i, Long::sum, identity())),
+        () -> assertEquals(listOf(1, 2), Pipeline.<Integer>identity().finish(Finisher.parallelToImmutableList(listOf(1, 2)))),
+        () -> assertThrows(IllegalStateException.class, () -> stateful.finish(Finisher.parallelToImmutableList(large))),
+        () -> assertEquals(expected.stream().limit(10).collect(toImmutableList()), stateful.finish(Finisher.toImmutableList(large))));
+  }
+
+  @Test
+  public void reusablePipeline() throws InterruptedException {
+    Pipeline<Integer, Tuple2<Integer, Integer>> pipeline = Pipeline.<Integer>identity().distinct().drop(1).take(3).zipWithIndex();
+    ImmutableList<Integer> input = listOf(1, 1, 2, 3, 3, 4, 5, 6);
+    ImmutableList<Tuple2<Integer, Integer>> expected = listOf(Tuple.of(0, 2), Tuple.of(1, 3), Tuple.of(2, 4));
+
+    assertEquals(expected, pipeline.finish(Finisher.toImmutableList(input)));
+    assertEquals(expected, pipeline.finish(Finisher.toImmutableList(input)));
+
+    var results = new ConcurrentLinkedQueue<ImmutableList<Tuple2<Integer, Integer>>>();
+    var threads = new ArrayList<Thread>();
+    for (int i = 0; i < 8; i++) {
+      threads.add(Thread.ofPlatform().start(() -> {
+        for (int j = 0; j < 1000; j++) {
+          results.add(pipeline.finish(Finisher.toImmutableList(input)));
+        }
+      }));
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(8000, results.size());
+    assertTrue(results.stream().allMatch(expected::equals));
+  }
+
+  @Test
+  public void earlyTermination() {
+    ImmutableList<Integer> input = listOf(1, 2, 3, 4, 5, 6);
+    List<Integer> consumed = new ArrayList<>();
+
+    assertAll(
+        () -> assertEquals(listOf(1, 2, 3), input.pipeline().peek(consumed::add).take(3).toImmutableList()),
+        () -> assertEquals(List.of(1, 2, 3), consumed),
+        () -> assertEquals(ImmutableList.empty(), input.pipeline().take(0).toImmutableList()),
+        () -> assertEquals(listOf(0, 1, 3), input.pipeline().scan(0, Integer::sum).take(3).toImmutableList()),
+        () -> assertEquals(listOf(2, 2, 4), input.pipeline().flatMap(i -> listOf(i, i)).filter(i -> i % 2 == 0).take(3).toImmutableList()),
+        () -> assertEquals(Option.some(4), input.pipeline().filter(i -> i > 3).findFirst()),
+        () -> assertTrue(input.pipeline().anyMatch(i -> i == 6)),
+        () -> assertFalse(input.pipeline().allMatch(i -> i < 6)));
+  }
+
   @Test
   void serialization() throws IOException, ClassNotFoundException {
     ImmutableList<Integer> list = listOf(1, 2, 3, 4, 5);
@@ -49,7 +49,10 @@ public class ImmutableMapTest {
                                                  entry("b", "bbb"),
                                                  entry("c", "ccc")), map.entries()),
               () -> assertEquals(map, ImmutableMap.of(entry("a", "aaa")).putAll(ImmutableMap.of(entry("b", "bbb"), entry("c", "ccc")))),
-              () -> assertEquals(map, ImmutableMap.builder().put("a", "aaa").put("b", "bbb").put("c", "ccc").build())
+              () -> assertEquals(map, ImmutableMap.builder().put("a", "aaa").put("b", "bbb").put("c", "ccc").build()),
+              () -> assertEquals(map, ImmutableMap.<String, String>builder()
+                  .merge("a", "a", (a, b) -> a + b).merge("a", "aa", (a, b) -> a + b)
+                  .merge("b", "bbb", (a, b) -> a + b).merge("c", "ccc", (a, b) -> a + b).build())
               );
   }
 
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.data;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class PersistentVectorTest {
+
+  @Test
+  void appendAndGet() {
+    for (int size : new int[] { 0, 1, 31, 32, 33, 1024, 1056, 1057, 32768, 33000, 100_000 }) {
+      appendAndGet(size);
+    }
+  }
+
+  @Test
+  void bulkOperations() {
+    for (int size : new int[] { 1, 32, 33, 1057, 40_000 }) {
+      bulkOperations(size);
+    }
+  }
+
+  private static void appendAndGet(int size) {
+    PersistentVector<Integer> vector = PersistentVector.empty();
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      vector = vector.append(i);
+      expected.add(i);
+    }
+    PersistentVector<Integer> result = vector;
+
+    assertAll(
+        () -> assertEquals(size, result.size()),
+        () -> assertEquals(expected, toList(result)),
+        () -> assertEquals(result, PersistentVector.from(expected)),
+        () -> assertEquals(expected.hashCode(), result.hashCode()),
+        () -> assertEquals(expected.toString(), result.toString()),
+        () -> assertThrows(IndexOutOfBoundsException.class, () -> result.get(size)));
+
+    for (int i = 0; i < size; i++) {
+      assertEquals(i, result.get(i));
+    }
+  }
+
+  private static void bulkOperations(int size) {
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      expected.add(i);
+    }
+    PersistentVector<Integer> vector = PersistentVector.from(expected);
+    int middle = size / 2;
+
+    List<Integer> inserted = new ArrayList<>(expected);
+    inserted.addAll(middle, List.of(-1, -2));
+    List<Integer> removed = new ArrayList<>(expected);
+    removed.remove(middle);
+    List<Integer> replaced = new ArrayList<>(expected);
+    replaced.set(middle, -1);
+    List<Integer> appended = new ArrayList<>(expected);
+    appended.addAll(expected);
+
+    assertAll(
+        () -> assertEquals(inserted, toList(vector.insertAll(middle, List.of(-1, -2)))),
+        () -> assertEquals(removed, toList(vector.remove(middle))),
+        () -> assertEquals(replaced, toList(vector.with(middle, -1))),
+        () -> assertEquals(appended, toList(vector.appendAll(expected))),
+        () -> assertEquals(expected.subList(middle, size), toList(vector.slice(middle, size))),
+        () -> assertEquals(middle, vector.indexOf(middle)),
+        () -> assertEquals(-1, vector.indexOf(size)),
+        () -> assertEquals(expected, toList(vector.with(middle, -1).append(0).with(middle, middle).slice(0, size))));
+  }
+
+  private static <E> List<E> toList(PersistentVector<E> vector) {
+    List<E> list = new ArrayList<>();
+    vector.forEach(list::add);
+    List<E> iterated = new ArrayList<>();
+    vector.iterator().forEachRemaining(iterated::add);
+    assertEquals(list, iterated);
+    return list;
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.data;
+
+import static com.github.tonivade.purefun.data.Sequence.listOf;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tonivade.purefun.core.Tuple;
+import com.github.tonivade.purefun.type.Option;
+
+class PrimitivePipelineTest {
+
+  @Test
+  void intPipeline() {
+    ImmutableList<String> input = listOf("a", "bb", "ccc", "dd", "e");
+
+    assertAll(
+        () -> assertEquals(9, input.pipeline().mapToInt(String::length).sum()),
+        () -> assertEquals(Option.some(1), input.pipeline().mapToInt(String::length).min()),
+        () -> assertEquals(Option.some(3), input.pipeline().mapToInt(String::length).max()),
+        () -> assertEquals(Option.some(1.8), input.pipeline().mapToInt(String::length).average()),
+        () -> assertEquals(Option.none(), input.pipeline().filter(s -> s.length() > 5).mapToInt(String::length).max()),
+        () -> assertArrayEquals(new int[] { 2, 4, 6, 4, 2 }, input.pipeline().mapToInt(String::length).map(i -> i * 2).toIntArray()),
+        () -> assertArrayEquals(new int[] { 2, 3, 2 }, input.pipeline().mapToInt(String::length).filter(i -> i > 1).toIntArray()),
+        () -> assertArrayEquals(new int[] { 0, 1, 3, 6, 8, 9 }, input.pipeline().mapToInt(String::length).scan(0, Integer::sum).toIntArray()),
+        () -> assertEquals(ImmutableTreeMap.of(Tuple.of(1, 2L), Tuple.of(2, 2L), Tuple.of(3, 1L)), input.pipeline().mapToInt(String::length).histogram()),
+        () -> assertEquals(listOf(List.of(1, 2), List.of(3, 2)), input.pipeline().mapToInt(String::length).windowFixed(2)
+            .map(array -> List.of(array[0], array[1])).toImmutableList()),
+        () -> assertEquals(listOf("1", "2", "3", "2", "1"), input.pipeline().mapToInt(String::length).mapToObj(String::valueOf).toImmutableList()),
+        () -> assertEquals(5, input.pipeline().mapToInt(String::length).statistics().getCount()),
+        () -> assertEquals(3, input.pipeline().take(2).mapToInt(String::length).sum()));
+  }
+
+  @Test
+  void longAndDoublePipelines() {
+    ImmutableList<Long> input = listOf(Long.MAX_VALUE, 1L, 2L);
+
+    assertAll(
+        () -> assertEquals(Option.some(Long.MAX_VALUE), input.pipeline().mapToLong(Long::longValue).max()),
+        () -> assertEquals(3L, input.pipeline().mapToLong(Long::longValue).filter(l -> l < 10).sum()),
+        () -> assertArrayEquals(new long[] { 2L, 3L }, LongPipeline.identity().filter(l -> l < 10).map(l -> l + 1).toLongArray(input)),
+        () -> assertEquals(ImmutableTreeMap.of(Tuple.of(1L, 1L), Tuple.of(2L, 1L)), LongPipeline.identity().filter(l -> l < 10).histogram(input)),
+        () -> assertEquals(0.6, listOf(0.1, 0.2, 0.3).pipeline().mapToDouble(Double::doubleValue).sum(), 1e-15),
+        () -> assertEquals(Option.some(1.5), IntPipeline.identity().asDoublePipeline().map(d -> d / 2).max(listOf(1, 2, 3))),
+        () -> assertEquals(6L, IntPipeline.identity().asLongPipeline().sum(listOf(1, 2, 3))),
+        () -> assertEquals(ImmutableTreeMap.of(Tuple.of(0.0, 2L), Tuple.of(1.0, 1L)), listOf(0.1, 0.7, 1.2).pipeline().mapToDouble(Double::doubleValue).histogram(1.0)));
+  }
+
+  @Test
+  void statelessSteps() {
+    assertAll(
+        () -> assertTrue(IntPipeline.identity().map(i -> i + 1).filter(i -> i > 0).isStateless()),
+        () -> assertFalse(IntPipeline.identity().scan(0, Integer::sum).isStateless()),
+        () -> assertTrue(IntPipeline.identity().mapToObj(String::valueOf).isStateless()),
+        () -> assertFalse(IntPipeline.identity().windowFixed(2).isStateless()));
+  }
+}
@@ -45,6 +45,31 @@ public class RangeTest {
     );
   }
 
+  @Test
+  public void primitives() {
+    Range range = Range.of(1, 10);
+    Range reverse = range.reverse();
+    int[] counter = new int[1];
+
+    range.forEachInt(i -> counter[0] += i);
+
+    assertAll(
+        () -> assertEquals(45, counter[0]),
+        () -> assertEquals(45, range.sum()),
+        () -> assertEquals(45, reverse.sum()),
+        () -> assertEquals(46, range.foldLeft(1, Integer::sum)),
+        () -> assertEquals(9, reverse.get(0)),
+        () -> assertArrayEquals(new int[] { 2, 4, 6, 8, 10, 12, 14, 16, 18 }, range.mapToInt(i -> i * 2)),
+        () -> assertArrayEquals(new int[] { 9, 8, 7, 6, 5, 4, 3, 2, 1 }, reverse.toIntArray()),
+        () -> assertArrayEquals(reverse.toIntArray(), reverse.intStream().toArray()),
+        () -> assertEquals(arrayOf("1", "2", "3"), Range.of(1, 4).mapToObj(String::valueOf)),
+        () -> assertEquals(45, range.intIterator().next() + range.stream().skip(1).mapToInt(i -> i).sum()),
+        () -> assertEquals(0, Range.of(1, 1).sum()),
+        () -> assertThrows(IndexOutOfBoundsException.class, () -> range.get(-1)),
+        () -> assertThrows(IndexOutOfBoundsException.class, () -> range.get(range.size()))
+    );
+  }
+
   @Test
   public void validRange() {
     assertThrows(IllegalArgumentException.class, () -> Range.of(10, 1));
@@ -4,6 +4,7 @@
  */
 package com.github.tonivade.purefun.effect;
 
+import static com.github.tonivade.purefun.core.Function1.identity;
 import static com.github.tonivade.purefun.core.Function2.first;
 import static com.github.tonivade.purefun.core.Function2.second;
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
@@ -360,6 +361,25 @@ public final class EIO<E, A> implements EIOOf<E, A>, Effect<EIO<E, ?>, A> {
         (Kind<EIO<E, ?>, ? extends Sequence<A>> xs, Kind<EIO<E, ?>, ? extends A> a) -> parMap2(executor, xs, a, Sequence::append));
   }
 
+  public static <E, A> EIO<E, Sequence<A>> parSequenceN(int parallelism, Sequence<? extends Kind<EIO<E, ?>, A>> sequence) {
+    return parSequenceN(Future.DEFAULT_EXECUTOR, parallelism, sequence);
+  }
+
+  public static <E, A> EIO<E, Sequence<A>> parSequenceN(Executor executor, int parallelism, Sequence<? extends Kind<EIO<E, ?>, A>> sequence) {
+    return parTraverseN(executor, parallelism, sequence, identity());
+  }
+
+  public static <E, A, B> EIO<E, Sequence<B>> parTraverseN(int parallelism, Sequence<? extends A> values,
+      Function1<? super A, ? extends Kind<EIO<E, ?>, ? extends B>> mapper) {
+    return parTraverseN(Future.DEFAULT_EXECUTOR, parallelism, values, mapper);
+  }
+
+  public static <E, A, B> EIO<E, Sequence<B>> parTraverseN(Executor executor, int parallelism, Sequence<? extends A> values,
+      Function1<? super A, ? extends Kind<EIO<E, ?>, ? extends B>> mapper) {
+    return new EIO<>(PureIO.<Void, E, A, B>parTraverseN(executor, parallelism, values,
+        value -> mapper.andThen(EIOOf::toEIO).apply(value).instance));
+  }
+
   public static <E, A extends AutoCloseable, B> EIO<E, B> bracket(Kind<EIO<E, ?>, ? extends A> acquire,
       Function1<? super A, ? extends Kind<EIO<E, ?>, ? extends B>> use) {
     return new EIO<>(PureIO.bracket(acquire.fix(EIOOf::toEIO).instance,
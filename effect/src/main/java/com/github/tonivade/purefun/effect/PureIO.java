@@ -9,30 +9,36 @@ import static com.github.tonivade.purefun.core.Function2.first;
 import static com.github.tonivade.purefun.core.Function2.second;
 import static com.github.tonivade.purefun.core.Matcher1.always;
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import static com.github.tonivade.purefun.core.Precondition.checkPositive;
 import static com.github.tonivade.purefun.core.Producer.cons;
 
 import java.time.Duration;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.github.tonivade.purefun.HigherKind;
 import com.github.tonivade.purefun.Kind;
 import org.jspecify.annotations.Nullable;
+import com.github.tonivade.purefun.concurrent.AutoYield;
 import com.github.tonivade.purefun.concurrent.Future;
+import com.github.tonivade.purefun.concurrent.HashedWheelTimer;
+import com.github.tonivade.purefun.concurrent.ParTraverse;
 import com.github.tonivade.purefun.concurrent.Promise;
+import com.github.tonivade.purefun.core.CallStack;
 import com.github.tonivade.purefun.core.CheckedRunnable;
 import com.github.tonivade.purefun.core.Consumer1;
 import com.github.tonivade.purefun.core.Consumer2;
 import com.github.tonivade.purefun.core.Effect;
 import com.github.tonivade.purefun.core.Function1;
 import com.github.tonivade.purefun.core.Function2;
-import com.github.tonivade.purefun.core.Operator1;
+import com.github.tonivade.purefun.core.Function3;
 import com.github.tonivade.purefun.core.PartialFunction1;
 import com.github.tonivade.purefun.core.Producer;
-import com.github.tonivade.purefun.core.Recoverable;
 import com.github.tonivade.purefun.core.Tuple;
 import com.github.tonivade.purefun.core.Tuple2;
 import com.github.tonivade.purefun.core.Unit;
@@ -48,11 +54,11 @@ import com.github.tonivade.purefun.typeclasses.Fiber;
 public sealed interface PureIO<R, E, A> extends PureIOOf<R, E, A>, Effect<PureIO<R, E, ?>, A> {
 
   default Either<E, A> provide(@Nullable R env) {
-    return runAsync(env).getOrElseThrow();
+    return runSync(env, this).getOrElseThrow();
   }
 
   default Future<Either<E, A>> runAsync(@Nullable R env) {
-    return Future.from(runAsync(env, this, PureIOConnection.UNCANCELLABLE));
+    return Future.from(runAsync(env, this, PureIOConnection.UNCANCELLABLE, Future.DEFAULT_EXECUTOR));
   }
 
   default Future<Either<E, A>> runAsync(@Nullable R env, Executor executor) {
@@ -190,14 +196,18 @@ public sealed interface PureIO<R, E, A> extends PureIOOf<R, E, A>, Effect<PureIO
   }
 
   default PureIO<R, E, Fiber<PureIO<R, E, ?>, A>> fork() {
-    return async((env, callback) -> {
+    return new Async<>(null, (env, executor, callback) -> {
+      PureIOConnection parent = PureIOConnection.current();
       PureIOConnection connection = PureIOConnection.cancellable();
-      Promise<Either<E, A>> promise = runAsync(env, this, connection);
+      parent.link(connection);
+      Promise<Either<E, A>> promise = runAsync(env, this, connection, executor);
+      promise.onComplete(ignore -> parent.unlink(connection));
 
       PureIO<R, E, A> join = fromPromise(promise);
       PureIO<R, E, Unit> cancel = run(connection::cancel);
 
       callback.accept(Try.success(Either.right(Fiber.of(join, cancel))));
+      return PureIO.unit();
     });
   }
 
@@ -256,7 +266,10 @@ public sealed interface PureIO<R, E, A> extends PureIOOf<R, E, A>, Effect<PureIO
   }
 
   static <R, E> PureIO<R, E, Unit> forked(Executor executor) {
-    return async((env, callback) -> executor.execute(() -> callback.accept(Try.success(Either.right(Unit.unit())))));
+    return new Async<>(executor, (env, ignore, callback) -> {
+      executor.execute(() -> callback.accept(Try.success(Either.right(Unit.unit()))));
+      return PureIO.unit();
+    });
   }
 
   static <R, E, A, B, C> PureIO<R, E, C> parMap2(Kind<PureIO<R, E, ?>, ? extends A> za, Kind<PureIO<R, E, ?>, ? extends B> zb,
@@ -271,8 +284,8 @@ public sealed interface PureIO<R, E, A> extends PureIOOf<R, E, A>, Effect<PureIO
       PureIOConnection connection1 = PureIOConnection.cancellable();
       PureIOConnection connection2 = PureIOConnection.cancellable();
 
-      Promise<Either<E, A>> promiseA = runAsync(env, PureIO.<R, E>forked(executor).andThen(za), connection1);
-      Promise<Either<E, B>> promiseB = runAsync(env, PureIO.<R, E>forked(executor).andThen(zb), connection2);
+      Promise<Either<E, A>> promiseA = runAsync(env, PureIO.<R, E>forked(executor).andThen(za), connection1, executor);
+      Promise<Either<E, B>> promiseB = runAsync(env, PureIO.<R, E>forked(executor).andThen(zb), connection2, executor);
 
       promiseA.onComplete(a -> promiseB.onComplete(
         b -> callback.accept(Try.map2(a, b, (e1, e2) -> EitherOf.toEither(Either.map2(e1, e2, mapper))))));
@@ -304,8 +317,8 @@ public sealed interface PureIO<R, E, A> extends PureIOOf<R, E, A>, Effect<PureIO
       PureIOConnection connection1 = PureIOConnection.cancellable();
       PureIOConnection connection2 = PureIOConnection.cancellable();
 
-      Promise<Either<E, A>> promiseA = runAsync(env, PureIO.<R, E>forked(executor).andThen(fa), connection1);
-      Promise<Either<E, B>> promiseB = runAsync(env, PureIO.<R, E>forked(executor).andThen(fb), connection2);
+      Promise<Either<E, A>> promiseA = runAsync(env, PureIO.<R, E>forked(executor).andThen(fa), connection1, executor);
+      Promise<Either<E, B>> promiseB = runAsync(env, PureIO.<R, E>forked(executor).andThen(fb), connection2, executor);
 
       promiseA.onComplete(result -> {
         PureIO<R, E, B> fromPromiseB = PureIO.fromPromise(promiseB);
@@ -417,7 +430,7 @@ public sealed interface PureIO<R, E, A> extends PureIOOf<R, E, A>, Effect<PureIO
   }
 
   static <R, E, A> PureIO<R, E, A> cancellable(Function2<R, Consumer1<? super Try<? extends Either<E, ? extends A>>>, PureIO<R, ?, Unit>> consumer) {
-    return new Async<>(consumer);
+    return new Async<>(null, (env, executor, callback) -> consumer.apply(env, callback));
   }
 
   static <R, E, A> PureIO<R, E, A> raiseError(E error) {
@@ -437,10 +450,10 @@ public sealed interface PureIO<R, E, A> extends PureIOOf<R, E, A>, Effect<PureIO
   }
 
   static <R, E> PureIO<R, E, Unit> sleep(Executor executor, Duration delay) {
-    return cancellable((env, callback) -> {
-      Future<Unit> sleep = Future.sleep(executor, delay)
-        .onComplete(result -> callback.accept(Try.success(Either.right(Unit.unit()))));
-      return PureIO.exec(() -> sleep.cancel(true));
+    return new Async<>(executor, (env, ignore, callback) -> {
+      HashedWheelTimer.Timeout timeout = HashedWheelTimer.DEFAULT.schedule(delay,
+          () -> executor.execute(() -> callback.accept(Try.success(Either.right(Unit.unit())))));
+      return PureIO.exec(timeout::cancel);
     });
   }
 
@@ -453,6 +466,37 @@ public sealed interface PureIO<R, E, A> extends PureIOOf<R, E, A>, Effect<PureIO
         (Kind<PureIO<R, E, ?>, Sequence<A>> xs, Kind<PureIO<R, E, ?>, A> a) -> parMap2(executor, xs, a, Sequence::append));
   }
 
+  static <R, E, A> PureIO<R, E, Sequence<A>> parSequenceN(int parallelism, Sequence<? extends Kind<PureIO<R, E, ?>, A>> sequence) {
+    return parSequenceN(Future.DEFAULT_EXECUTOR, parallelism, sequence);
+  }
+
+  static <R, E, A> PureIO<R, E, Sequence<A>> parSequenceN(Executor executor, int parallelism, Sequence<? extends Kind<PureIO<R, E, ?>, A>> sequence) {
+    return parTraverseN(executor, parallelism, sequence, identity());
+  }
+
+  static <R, E, A, B> PureIO<R, E, Sequence<B>> parTraverseN(int parallelism, Sequence<? extends A> values,
+      Function1<? super A, ? extends Kind<PureIO<R, E, ?>, ? extends B>> mapper) {
+    return parTraverseN(Future.DEFAULT_EXECUTOR, parallelism, values, mapper);
+  }
+
+  static <R, E, A, B> PureIO<R, E, Sequence<B>> parTraverseN(Executor executor, int parallelism, Sequence<? extends A> values,
+      Function1<? super A, ? extends Kind<PureIO<R, E, ?>, ? extends B>> mapper) {
+    checkPositive(parallelism);
+    checkNonNull(values);
+    checkNonNull(mapper);
+    return cancellable((env, callback) -> {
+      ParTraverse<A, Either<E, B>, PureIOConnection> traverse = ParTraverse.<A, Either<E, B>, PureIOConnection>start(
+          parallelism, values, PureIOConnection::cancellable, PureIOConnection::cancel,
+          (value, connection) -> runAsync(env,
+              PureIO.<R, E>forked(executor).andThen(PureIO.<R, E, B>defer(() -> Kind.narrowK(mapper.apply(value)))), connection, executor),
+          Either::isLeft,
+          result -> callback.accept(result.map(either -> either.fold(
+              left -> Either.<E, Sequence<B>>left(left.getLeft()),
+              rights -> Either.<E, Sequence<B>>right(rights.map(Either::getRight))))));
+      return PureIO.exec(traverse::cancel);
+    });
+  }
+
   static <R, E, A extends AutoCloseable, B> PureIO<R, E, B> bracket(Kind<PureIO<R, E, ?>, ? extends A> acquire,
                                                                  Function1<? super A, ? extends Kind<PureIO<R, E, ?>, ? extends B>> use) {
     return bracket(acquire, use, AutoCloseable::close);
@@ -468,11 +512,11 @@ public sealed interface PureIO<R, E, A> extends PureIOOf<R, E, A>, Effect<PureIO
                                            Function1<? super A, ? extends Kind<PureIO<R, E, ?>, ? extends B>> use,
                                            Function1<? super A, ? extends Kind<PureIO<R, E, ?>, Unit>> release) {
     // TODO: cancel
-    return cancellable((env, callback) -> {
+    return new Async<>(null, (env, executor, callback) -> {
 
       PureIOConnection cancellable = PureIOConnection.cancellable();
 
-      Promise<Either<E, A>> promise = runAsync(env, acquire.fix(Kind::narrowK), cancellable);
+      Promise<Either<E, A>> promise = runAsync(env, acquire.fix(Kind::narrowK), cancellable, executor);
 
       promise
         .onFailure(e -> callback.accept(Try.failure(e)))
@@ -480,13 +524,13 @@ public sealed interface PureIO<R, E, A> extends PureIOOf<R, E, A>, Effect<PureIO
           callback.accept(Try.success(Either.left(error)));
           return Unit.unit();
         }, resource -> {
-          Promise<Either<E, B>> runAsync = runAsync(env, use.apply(resource).fix(Kind::narrowK), cancellable);
+          Promise<Either<E, B>> runAsync = runAsync(env, use.apply(resource).fix(Kind::narrowK), cancellable, executor);
 
           runAsync
             .onFailure(e -> callback.accept(Try.failure(e)))
             .onSuccess(result -> {
 
-              Promise<Either<E, Unit>> run = runAsync(env, release.apply(resource), cancellable);
+              Promise<Either<E, Unit>> run = runAsync(env, release.apply(resource), PureIOConnection.UNCANCELLABLE, executor);
 
               run.onComplete(ignore -> result.fold(error -> {
                 callback.accept(Try.success(Either.left(error)));
@@ -510,107 +554,198 @@ public sealed interface PureIO<R, E, A> extends PureIOOf<R, E, A>, Effect<PureIO
 
   PureIO<?, ?, Unit> UNIT = PureIO.pure(Unit.unit());
 
-  private static <R, E, A> Promise<Either<E, A>> runAsync(@Nullable R env, Kind<PureIO<R, E, ?>, A> current, PureIOConnection connection) {
-    return runAsync(env, current, connection, new CallStack<>(), Promise.make());
+  private static <R, E, A> Promise<Either<E, A>> runAsync(
+      @Nullable R env, Kind<PureIO<R, E, ?>, A> current, PureIOConnection connection, Executor executor) {
+    return runAsync(env, narrow(current), connection, executor, new CallStack<>(), Promise.make());
   }
 
+  // the executor is the one where the run loop is running, auto yield and child fibers use it
   @SuppressWarnings("unchecked")
-  private static <R, E, F, G, A, B, C> Promise<Either<E, A>> runAsync(
-      @Nullable R env, Kind<PureIO<R, E, ?>, A> current, PureIOConnection connection, CallStack<R, E, A> stack, Promise<Either<E, A>> promise) {
-    while (true) {
-      try {
-        current = unwrap(env, current, stack, identity());
+  private static <R, E, A> Promise<Either<E, A>> runAsync(
+      @Nullable R env, PureIO<R, ?, ?> current, PureIOConnection connection, Executor executor,
+      CallStack<PureIO<R, ?, ?>> stack, Promise<Either<E, A>> promise) {
+    PureIOConnection previous = PureIOConnection.enter(connection);
+    try {
+      PureIO<R, ?, ?> result = evaluate(env, current, connection, executor, stack, AutoYield.threshold());
+      if (result instanceof Async<R, ?, ?> async) {
+        return continueAsync(env, async, connection, executor, stack, promise);
+      }
+      if (result instanceof Pure<R, ?, ?> pure) {
+        return promise.succeeded(Either.right((A) pure.value));
+      }
+      if (result instanceof Failure<R, ?, ?> failure) {
+        return promise.succeeded(Either.left((E) failure.error));
+      }
+      if (result instanceof Throw<R, ?, ?> throwError) {
+        return promise.failed(throwError.error);
+      }
+      return promise.cancel();
+    } finally {
+      PureIOConnection.exit(connection, previous);
+    }
+  }
 
-        if (current instanceof Pure<R, E, A> pure) {
-          return promise.succeeded(Either.right(pure.value));
-        }
+  // same as runAsync but without promise, falls back to runAsync when an async node is found
+  @SuppressWarnings("unchecked")
+  private static <R, E, A> Try<Either<E, A>> runSync(@Nullable R env, PureIO<R, E, A> program) {
+    CallStack<PureIO<R, ?, ?>> stack = new CallStack<>();
+    PureIO<R, ?, ?> result = evaluate(env, program, PureIOConnection.UNCANCELLABLE, Future.DEFAULT_EXECUTOR, stack, 0);
+    if (result instanceof Async<R, ?, ?> async) {
+      return runAsync(env, async, PureIOConnection.UNCANCELLABLE, Future.DEFAULT_EXECUTOR, stack,
+          Promise.<Either<E, A>>make()).await();
+    }
+    if (result instanceof Pure<R, ?, ?> pure) {
+      return Try.success(Either.right((A) pure.value));
+    }
+    if (result instanceof Failure<R, ?, ?> failure) {
+      return Try.success(Either.left((E) failure.error));
+    }
+    if (result instanceof Throw<R, ?, ?> throwError) {
+      return Try.failure(throwError.error);
+    }
+    throw new IllegalStateException("uncancellable program cancelled: " + program);
+  }
 
-        if (current instanceof Failure<R, E, A> failure) {
-          return promise.succeeded(Either.left(failure.error));
+  // run loop shared by runAsync and runSync, it returns a Pure, a Failure or a Throw when the program ends, the
+  // async node when it finds one, with the rest of the program in the stack, or null when the connection is cancelled
+  @SuppressWarnings("unchecked")
+  private static <R> @Nullable PureIO<R, ?, ?> evaluate(
+      @Nullable R env, PureIO<R, ?, ?> current, PureIOConnection connection, Executor executor,
+      CallStack<PureIO<R, ?, ?>> stack, int threshold) {
+    int steps = 0;
+    try {
+      while (true) {
+        if (connection.isCancelled()) {
+          return null;
         }
-
-        if (current instanceof Async<R, E, A> async) {
-          return executeAsync(env, async, connection, promise);
+        if (threshold > 0 && ++steps >= threshold) {
+          PureIO<R, ?, ?> next = current;
+          stack.push(new FlatMapped<R, Object, Unit, Object, Object>(PureIO.unit(), PureIO::raiseError, ignore -> (PureIO<R, Object, Object>) next));
+          return PureIO.<R, Object>yieldNow(executor);
         }
+        try {
+          if (current instanceof FlatMapped<R, ?, ?, ?, ?> flatMapped) {
+            var next = (FlatMapped<R, Object, Object, ?, ?>) flatMapped;
+            if (next.current instanceof Pure<R, ?, ?> pure) {
+              current = narrow(next.next.apply(pure.value));
+            } else if (next.current instanceof Failure<R, ?, ?> failure) {
+              current = narrow(next.nextError.apply(failure.error));
+            } else {
+              stack.push(flatMapped);
+              current = narrow(flatMapped.current);
+            }
+            continue;
+          }
 
-        if (current instanceof FlatMapped) {
-          stack.push();
-
-          var flatMapped = (FlatMapped<R, F, B, E, A>) current;
-          Kind<PureIO<R, F, ?>, B> source = unwrap(env, flatMapped.current, stack,
-              b -> b.fix(PureIOOf::toPureIO).foldM(flatMapped.nextError, flatMapped.next));
-
-          if (source instanceof Async<R, F, B> async) {
-            Promise<Either<F, B>> nextPromise = Promise.make();
+          if (current instanceof Recover<R, ?, ?> recover) {
+            stack.push(recover);
+            current = recover.current;
+            continue;
+          }
 
-            nextPromise.then(either -> {
-              PureIO<R, E, A> fold = either.fold(
-                  error -> flatMapped.nextError.apply(error).fix(PureIOOf::toPureIO),
-                  value -> flatMapped.next.apply(value).fix(PureIOOf::toPureIO));
-              runAsync(env, fold, connection, stack, promise);
-            });
+          if (current instanceof Suspend<R, ?, ?> suspend) {
+            current = narrow(suspend.lazy.get());
+            continue;
+          }
 
-            executeAsync(env, async, connection, nextPromise);
+          if (current instanceof AccessM<R, ?, ?> accessM) {
+            current = narrow(accessM(env, accessM));
+            continue;
+          }
 
-            return promise;
+          if (current instanceof Throw<R, ?, ?> throwError) {
+            Recover<R, ?, ?> recover = unwind(stack, throwError.error);
+            if (recover == null) {
+              return throwError;
+            }
+            current = recover.mapper.apply(throwError.error);
+            continue;
           }
 
-          if (source instanceof Pure<R, F, B> pure) {
-            current = flatMapped.next.apply(pure.value).fix(PureIOOf::toPureIO);
-          } else if (source instanceof Failure<R, F, B> failure) {
-            current = flatMapped.nextError.apply(failure.error).fix(PureIOOf::toPureIO);
-          } else if (source instanceof FlatMapped) {
-            FlatMapped<R, G, C, F, B> flatMapped2 = (FlatMapped<R, G, C, F, B>) source;
+          if (current instanceof Async<R, ?, ?> async) {
+            return async;
+          }
 
-            current = flatMapped2.current.fix(PureIOOf::toPureIO).foldM(
-                e -> flatMapped2.nextError.apply(e).fix(PureIOOf::toPureIO).foldM(flatMapped.nextError, flatMapped.next),
-                a -> flatMapped2.next.apply(a).fix(PureIOOf::toPureIO).foldM(flatMapped.nextError, flatMapped.next));
+          Either<?, ?> result;
+          if (current instanceof Pure<R, ?, ?> pure) {
+            result = Either.right(pure.value);
+          } else if (current instanceof Failure<R, ?, ?> failure) {
+            result = Either.left(failure.error);
+          } else if (current instanceof Delay<R, ?, ?> delay) {
+            result = delay.task.get();
+          } else if (current instanceof Attempt<R, ?, ?> attempt) {
+            result = attempt.current.liftEither().get();
+          } else {
+            throw new IllegalStateException("not supported: " + current);
           }
-        } else {
-          stack.pop();
-        }
-      } catch (Throwable error) {
-        Option<PureIO<R, E, A>> result = stack.tryHandle(error);
 
-        if (result.isPresent()) {
-          current = result.getOrElseThrow();
-        } else {
-          return promise.failed(error);
+          PureIO<R, ?, ?> next = null;
+          while (next == null) {
+            PureIO<R, ?, ?> frame = stack.pop();
+            if (frame == null) {
+              return result.isRight() ? new Pure<>(result.getRight()) : new Failure<>(result.getLeft());
+            }
+            if (frame instanceof FlatMapped<R, ?, ?, ?, ?> flatMapped) {
+              var fold = (FlatMapped<R, Object, Object, ?, ?>) flatMapped;
+              next = narrow(result.isRight() ?
+                  fold.next.apply(result.getRight()) : fold.nextError.apply(result.getLeft()));
+            }
+          }
+          current = next;
+        } catch (Throwable error) {
+          if (connection.isCancelled()) {
+            return null;
+          }
+          current = new Throw<>(error);
         }
       }
+    } finally {
+      AutoYield.record(steps);
     }
   }
 
+  // runs the async node, and when it completes the run loop continues with the rest of the program in the stack
   @SuppressWarnings("unchecked")
-  private static <R, E, F, A, B> Kind<PureIO<R, E, ?>, A> unwrap(
-      @Nullable R env, Kind<PureIO<R, E, ?>, A> current, CallStack<R, F, B> stack,
-      Function1<Kind<PureIO<R, E, ?>, ? extends A>, Kind<PureIO<R, F, ?>, ? extends B>> next) {
+  private static <R, E, A> Promise<Either<E, A>> continueAsync(
+      @Nullable R env, Async<R, ?, ?> async, PureIOConnection connection, Executor executor,
+      CallStack<PureIO<R, ?, ?>> stack, Promise<Either<E, A>> promise) {
+    if (stack.isEmpty()) {
+      return executeAsync(env, (Async<R, E, A>) async, connection, executor, promise);
+    }
+
+    // the continuation is completed in the executor of the run loop, or the one the async node shifts to
+    Executor next = async.executor != null ? async.executor : executor;
+    Promise<Either<Object, Object>> nextPromise = Promise.make(next);
+    nextPromise.onComplete(result -> runAsync(env,
+        result.<PureIO<R, ?, ?>>fold(PureIO::throwError, either -> either.fold(PureIO::raiseError, PureIO::pure)),
+        connection, next, stack, promise));
+
+    executeAsync(env, (Async<R, Object, Object>) async, connection, executor, nextPromise);
+
+    return promise;
+  }
+
+  // the rest of the program is submitted to the executor of the run loop, so other tasks can run in this thread
+  private static <R, E> PureIO<R, E, Unit> yieldNow(Executor executor) {
+    return new Async<>(executor, (env, ignore, callback) -> {
+      AutoYield.yieldNow(executor, () -> callback.accept(Try.success(Either.right(Unit.unit()))));
+      return PureIO.unit();
+    });
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <R> PureIO<R, ?, ?> narrow(Kind<?, ?> value) {
+    return (PureIO<R, ?, ?>) value;
+  }
+
+  private static <R> @Nullable Recover<R, ?, ?> unwind(CallStack<PureIO<R, ?, ?>> stack, Throwable error) {
     while (true) {
-      if (current instanceof Failure) {
-        return current;
-      } else if (current instanceof Pure) {
-        return current;
-      } else if (current instanceof FlatMapped) {
-        return current;
-      } else if (current instanceof Async) {
-        return current;
-      } else if (current instanceof Throw<R, E, A> throwError) {
-        return stack.sneakyThrow(throwError.error);
-      } else if (current instanceof Recover<R, E, A> recover) {
-        stack.add(recover.mapper.andThen(next));
-        current = (PureIO<R, E, A>) recover.current;
-      } else if (current instanceof AccessM<R, E, A> accessM) {
-        current = accessM(env, accessM);
-      } else if (current instanceof Suspend<R, E, A> suspend) {
-        current = suspend.lazy.get().fix(PureIOOf::toPureIO);
-      } else if (current instanceof Delay<R, E, A> delay) {
-        Either<E, ? extends A> value = delay.task.get();
-        return value.fold(PureIO::raiseError, PureIO::pure);
-      } else if (current instanceof Attempt<R, E, A> attempt) {
-        Either<E, ? extends A> either = (Either<E, ? extends A>) attempt.current.liftEither().get();
-        return either.fold(PureIO::raiseError, PureIO::pure);
-      } else {
-        throw new IllegalStateException("not supported: " + current);
+      PureIO<R, ?, ?> frame = stack.pop();
+      if (frame == null) {
+        return null;
+      }
+      if (frame instanceof Recover<R, ?, ?> recover && recover.mapper.isDefinedAt(error)) {
+        return recover;
       }
     }
   }
@@ -620,26 +755,29 @@ public sealed interface PureIO<R, E, A> extends PureIOOf<R, E, A>, Effect<PureIO
     return accessM.function.apply(env).fix(PureIOOf::toPureIO);
   }
 
-  private static <R, E, A> Promise<Either<E, A>> executeAsync(@Nullable R env, Async<R, E, A> current, PureIOConnection connection, Promise<Either<E, A>> promise) {
-    if (connection.isCancellable() && !connection.updateState(StateIO::startingNow).isRunnable()) {
-      return promise.cancel();
+  private static <R, E, A> Promise<Either<E, A>> executeAsync(
+      @Nullable R env, Async<R, E, A> current, PureIOConnection connection, Executor executor, Promise<Either<E, A>> promise) {
+    if (!connection.isCancellable()) {
+      startAsync(env, current, executor, promise);
+      return promise;
     }
 
-    setCancelToken(env, current, connection, promise);
+    PureIOConnection.CancelToken token = new PureIOConnection.CancelToken();
+    if (!connection.register(token)) {
+      return promise.cancel();
+    }
 
-    promise.thenRun(() -> connection.setCancelToken(UNIT));
+    token.set(startAsync(env, current, executor, promise));
 
-    if (connection.isCancellable() && connection.updateState(StateIO::notStartingNow).isCancellingNow()) {
-      connection.cancelNow();
-    }
+    promise.onComplete(ignore -> token.complete());
 
     return promise;
   }
 
   @SuppressWarnings("NullAway")
-  private static <R, E, A> void setCancelToken(
-      @Nullable R env, Async<R, E, A> current, PureIOConnection connection, Promise<Either<E, A>> promise) {
-    connection.setCancelToken(current.callback.apply(env, result -> promise.tryComplete(result.map(EitherOf::toEither))));
+  private static <R, E, A> PureIO<R, ?, Unit> startAsync(
+      @Nullable R env, Async<R, E, A> current, Executor executor, Promise<Either<E, A>> promise) {
+    return current.callback.apply(env, executor, result -> promise.tryComplete(result.map(EitherOf::toEither)));
   }
 
   final class Pure<R, E, A> implements PureIO<R, E, A> {
@@ -734,9 +872,14 @@ public sealed interface PureIO<R, E, A> extends PureIOOf<R, E, A>, Effect<PureIO
 
   final class Async<R, E, A> implements PureIO<R, E, A> {
 
-    private final Function2<R, Consumer1<? super Try<? extends Either<E, ? extends A>>>, PureIO<R, ?, Unit>> callback;
+    // executor where the run loop continues after the callback, if null it stays in the current one
+    private final @Nullable Executor executor;
+    // the callback receives the executor of the run loop
+    private final Function3<R, Executor, Consumer1<? super Try<? extends Either<E, ? extends A>>>, PureIO<R, ?, Unit>> callback;
 
-    private Async(Function2<R, Consumer1<? super Try<? extends Either<E, ? extends A>>>, PureIO<R, ?, Unit>> callback) {
+    private Async(@Nullable Executor executor,
+        Function3<R, Executor, Consumer1<? super Try<? extends Either<E, ? extends A>>>, PureIO<R, ?, Unit>> callback) {
+      this.executor = executor;
       this.callback = checkNonNull(callback);
     }
 
@@ -813,20 +956,93 @@ sealed interface PureIOConnection {
 
   PureIOConnection UNCANCELLABLE = new Uncancellable();
 
+  // connection of the innermost cancellable run loop of every thread, only this one can be interrupted
+  ThreadLocal<PureIOConnection> CURRENT = new ThreadLocal<>();
+
   boolean isCancellable();
 
-  void setCancelToken(PureIO<?, ?, Unit> cancel);
+  boolean isCancelled();
 
-  void cancelNow();
+  void attach();
 
-  void cancel();
+  void detach();
+
+  void link(PureIOConnection child);
 
-  StateIO updateState(Operator1<StateIO> update);
+  void unlink(PureIOConnection child);
+
+  // registers the token of the async node that starts now, returns false if the connection is already cancelled
+  boolean register(CancelToken token);
+
+  void cancel();
 
   static PureIOConnection cancellable() {
     return new Cancellable();
   }
 
+  static PureIOConnection current() {
+    PureIOConnection current = CURRENT.get();
+    return current != null ? current : UNCANCELLABLE;
+  }
+
+  static @Nullable PureIOConnection enter(PureIOConnection connection) {
+    PureIOConnection previous = CURRENT.get();
+    // an uncancellable run loop is only installed to detach the cancellable one running in the same thread
+    if (previous != connection && (previous != null || connection.isCancellable())) {
+      if (previous != null) {
+        previous.detach();
+      }
+      connection.attach();
+      CURRENT.set(connection);
+    }
+    return previous;
+  }
+
+  static void exit(PureIOConnection connection, @Nullable PureIOConnection previous) {
+    if (previous != connection && (previous != null || connection.isCancellable())) {
+      connection.detach();
+      if (previous != null) {
+        previous.attach();
+        CURRENT.set(previous);
+      } else {
+        CURRENT.remove();
+      }
+    }
+  }
+
+  // cancel token of an async node, if the node is cancelled before the callback returns the token, the token
+  // is run as soon as it's set, and it's never run once the node is completed
+  final class CancelToken {
+
+    private static final Object STARTING = new Object();
+    private static final Object COMPLETED = new Object();
+    private static final Object CANCELLED = new Object();
+
+    private final AtomicReference<Object> state = new AtomicReference<>(STARTING);
+
+    void set(PureIO<?, ?, Unit> token) {
+      if (state.compareAndExchange(STARTING, token) == CANCELLED) {
+        run(token);
+      }
+    }
+
+    void complete() {
+      state.set(COMPLETED);
+    }
+
+    @SuppressWarnings("unchecked")
+    void cancel() {
+      Object current = state.getAndSet(CANCELLED);
+      if (current != STARTING && current != COMPLETED && current != CANCELLED) {
+        run((PureIO<?, ?, Unit>) current);
+      }
+    }
+
+    private static void run(PureIO<?, ?, Unit> token) {
+      token.runAsync(null);
+    }
+  }
+
   final class Uncancellable implements PureIOConnection {
 
     private Uncancellable() { }
@@ -837,30 +1053,50 @@ sealed interface PureIOConnection {
     }
 
     @Override
-    public void setCancelToken(PureIO<?, ?, Unit> cancel) {
+    public boolean isCancelled() {
+      return false;
+    }
+
+    @Override
+    public void attach() {
       /* nothing to do */
     }
 
     @Override
-    public void cancelNow() {
+    public void detach() {
       /* nothing to do */
     }
 
     @Override
-    public void cancel() {
+    public void link(PureIOConnection child) {
+      /* nothing to do */
+    }
+
+    @Override
+    public void unlink(PureIOConnection child) {
       /* nothing to do */
     }
 
     @Override
-    public StateIO updateState(Operator1<StateIO> update) {
-      return StateIO.INITIAL;
+    public boolean register(CancelToken token) {
+      return true;
+    }
+
+    @Override
+    public void cancel() {
+      /* nothing to do */
     }
   }
 
   final class Cancellable implements PureIOConnection {
 
-    private PureIO<?, ?, Unit> cancelToken = PureIO.UNIT;
-    private final AtomicReference<StateIO> state = new AtomicReference<>(StateIO.INITIAL);
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    @Nullable
+    private volatile CancelToken token;
+    private final ReentrantLock lock = new ReentrantLock();
+    @Nullable
+    private Thread thread;
+    private final List<PureIOConnection> children = new ArrayList<>();
 
     private Cancellable() { }
 
@@ -870,153 +1106,100 @@ sealed interface PureIOConnection {
     }
 
     @Override
-    public void setCancelToken(PureIO<?, ?, Unit> cancel) {
-      this.cancelToken = checkNonNull(cancel);
+    public boolean isCancelled() {
+      return cancelled.get();
     }
 
     @Override
-    public void cancelNow() {
-      cancelToken.runAsync(null);
+    public void attach() {
+      lock.lock();
+      try {
+        thread = Thread.currentThread();
+      } finally {
+        lock.unlock();
+      }
     }
 
     @Override
-    public void cancel() {
-      if (state.getAndUpdate(StateIO::cancellingNow).isCancelable()) {
-        cancelNow();
-
-        state.set(StateIO.CANCELLED);
+    public void detach() {
+      lock.lock();
+      try {
+        if (thread == Thread.currentThread()) {
+          thread = null;
+          if (isCancelled()) {
+            // clear the interruption used to stop the run loop
+            Thread.interrupted();
+          }
+        }
+      } finally {
+        lock.unlock();
       }
     }
 
     @Override
-    public StateIO updateState(Operator1<StateIO> update) {
-      return state.updateAndGet(update);
+    public void link(PureIOConnection child) {
+      lock.lock();
+      try {
+        if (!isCancelled()) {
+          children.add(child);
+          return;
+        }
+      } finally {
+        lock.unlock();
+      }
+      child.cancel();
     }
-  }
-}
-
-record StateIO(boolean isCancelled, boolean isCancellingNow, boolean isStartingNow) {
 
-  static final StateIO INITIAL = new StateIO(false, false, false);
-  static final StateIO CANCELLED = new StateIO(true, false, false);
-
-  StateIO cancellingNow() {
-    return new StateIO(isCancelled, true, isStartingNow);
-  }
-
-  StateIO startingNow() {
-    return new StateIO(isCancelled, isCancellingNow, true);
-  }
-
-  StateIO notStartingNow() {
-    return new StateIO(isCancelled, isCancellingNow, false);
-  }
-
-  boolean isCancelable() {
-    return !isCancelled && !isCancellingNow && !isStartingNow;
-  }
-
-  boolean isRunnable() {
-    return !isCancelled && !isCancellingNow;
-  }
-}
-
-final class CallStack<R, E, A> implements Recoverable {
-
-  @Nullable
-  private StackItem<R, E, A> top = new StackItem<>();
-
-  public void push() {
-    if (top != null) {
-      top.push();
+    @Override
+    public void unlink(PureIOConnection child) {
+      lock.lock();
+      try {
+        children.remove(child);
+      } finally {
+        lock.unlock();
+      }
     }
-  }
 
-  public void pop() {
-    if (top == null) {
-      return;
-    }
-    if (top.count() > 0) {
-      top.pop();
-    } else {
-      top = top.prev();
+    @Override
+    public boolean register(CancelToken token) {
+      this.token = token;
+      return !isCancelled();
     }
-  }
 
-  public void add(PartialFunction1<? super Throwable, ? extends Kind<PureIO<R, E, ?>, ? extends A>> mapError) {
-    if (top == null) {
-      return;
-    }
-    if (top.count() > 0) {
-      top.pop();
-      top = new StackItem<>(top);
+    @Override
+    public void cancel() {
+      if (cancelled.compareAndSet(false, true)) {
+        CancelToken current = token;
+        if (current != null) {
+          current.cancel();
+        }
+        interrupt();
+        cancelChildren();
+      }
     }
-    top.add(mapError);
-  }
-
-  public Option<PureIO<R, E, A>> tryHandle(Throwable error) {
-    while (top != null) {
-      top.reset();
-      Option<PureIO<R, E, A>> result = top.tryHandle(error);
 
-      if (result.isPresent()) {
-        return result;
-      } else {
-        top = top.prev();
+    private void cancelChildren() {
+      List<PureIOConnection> copy;
+      lock.lock();
+      try {
+        copy = List.copyOf(children);
+        children.clear();
+      } finally {
+        lock.unlock();
       }
+      copy.forEach(PureIOConnection::cancel);
     }
-    return Option.none();
-  }
-}
-
-final class StackItem<R, E, A> {
 
-  private int count = 0;
-  private final Deque<PartialFunction1<? super Throwable, ? extends Kind<PureIO<R, E, ?>, ? extends A>>> recover = new ArrayDeque<>();
-
-  @Nullable
-  private final StackItem<R, E, A> prev;
-
-  public StackItem() {
-    this(null);
-  }
-
-  public StackItem(@Nullable StackItem<R, E, A> prev) {
-    this.prev = prev;
-  }
-
-  @Nullable
-  public StackItem<R, E, A> prev() {
-    return prev;
-  }
-
-  public int count() {
-    return count;
-  }
-
-  public void push() {
-    count++;
-  }
-
-  public void pop() {
-    count--;
-  }
-
-  public void reset() {
-    count = 0;
-  }
-
-  public void add(PartialFunction1<? super Throwable, ? extends Kind<PureIO<R, E, ?>, ? extends A>> mapError) {
-    recover.addFirst(mapError);
-  }
-
-  public Option<PureIO<R, E, A>> tryHandle(Throwable error) {
-    while (!recover.isEmpty()) {
-      var mapError = recover.removeFirst();
-      if (mapError.isDefinedAt(error)) {
-        return Option.some(mapError.andThen(PureIOOf::<R, E, A>toPureIO).apply(error));
+    private void interrupt() {
+      lock.lock();
+      try {
+        Thread current = thread;
+        if (current != null && current != Thread.currentThread()) {
+          current.interrupt();
+        }
+      } finally {
+        lock.unlock();
       }
     }
-    return Option.none();
   }
-}
\ No newline at end of file
+}
@@ -365,6 +365,25 @@ public final class RIO<R, A> implements RIOOf<R, A>, Effect<RIO<R, ?>, A>, Recov
         (Kind<RIO<R, ?>, Sequence<A>> xs, Kind<RIO<R, ?>, A> a) -> parMap2(executor, xs, a, Sequence::append));
   }
 
+  public static <R, A> RIO<R, Sequence<A>> parSequenceN(int parallelism, Sequence<? extends Kind<RIO<R, ?>, A>> sequence) {
+    return parSequenceN(Future.DEFAULT_EXECUTOR, parallelism, sequence);
+  }
+
+  public static <R, A> RIO<R, Sequence<A>> parSequenceN(Executor executor, int parallelism, Sequence<? extends Kind<RIO<R, ?>, A>> sequence) {
+    return parTraverseN(executor, parallelism, sequence, identity());
+  }
+
+  public static <R, A, B> RIO<R, Sequence<B>> parTraverseN(int parallelism, Sequence<? extends A> values,
+      Function1<? super A, ? extends Kind<RIO<R, ?>, ? extends B>> mapper) {
+    return parTraverseN(Future.DEFAULT_EXECUTOR, parallelism, values, mapper);
+  }
+
+  public static <R, A, B> RIO<R, Sequence<B>> parTraverseN(Executor executor, int parallelism, Sequence<? extends A> values,
+      Function1<? super A, ? extends Kind<RIO<R, ?>, ? extends B>> mapper) {
+    return new RIO<>(PureIO.<R, Throwable, A, B>parTraverseN(executor, parallelism, values,
+        value -> mapper.andThen(RIOOf::toRIO).apply(value).instance));
+  }
+
   public static <R, A extends AutoCloseable, B> RIO<R, B> bracket(Kind<RIO<R, ?>, ? extends A> acquire,
       Function1<? super A, ? extends Kind<RIO<R, ?>, ? extends B>> use) {
     return new RIO<>(PureIO.bracket(acquire.fix(RIOOf::toRIO).instance,
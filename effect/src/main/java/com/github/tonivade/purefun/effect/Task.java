@@ -4,6 +4,7 @@
  */
 package com.github.tonivade.purefun.effect;
 
+import static com.github.tonivade.purefun.core.Function1.identity;
 import static com.github.tonivade.purefun.core.Function2.first;
 import static com.github.tonivade.purefun.core.Function2.second;
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
@@ -356,6 +357,25 @@ public final class Task<A> implements TaskOf<A>, Effect<Task<?>, A>, Recoverable
         (Kind<Task<?>, Sequence<A>> xs, Kind<Task<?>, A> a) -> parMap2(executor, xs, a, Sequence::append));
   }
 
+  public static <A> Task<Sequence<A>> parSequenceN(int parallelism, Sequence<? extends Kind<Task<?>, A>> sequence) {
+    return parSequenceN(Future.DEFAULT_EXECUTOR, parallelism, sequence);
+  }
+
+  public static <A> Task<Sequence<A>> parSequenceN(Executor executor, int parallelism, Sequence<? extends Kind<Task<?>, A>> sequence) {
+    return parTraverseN(executor, parallelism, sequence, identity());
+  }
+
+  public static <A, B> Task<Sequence<B>> parTraverseN(int parallelism, Sequence<? extends A> values,
+      Function1<? super A, ? extends Kind<Task<?>, ? extends B>> mapper) {
+    return parTraverseN(Future.DEFAULT_EXECUTOR, parallelism, values, mapper);
+  }
+
+  public static <A, B> Task<Sequence<B>> parTraverseN(Executor executor, int parallelism, Sequence<? extends A> values,
+      Function1<? super A, ? extends Kind<Task<?>, ? extends B>> mapper) {
+    return new Task<>(PureIO.<Void, Throwable, A, B>parTraverseN(executor, parallelism, values,
+        value -> mapper.andThen(TaskOf::toTask).apply(value).instance));
+  }
+
   public static <A extends AutoCloseable, B> Task<B> bracket(
       Kind<Task<?>, ? extends A> acquire, Function1<? super A, ? extends Kind<Task<?>, ? extends B>> use) {
     return new Task<>(PureIO.bracket(acquire.fix(TaskOf::toTask).instance, resource -> use.andThen(TaskOf::toTask).apply(resource).instance));
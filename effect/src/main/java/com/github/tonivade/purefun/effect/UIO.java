@@ -373,6 +373,25 @@ public final class UIO<A> implements UIOOf<A>, Effect<UIO<?>, A>, Recoverable {
         (Kind<UIO<?>, Sequence<A>> xs, Kind<UIO<?>, A> a) -> parMap2(executor, xs, a, Sequence::append));
   }
 
+  public static <A> UIO<Sequence<A>> parSequenceN(int parallelism, Sequence<? extends Kind<UIO<?>, A>> sequence) {
+    return parSequenceN(Future.DEFAULT_EXECUTOR, parallelism, sequence);
+  }
+
+  public static <A> UIO<Sequence<A>> parSequenceN(Executor executor, int parallelism, Sequence<? extends Kind<UIO<?>, A>> sequence) {
+    return parTraverseN(executor, parallelism, sequence, identity());
+  }
+
+  public static <A, B> UIO<Sequence<B>> parTraverseN(int parallelism, Sequence<? extends A> values,
+      Function1<? super A, ? extends Kind<UIO<?>, ? extends B>> mapper) {
+    return parTraverseN(Future.DEFAULT_EXECUTOR, parallelism, values, mapper);
+  }
+
+  public static <A, B> UIO<Sequence<B>> parTraverseN(Executor executor, int parallelism, Sequence<? extends A> values,
+      Function1<? super A, ? extends Kind<UIO<?>, ? extends B>> mapper) {
+    return new UIO<>(PureIO.<Void, Void, A, B>parTraverseN(executor, parallelism, values,
+        value -> mapper.andThen(UIOOf::toUIO).apply(value).instance));
+  }
+
   public static <A extends AutoCloseable, B> UIO<B> bracket(
       Kind<UIO<?>, ? extends A> acquire, Function1<? super A, ? extends Kind<UIO<?>, ? extends B>> use) {
     return fold(PureIO.bracket(PureIO.redeem(acquire.fix(UIOOf::toUIO).instance),
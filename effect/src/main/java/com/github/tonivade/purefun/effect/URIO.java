@@ -350,6 +350,25 @@ public final class URIO<R, A> implements URIOOf<R, A>, Effect<URIO<R, ?>, A>, Re
         (Kind<URIO<R, ?>, Sequence<A>> xs, Kind<URIO<R, ?>, A> a) -> parMap2(executor, xs, a, Sequence::append));
   }
 
+  public static <R, A> URIO<R, Sequence<A>> parSequenceN(int parallelism, Sequence<? extends Kind<URIO<R, ?>, A>> sequence) {
+    return parSequenceN(Future.DEFAULT_EXECUTOR, parallelism, sequence);
+  }
+
+  public static <R, A> URIO<R, Sequence<A>> parSequenceN(Executor executor, int parallelism, Sequence<? extends Kind<URIO<R, ?>, A>> sequence) {
+    return parTraverseN(executor, parallelism, sequence, identity());
+  }
+
+  public static <R, A, B> URIO<R, Sequence<B>> parTraverseN(int parallelism, Sequence<? extends A> values,
+      Function1<? super A, ? extends Kind<URIO<R, ?>, ? extends B>> mapper) {
+    return parTraverseN(Future.DEFAULT_EXECUTOR, parallelism, values, mapper);
+  }
+
+  public static <R, A, B> URIO<R, Sequence<B>> parTraverseN(Executor executor, int parallelism, Sequence<? extends A> values,
+      Function1<? super A, ? extends Kind<URIO<R, ?>, ? extends B>> mapper) {
+    return new URIO<>(PureIO.<R, Void, A, B>parTraverseN(executor, parallelism, values,
+        value -> mapper.andThen(URIOOf::toURIO).apply(value).instance));
+  }
+
   public static <R, A extends AutoCloseable, B> URIO<R, B> bracket(
     Kind<URIO<R, ?>, ? extends A> acquire, Function1<? super A, ? extends Kind<URIO<R, ?>, ? extends B>> use) {
     return fold(PureIO.bracket(PureIO.redeem(acquire.fix(URIOOf::toURIO).instance),
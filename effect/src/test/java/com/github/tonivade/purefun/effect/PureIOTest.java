@@ -16,6 +16,8 @@ import java.io.IOException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -48,6 +50,29 @@ public class PureIOTest {
     assertEquals("ups!", PureIO.redeem(ups).provide(null).getLeft().getMessage());
   }
 
+  @Test
+  public void recoverNested() {
+    PureIO<Void, Void, String> ups = PureIO.<Void, Void, String>pure("hola")
+        .flatMap(value -> PureIO.<Void, Void, String>throwError(new RuntimeException(value)))
+        .map(String::toUpperCase);
+
+    PureIO<Void, String, String> program = PureIO.redeem(ups)
+        .mapError(Throwable::getMessage)
+        .flatMap(PureIO::raiseError);
+
+    assertEquals("hola", program.provide(null).getLeft());
+  }
+
+  @Test
+  public void provideWithAsync() {
+    PureIO<Void, String, Integer> program = PureIO.<Void, String, Integer>pure(1)
+        .map(x -> x + 1)
+        .flatMap(x -> PureIO.<Void, String>forked(Future.DEFAULT_EXECUTOR).andThen(PureIO.<Void, String, Integer>pure(x * 10)))
+        .flatMap(x -> PureIO.<Void, String, Integer>raiseError("error " + x));
+
+    assertEquals(Either.left("error 20"), program.provide(null));
+  }
+
   @Test
   public void accessM() {
     PureIO<String, Void, String> access = PureIO.<String, Void, String>access(a -> a.toUpperCase());
@@ -407,6 +432,56 @@ public class PureIOTest {
     assertEquals(Either.right(listOf("left", "right")), traverse.provide(null));
   }
 
+  @Test
+  public void parTraverseN() {
+    PureIO<Void, String, Sequence<Integer>> traverse = PureIO.parTraverseN(2, listOf(1, 2, 3, 4, 5),
+        x -> PureIO.<Void, String>sleep(Duration.ofMillis(10)).map(ignore -> x * 10));
+
+    assertEquals(Either.right(listOf(10, 20, 30, 40, 50)), traverse.provide(null));
+  }
+
+  @Test
+  public void parTraverseNError() {
+    PureIO<Void, String, Sequence<Integer>> traverse = PureIO.parTraverseN(2, listOf(1, 2, 3, 4, 5),
+        x -> x == 3 ? PureIO.raiseError("error " + x) : PureIO.pure(x));
+
+    assertEquals(Either.left("error 3"), traverse.provide(null));
+  }
+
+  @Test
+  public void raceInterruptsLoser() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    PureIO<Void, Throwable, Unit> blocking = PureIO.exec(() -> awaitInterruption(started, interrupted));
+
+    Either<Throwable, Either<Integer, Unit>> result = PureIO.race(
+        PureIO.<Void, Integer>task(() -> {
+          started.await();
+          return 10;
+        }), blocking).provide(null);
+
+    assertEquals(Either.right(Either.left(10)), result);
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void forkIsCancelledWithParent() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    PureIO<Void, Throwable, Unit> child = PureIO.<Void, Throwable>forked(Future.DEFAULT_EXECUTOR)
+        .andThen(PureIO.exec(() -> awaitInterruption(started, interrupted)));
+
+    Either<Throwable, Either<Integer, Unit>> result = PureIO.race(
+        PureIO.<Void, Integer>task(() -> {
+          started.await();
+          return 10;
+        }),
+        child.fork().andThen(PureIO.<Void, Throwable, Unit>never())).provide(null);
+
+    assertEquals(Either.right(Either.left(10)), result);
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+  }
+
   @Test
   public void raceA() {
     PureIO<Void, Void, Either<Integer, String>> race = PureIO.race(
@@ -473,4 +548,14 @@ public class PureIOTest {
     }
     return UIO.defer(() -> sum(n - 1, sum + n));
   }
+
+  private void awaitInterruption(CountDownLatch started, CountDownLatch interrupted) throws InterruptedException {
+    started.countDown();
+    try {
+      new CountDownLatch(1).await();
+    } catch (InterruptedException e) {
+      interrupted.countDown();
+      throw e;
+    }
+  }
 }
@@ -182,6 +182,16 @@ class TaskTest {
     assertEquals(Try.success(listOf("left", "right")), traverse.safeRunSync());
   }
 
+  @Test
+  void parSequenceN() {
+    Task<String> left = task(() -> "left");
+    Task<String> right = task(() -> "right");
+
+    Task<Sequence<String>> sequence = Task.parSequenceN(1, listOf(left, right));
+
+    assertEquals(Try.success(listOf("left", "right")), sequence.safeRunSync());
+  }
+
   @Test
   void raceA() {
     Task<Either<Integer, String>> race = Task.race(
@@ -180,6 +180,13 @@ public class UIOTest {
     assertEquals(listOf("left", "right"), traverse.unsafeRunSync());
   }
 
+  @Test
+  public void parTraverseN() {
+    UIO<Sequence<String>> traverse = UIO.parTraverseN(2, listOf("a", "b", "c"), x -> task(x::toUpperCase));
+
+    assertEquals(listOf("A", "B", "C"), traverse.unsafeRunSync());
+  }
+
   @Test
   public void raceA() {
     UIO<Either<Integer, String>> race = UIO.race(
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.free;
+
+import com.github.tonivade.purefun.Kind;
+import com.github.tonivade.purefun.data.ImmutableMap;
+import com.github.tonivade.purefun.data.ImmutableSet;
+
+/**
+ * <p>A source of data that can be fetched in batches, like a database table or a remote service.</p>
+ *
+ * <p>The requests of the same round of a {@code Fetch} program are grouped by data source, and every data source
+ * is called only once per round with all the keys requested, without duplicates.</p>
+ *
+ * @param <G> the effect used to fetch the data, like {@code IO} or {@code PureIO}
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ * @see Fetch
+ */
+@FunctionalInterface
+public interface DataSource<G extends Kind<G, ?>, K, V> {
+
+  /**
+   * Fetches the values of the given keys. The result should contain a value for every key.
+   */
+  Kind<G, ImmutableMap<K, V>> fetch(ImmutableSet<K> keys);
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.free;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import static com.github.tonivade.purefun.core.Unit.unit;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.github.tonivade.purefun.Kind;
+import com.github.tonivade.purefun.core.Unit;
+import com.github.tonivade.purefun.data.ImmutableSet;
+import com.github.tonivade.purefun.typeclasses.FunctionK;
+import com.github.tonivade.purefun.typeclasses.Monad;
+
+/**
+ * <p>Batching and caching of requests to data sources, on top of {@code FreeAp} and {@code Free}.</p>
+ *
+ * <p>The requests of a {@code FreeAp} program are independent of each other, so all of them are fetched in the
+ * same round: the requests are grouped by data source and every data source is called once with all the keys,
+ * without duplicates. A {@code Free} program of {@code FreeAp} rounds is executed round by round, so the
+ * requests that depend on the result of previous ones are fetched in the next round.</p>
+ *
+ * <p>The values fetched are cached during the execution of the program, so the same request is only fetched once
+ * per execution. The effect of the data sources is used to run the program, for instance with the monad of
+ * {@code IO} or {@code PureIO}:</p>
+ *
+ * <pre>{@code
+ * FreeAp<Request<IO<?>, ?>, Tuple2<User, User>> round =
+ *     FreeAp.<Request<IO<?>, ?>>applicativeF().tuple(Fetch.request(users, 1), Fetch.request(users, 2)).fix(FreeApOf::toFreeAp);
+ *
+ * IO<Tuple2<User, User>> io = Fetch.run(IOInstances.monad(), round).fix(IOOf::toIO);
+ * }</pre>
+ *
+ * @see DataSource
+ * @see Request
+ */
+public final class Fetch {
+
+  private Fetch() {}
+
+  public static <G extends Kind<G, ?>, K, V> FreeAp<Request<G, ?>, V> request(DataSource<G, K, V> source, K key) {
+    return FreeAp.lift(new Request<>(source, key));
+  }
+
+  public static <G extends Kind<G, ?>, A> Free<FreeAp<Request<G, ?>, ?>, A> round(FreeAp<Request<G, ?>, A> program) {
+    return Free.liftF(program);
+  }
+
+  public static <G extends Kind<G, ?>, A> Kind<G, A> run(Monad<G> monad, FreeAp<Request<G, ?>, A> program) {
+    checkNonNull(monad);
+    checkNonNull(program);
+    return monad.flatMap(monad.pure(unit()), ignore -> new Cache<>(monad).execute(program));
+  }
+
+  public static <G extends Kind<G, ?>, A> Kind<G, A> run(Monad<G> monad, Free<FreeAp<Request<G, ?>, ?>, A> program) {
+    checkNonNull(monad);
+    checkNonNull(program);
+    return monad.flatMap(monad.pure(unit()), ignore -> program.foldMap(monad, new Cache<>(monad)));
+  }
+
+  /**
+   * Values fetched during an execution of a program. A new instance is created every time the program is executed.
+   */
+  private static final class Cache<G extends Kind<G, ?>> implements FunctionK<FreeAp<Request<G, ?>, ?>, G> {
+
+    private final Monad<G> monad;
+    private final Map<Request<G, ?>, Object> values = new HashMap<>();
+
+    private final FunctionK<Request<G, ?>, G> lookup = new FunctionK<>() {
+      @Override
+      public <T> Kind<G, T> apply(Kind<Request<G, ?>, ? extends T> from) {
+        return monad.pure(get(from.fix(RequestOf::toRequest)));
+      }
+    };
+
+    private Cache(Monad<G> monad) {
+      this.monad = monad;
+    }
+
+    @Override
+    public <T> Kind<G, T> apply(Kind<FreeAp<Request<G, ?>, ?>, ? extends T> from) {
+      return execute(from.fix(FreeApOf::toFreeAp));
+    }
+
+    private <T> Kind<G, T> execute(FreeAp<Request<G, ?>, T> program) {
+      Map<DataSource<G, ?, ?>, Set<Object>> batches = new LinkedHashMap<>();
+      for (Request<G, ?> request : requests(program)) {
+        if (!values.containsKey(request)) {
+          batches.computeIfAbsent(request.source(), key -> new LinkedHashSet<>()).add(request.key());
+        }
+      }
+      Kind<G, Unit> fetched = monad.pure(unit());
+      for (Map.Entry<DataSource<G, ?, ?>, Set<Object>> batch : batches.entrySet()) {
+        fetched = monad.flatMap(fetched, ignore -> fetch(batch.getKey(), batch.getValue()));
+      }
+      return monad.flatMap(fetched, ignore -> program.foldMap(lookup, monad));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Kind<G, Unit> fetch(DataSource<G, ?, ?> source, Set<Object> keys) {
+      DataSource<G, Object, Object> dataSource = (DataSource<G, Object, Object>) source;
+      return monad.map(dataSource.fetch(ImmutableSet.from(keys)), result -> {
+        result.forEach((key, value) -> values.put(new Request<>(dataSource, key), value));
+        return unit();
+      });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(Request<G, T> request) {
+      Object value = values.get(request);
+      if (value == null) {
+        throw new NoSuchElementException("value not found for " + request);
+      }
+      return (T) value;
+    }
+
+    private static <G extends Kind<G, ?>> List<Request<G, ?>> requests(FreeAp<Request<G, ?>, ?> program) {
+      List<Request<G, ?>> requests = new ArrayList<>();
+      Deque<FreeAp<Request<G, ?>, ?>> pending = new ArrayDeque<>();
+      pending.push(program);
+      while (!pending.isEmpty()) {
+        FreeAp<Request<G, ?>, ?> current = pending.pop();
+        if (current instanceof FreeAp.Lift<Request<G, ?>, ?> lift) {
+          requests.add(lift.value().fix(RequestOf::toRequest));
+        } else if (current instanceof FreeAp.Apply<Request<G, ?>, ?, ?> apply) {
+          pending.push(apply.apply());
+          pending.push(apply.value());
+        }
+      }
+      return requests;
+    }
+  }
+}
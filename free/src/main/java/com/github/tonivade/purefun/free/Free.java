@@ -13,7 +13,6 @@ import com.github.tonivade.purefun.core.Bindable;
 import com.github.tonivade.purefun.core.Function1;
 import com.github.tonivade.purefun.core.Producer;
 import com.github.tonivade.purefun.core.Unit;
-import com.github.tonivade.purefun.type.Either;
 import com.github.tonivade.purefun.typeclasses.FunctionK;
 import com.github.tonivade.purefun.typeclasses.InjectK;
 import com.github.tonivade.purefun.typeclasses.Monad;
@@ -66,7 +65,7 @@ public sealed interface Free<F extends Kind<F, ?>, A> extends FreeOf<F, A>, Bind
   }
 
   default <G extends Kind<G, ?>> Kind<G, A> foldMap(Monad<G> monad, FunctionK<F, G> interpreter) {
-    return monad.tailRecM(this, value -> value.foldStep(monad, interpreter));
+    return new FreeInterpreter<>(monad, interpreter).run(this);
   }
 
   record Pure<F extends Kind<F, ?>, A>(A value) implements Free<F, A> {
@@ -103,23 +102,10 @@ public sealed interface Free<F extends Kind<F, ?>, A> extends FreeOf<F, A>, Bind
 
     @Override
     public <C> Free<F, C> flatMap(Function1<? super B, ? extends Kind<Free<F, ?>, ? extends C>> map) {
-      return new FlatMapped<>(value, free -> new FlatMapped<>(next.andThen(FreeOf::toFree).apply(free), map));
-    }
-
-    private <G extends Kind<G, ?>> Kind<G, Either<Free<F, B>, B>> foldStep(Monad<G> monad, FunctionK<F, G> interpreter) {
-      Kind<G, ? extends A> foldMap = value.foldMap(monad, interpreter);
-      Function1<? super A, Free<F, B>> andThen = next.andThen(FreeOf::toFree);
-      return monad.map(foldMap, andThen.andThen(Either::left));
+      // the binds are reassociated by the interpreter, so there is no need to do it here
+      return new FlatMapped<>(this, map);
     }
   }
-
-  private <G extends Kind<G, ?>> Kind<G, Either<Free<F, A>, A>> foldStep(Monad<G> monad, FunctionK<F, G> interpreter) {
-    return switch (this) {
-      case Pure<F, A>(var value) -> monad.pure(Either.right(value));
-      case Suspend<F, A>(var value) -> monad.map(interpreter.apply(value), Either::right);
-      case FlatMapped<F, ?, A> flatMapped -> flatMapped.foldStep(monad, interpreter);
-    };
-  }
 }
 
 interface FreeMonad<F extends Kind<F, ?>> extends Monad<Free<F, ?>> {
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.free;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+
+import com.github.tonivade.purefun.Kind;
+import com.github.tonivade.purefun.core.Function1;
+import com.github.tonivade.purefun.type.Either;
+import com.github.tonivade.purefun.type.Id;
+import com.github.tonivade.purefun.typeclasses.Defer;
+import com.github.tonivade.purefun.typeclasses.FunctionK;
+import com.github.tonivade.purefun.typeclasses.Monad;
+import com.github.tonivade.purefun.typeclasses.StackSafe;
+
+/**
+ * <p>Interpreter of {@code Free} programs used by {@code foldMap}.</p>
+ *
+ * <p>The pure values and the binds are evaluated in a loop, pushing the continuations of the binds in a stack, so
+ * left nested binds are reassociated without recursion. The target monad is only used to run the instructions of
+ * the program:</p>
+ * <ul>
+ *   <li>If the instruction is interpreted to an {@code Id}, the value is used directly and the loop goes on.</li>
+ *   <li>If the monad implements {@code Defer} or {@code StackSafe}, like the instances of {@code IO} or
+ *   {@code PureIO}, the instructions are chained with {@code flatMap}, because the evaluation is already lazy and
+ *   stack safe.</li>
+ *   <li>Otherwise the instructions are chained with {@code tailRecM}.</li>
+ * </ul>
+ */
+final class FreeInterpreter<F extends Kind<F, ?>, G extends Kind<G, ?>> {
+
+  private final Monad<G> monad;
+  private final FunctionK<F, G> interpreter;
+
+  FreeInterpreter(Monad<G> monad, FunctionK<F, G> interpreter) {
+    this.monad = checkNonNull(monad);
+    this.interpreter = checkNonNull(interpreter);
+  }
+
+  @SuppressWarnings({"unchecked", "NullAway"})
+  <A> Kind<G, A> run(Free<F, A> program) {
+    if (monad instanceof Defer<?> defer) {
+      return ((Defer<G>) defer).defer(() -> (Kind<G, A>) chain(advance(program, null)));
+    }
+    if (monad instanceof StackSafe) {
+      return (Kind<G, A>) chain(advance(program, null));
+    }
+    return monad.tailRecM(advance(program, null), this::<A>step);
+  }
+
+  private Kind<G, Object> chain(Step step) {
+    if (step.instruction() == null) {
+      return monad.pure(step.value());
+    }
+    return monad.flatMap(instruction(step), value -> chain(resume(value, step.stack())));
+  }
+
+  @SuppressWarnings("unchecked")
+  private <A> Kind<G, Either<Step, A>> step(Step step) {
+    if (step.instruction() == null) {
+      return monad.pure(Either.right((A) step.value()));
+    }
+    return monad.map(instruction(step), value -> Either.left(resume(value, step.stack())));
+  }
+
+  @SuppressWarnings("NullAway")
+  private Step resume(Object value, Continuation stack) {
+    if (stack == null) {
+      return new Step(null, value, null);
+    }
+    return advance(stack.apply(value), stack.tail());
+  }
+
+  // evaluates the program until it is completed or until it finds an instruction that has to be run by the monad
+  @SuppressWarnings({"unchecked", "NullAway"})
+  private Step advance(Free<?, ?> program, Continuation stack) {
+    Free<?, ?> current = program;
+    while (true) {
+      Object value;
+      if (current instanceof Free.FlatMapped<?, ?, ?> flatMapped) {
+        stack = new Continuation((Function1<Object, ?>) (Function1<?, ?>) flatMapped.next(), stack);
+        current = flatMapped.value();
+        continue;
+      }
+      if (current instanceof Free.Pure<?, ?> pure) {
+        value = pure.value();
+      } else {
+        Kind<G, ?> instruction = interpreter.apply((Kind<F, ?>) ((Free.Suspend<?, ?>) current).value());
+        if (!(instruction instanceof Id<?> id)) {
+          return new Step(instruction, null, stack);
+        }
+        value = id.value();
+      }
+      if (stack == null) {
+        return new Step(null, value, null);
+      }
+      current = stack.apply(value);
+      stack = stack.tail();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private Kind<G, Object> instruction(Step step) {
+    return (Kind<G, Object>) step.instruction();
+  }
+
+  // when the instruction is null, the program is completed with the given value, and a null stack is an empty stack
+  private record Step(Kind<?, ?> instruction, Object value, Continuation stack) { }
+
+  private record Continuation(Function1<Object, ?> next, Continuation tail) {
+
+    Free<?, ?> apply(Object value) {
+      return (Free<?, ?>) next.apply(value);
+    }
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.free;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+
+import com.github.tonivade.purefun.HigherKind;
+import com.github.tonivade.purefun.Kind;
+
+/**
+ * A request of the value of a key to a data source. Two requests are the same if they are
+ * made to the same data source with the same key.
+ *
+ * @param <G> the effect used to fetch the data
+ * @param <A> type of the value
+ */
+@HigherKind
+public record Request<G extends Kind<G, ?>, A>(DataSource<G, ?, A> source, Object key) implements RequestOf<G, A> {
+
+  public Request {
+    checkNonNull(source);
+    checkNonNull(key);
+  }
+
+  @Override
+  public String toString() {
+    return "Request(" + key + ')';
+  }
+}
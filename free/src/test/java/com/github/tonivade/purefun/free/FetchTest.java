@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.free;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tonivade.purefun.Kind;
+import com.github.tonivade.purefun.core.Tuple;
+import com.github.tonivade.purefun.core.Tuple2;
+import com.github.tonivade.purefun.core.Tuple3;
+import com.github.tonivade.purefun.data.ImmutableMap;
+import com.github.tonivade.purefun.data.ImmutableSet;
+import com.github.tonivade.purefun.monad.IO;
+import com.github.tonivade.purefun.monad.IOOf;
+import com.github.tonivade.purefun.typeclasses.Applicative;
+import com.github.tonivade.purefun.typeclasses.Instances;
+
+public class FetchTest {
+
+  private final Applicative<FreeAp<Request<IO<?>, ?>, ?>> applicative = FreeAp.applicativeF();
+
+  @Test
+  public void batchAndDedupe() {
+    var users = new Users();
+
+    FreeAp<Request<IO<?>, ?>, Tuple3<String, String, String>> program =
+        applicative.tuple(
+            Fetch.request(users, 1),
+            Fetch.request(users, 2),
+            Fetch.request(users, 1)).fix(FreeApOf::toFreeAp);
+
+    IO<Tuple3<String, String, String>> io = Fetch.run(Instances.<IO<?>>monad(), program).fix(IOOf::toIO);
+
+    assertAll(
+        () -> assertEquals(Tuple.of("user1", "user2", "user1"), io.unsafeRunSync()),
+        () -> assertEquals(List.of(ImmutableSet.of(1, 2)), users.batches));
+  }
+
+  @Test
+  public void cachePerRun() {
+    var users = new Users();
+
+    Free<FreeAp<Request<IO<?>, ?>, ?>, Tuple2<String, String>> program =
+        Fetch.round(Fetch.request(users, 1))
+          .flatMap(first -> Fetch.round(
+              applicative.tuple(Fetch.request(users, 1), Fetch.request(users, 3)).fix(FreeApOf::toFreeAp)))
+          .map(tuple -> tuple.map2(String::toUpperCase));
+
+    IO<Tuple2<String, String>> io = Fetch.run(Instances.<IO<?>>monad(), program).fix(IOOf::toIO);
+
+    assertAll(
+        () -> assertEquals(Tuple.of("user1", "USER3"), io.unsafeRunSync()),
+        () -> assertEquals(List.of(ImmutableSet.of(1), ImmutableSet.of(3)), users.batches),
+        () -> assertEquals(Tuple.of("user1", "USER3"), io.unsafeRunSync()),
+        () -> assertEquals(4, users.batches.size()));
+  }
+
+  private static final class Users implements DataSource<IO<?>, Integer, String> {
+
+    private final List<ImmutableSet<Integer>> batches = new ArrayList<>();
+
+    @Override
+    public Kind<IO<?>, ImmutableMap<Integer, String>> fetch(ImmutableSet<Integer> keys) {
+      return IO.task(() -> {
+        batches.add(keys);
+        return ImmutableMap.from(keys.map(key -> Tuple.of(key, "user" + key)));
+      });
+    }
+  }
+}
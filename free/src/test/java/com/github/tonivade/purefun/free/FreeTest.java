@@ -4,7 +4,9 @@
  */
 package com.github.tonivade.purefun.free;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.github.tonivade.purefun.core.Tuple2;
 import com.github.tonivade.purefun.core.Unit;
 import com.github.tonivade.purefun.data.ImmutableList;
@@ -13,7 +15,12 @@ import com.github.tonivade.purefun.monad.IOOf;
 import com.github.tonivade.purefun.monad.State;
 import com.github.tonivade.purefun.monad.StateOf;
 import com.github.tonivade.purefun.runtimes.ConsoleExecutor;
+import com.github.tonivade.purefun.type.Id;
+import com.github.tonivade.purefun.type.IdOf;
+import com.github.tonivade.purefun.typeclasses.FunctionK;
 import com.github.tonivade.purefun.typeclasses.Instances;
+import com.github.tonivade.purefun.typeclasses.Monad;
+import com.github.tonivade.purefun.typeclasses.StackSafe;
 import org.junit.jupiter.api.Test;
 
 public class FreeTest {
@@ -46,4 +53,59 @@ public class FreeTest {
 
     assertEquals("what's your name?\nHello Toni\nend\n", executor.getOutput());
   }
+
+  @Test
+  public void interpretMonadDefer() {
+    var foldMap = echo.foldMap(Instances.<IO<?>>monadDefer(), new IOProgramToIO());
+
+    var executor = new ConsoleExecutor().read("Toni");
+
+    IO<Unit> fix = foldMap.fix(IOOf::toIO);
+    executor.run(fix);
+
+    assertEquals("what's your name?\nHello Toni\nend\n", executor.getOutput());
+  }
+
+  @Test
+  public void interpretStackSafeMonad() {
+    Monad<IO<?>> monad = Instances.<IO<?>>monad();
+    var foldMap = echo.foldMap(monad, new IOProgramToIO());
+
+    var executor = new ConsoleExecutor().read("Toni");
+
+    IO<Unit> fix = foldMap.fix(IOOf::toIO);
+    executor.run(fix);
+
+    assertAll(
+        () -> assertTrue(monad instanceof StackSafe),
+        () -> assertEquals("what's your name?\nHello Toni\nend\n", executor.getOutput()));
+  }
+
+  @Test
+  public void stackSafeLeftNested() {
+    Free<Id<?>, Integer> program = Free.liftF(Id.of(0));
+    for (int i = 0; i < 100000; i++) {
+      program = program.flatMap(x -> Free.<Id<?>, Integer>liftF(Id.of(x + 1)));
+    }
+
+    var foldMap = program.foldMap(Instances.<Id<?>>monad(), FunctionK.identity());
+
+    assertEquals(Id.of(100000), foldMap.fix(IdOf::toId));
+  }
+
+  @Test
+  public void stackSafeRightNested() {
+    Free<IO<?>, Integer> program = loop(0, 100000);
+
+    var foldMap = program.foldMap(Instances.<IO<?>>monad(), FunctionK.identity());
+
+    assertEquals(100000, foldMap.fix(IOOf::toIO).unsafeRunSync());
+  }
+
+  private static Free<IO<?>, Integer> loop(int current, int limit) {
+    if (current == limit) {
+      return Free.pure(current);
+    }
+    return Free.<IO<?>, Integer>liftF(IO.pure(current + 1)).flatMap(next -> loop(next, limit));
+  }
 }
@@ -32,6 +32,7 @@ import com.github.tonivade.purefun.typeclasses.MonadDefer;
 import com.github.tonivade.purefun.typeclasses.MonadError;
 import com.github.tonivade.purefun.typeclasses.MonadThrow;
 import com.github.tonivade.purefun.typeclasses.Runtime;
+import com.github.tonivade.purefun.typeclasses.StackSafe;
 
 @SuppressWarnings("unchecked")
 public interface EIOInstances {
@@ -110,7 +111,7 @@ interface EIOApplicative<E> extends EIOPure<E> {
   }
 }
 
-interface EIOMonad<E> extends EIOPure<E>, Monad<EIO<E, ?>> {
+interface EIOMonad<E> extends EIOPure<E>, Monad<EIO<E, ?>>, StackSafe {
 
   @SuppressWarnings("rawtypes")
   EIOMonad INSTANCE = new EIOMonad() {};
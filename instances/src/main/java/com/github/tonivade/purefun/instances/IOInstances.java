@@ -32,6 +32,7 @@ import com.github.tonivade.purefun.typeclasses.MonadDefer;
 import com.github.tonivade.purefun.typeclasses.MonadError;
 import com.github.tonivade.purefun.typeclasses.MonadThrow;
 import com.github.tonivade.purefun.typeclasses.Runtime;
+import com.github.tonivade.purefun.typeclasses.StackSafe;
 import com.github.tonivade.purefun.typeclasses.Timer;
 
 public interface IOInstances {
@@ -123,7 +124,7 @@ interface IOApplicative extends IOPure, Applicative<IO<?>> {
   }
 }
 
-interface IOMonad extends Monad<IO<?>>, IOPure {
+interface IOMonad extends Monad<IO<?>>, IOPure, StackSafe {
 
   IOMonad INSTANCE = new IOMonad() {};
 
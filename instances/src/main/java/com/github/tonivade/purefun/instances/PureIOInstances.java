@@ -33,6 +33,7 @@ import com.github.tonivade.purefun.typeclasses.MonadDefer;
 import com.github.tonivade.purefun.typeclasses.MonadError;
 import com.github.tonivade.purefun.typeclasses.MonadThrow;
 import com.github.tonivade.purefun.typeclasses.Runtime;
+import com.github.tonivade.purefun.typeclasses.StackSafe;
 
 @SuppressWarnings("unchecked")
 public interface PureIOInstances {
@@ -116,7 +117,7 @@ interface PureIOApplicative<R, E> extends PureIOPure<R, E> {
   }
 }
 
-interface PureIOMonad<R, E> extends PureIOPure<R, E>, Monad<PureIO<R, E, ?>> {
+interface PureIOMonad<R, E> extends PureIOPure<R, E>, Monad<PureIO<R, E, ?>>, StackSafe {
 
   @SuppressWarnings("rawtypes")
   PureIOMonad INSTANCE = new PureIOMonad() {};
@@ -33,6 +33,7 @@ import com.github.tonivade.purefun.typeclasses.MonadDefer;
 import com.github.tonivade.purefun.typeclasses.MonadError;
 import com.github.tonivade.purefun.typeclasses.MonadThrow;
 import com.github.tonivade.purefun.typeclasses.Runtime;
+import com.github.tonivade.purefun.typeclasses.StackSafe;
 
 @SuppressWarnings("unchecked")
 public interface RIOInstances {
@@ -111,7 +112,7 @@ interface RIOApplicative<R> extends RIOPure<R> {
   }
 }
 
-interface RIOMonad<R> extends RIOPure<R>, Monad<RIO<R, ?>> {
+interface RIOMonad<R> extends RIOPure<R>, Monad<RIO<R, ?>>, StackSafe {
 
   @SuppressWarnings("rawtypes")
   RIOMonad INSTANCE = new RIOMonad() {};
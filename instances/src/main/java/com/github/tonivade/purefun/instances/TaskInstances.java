@@ -34,6 +34,7 @@ import com.github.tonivade.purefun.typeclasses.MonadThrow;
 import com.github.tonivade.purefun.typeclasses.Reference;
 import com.github.tonivade.purefun.typeclasses.Resource;
 import com.github.tonivade.purefun.typeclasses.Runtime;
+import com.github.tonivade.purefun.typeclasses.StackSafe;
 
 public interface TaskInstances {
 
@@ -124,7 +125,7 @@ interface TaskApplicative extends TaskPure {
   }
 }
 
-interface TaskMonad extends TaskPure, Monad<Task<?>> {
+interface TaskMonad extends TaskPure, Monad<Task<?>>, StackSafe {
 
   TaskMonad INSTANCE = new TaskMonad() {};
 
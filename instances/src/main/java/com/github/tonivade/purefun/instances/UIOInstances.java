@@ -32,6 +32,7 @@ import com.github.tonivade.purefun.typeclasses.MonadDefer;
 import com.github.tonivade.purefun.typeclasses.MonadError;
 import com.github.tonivade.purefun.typeclasses.MonadThrow;
 import com.github.tonivade.purefun.typeclasses.Runtime;
+import com.github.tonivade.purefun.typeclasses.StackSafe;
 
 public interface UIOInstances {
 
@@ -109,7 +110,7 @@ interface UIOApplicative extends UIOPure {
   }
 }
 
-interface UIOMonad extends UIOPure, Monad<UIO<?>> {
+interface UIOMonad extends UIOPure, Monad<UIO<?>>, StackSafe {
 
   UIOMonad INSTANCE = new UIOMonad() {};
 
@@ -33,6 +33,7 @@ import com.github.tonivade.purefun.typeclasses.MonadDefer;
 import com.github.tonivade.purefun.typeclasses.MonadError;
 import com.github.tonivade.purefun.typeclasses.MonadThrow;
 import com.github.tonivade.purefun.typeclasses.Runtime;
+import com.github.tonivade.purefun.typeclasses.StackSafe;
 
 @SuppressWarnings("unchecked")
 public interface URIOInstances {
@@ -111,7 +112,7 @@ interface URIOApplicative<R> extends URIOPure<R> {
   }
 }
 
-interface URIOMonad<R> extends URIOPure<R>, Monad<URIO<R, ?>> {
+interface URIOMonad<R> extends URIOPure<R>, Monad<URIO<R, ?>>, StackSafe {
 
   @SuppressWarnings("rawtypes")
   URIOMonad INSTANCE = new URIOMonad() {};
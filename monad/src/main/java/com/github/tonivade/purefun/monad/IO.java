@@ -7,26 +7,33 @@ package com.github.tonivade.purefun.monad;
 import static com.github.tonivade.purefun.core.Function1.identity;
 import static com.github.tonivade.purefun.core.Matcher1.always;
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import static com.github.tonivade.purefun.core.Precondition.checkPositive;
 
 import java.time.Duration;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.github.tonivade.purefun.HigherKind;
 import com.github.tonivade.purefun.Kind;
 import org.jspecify.annotations.Nullable;
+import com.github.tonivade.purefun.concurrent.AutoYield;
 import com.github.tonivade.purefun.concurrent.Future;
+import com.github.tonivade.purefun.concurrent.HashedWheelTimer;
+import com.github.tonivade.purefun.concurrent.ParTraverse;
 import com.github.tonivade.purefun.concurrent.Promise;
+import com.github.tonivade.purefun.core.CallStack;
 import com.github.tonivade.purefun.core.CheckedRunnable;
 import com.github.tonivade.purefun.core.Consumer1;
 import com.github.tonivade.purefun.core.Effect;
 import com.github.tonivade.purefun.core.Function1;
 import com.github.tonivade.purefun.core.Function2;
-import com.github.tonivade.purefun.core.Operator1;
+import com.github.tonivade.purefun.core.Matcher1;
 import com.github.tonivade.purefun.core.PartialFunction1;
 import com.github.tonivade.purefun.core.Producer;
 import com.github.tonivade.purefun.core.Recoverable;
@@ -47,7 +54,7 @@ public sealed interface IO<T> extends IOOf<T>, Effect<IO<?>, T>, Recoverable {
   IO<Unit> UNIT = pure(Unit.unit());
 
   default Future<T> runAsync() {
-    return Future.from(runAsync(this, IOConnection.UNCANCELLABLE));
+    return Future.from(runAsync(this, IOConnection.UNCANCELLABLE, Future.DEFAULT_EXECUTOR));
   }
 
   default Future<T> runAsync(Executor executor) {
@@ -59,7 +66,7 @@ public sealed interface IO<T> extends IOOf<T>, Effect<IO<?>, T>, Recoverable {
   }
 
   default Try<T> safeRunSync() {
-    return runAsync().await();
+    return runSync(this);
   }
 
   default void safeRunAsync(Consumer1<? super Try<? extends T>> callback) {
@@ -72,7 +79,7 @@ public sealed interface IO<T> extends IOOf<T>, Effect<IO<?>, T>, Recoverable {
 
   @Override
   default <R> IO<R> map(Function1<? super T, ? extends R> map) {
-    return flatMap(map.andThen(IO::pure));
+    return new Map<>(this, map);
   }
 
   @Override
@@ -133,14 +140,18 @@ public sealed interface IO<T> extends IOOf<T>, Effect<IO<?>, T>, Recoverable {
   }
 
   default IO<Fiber<IO<?>, T>> fork() {
-    return async(callback -> {
+    return new Async<>(null, (executor, callback) -> {
+      IOConnection parent = IOConnection.current();
       IOConnection connection = IOConnection.cancellable();
-      Promise<T> promise = runAsync(this, connection);
+      parent.link(connection);
+      Promise<T> promise = runAsync(this, connection, executor);
+      promise.onComplete(ignore -> parent.unlink(connection));
 
       IO<T> join = fromPromise(promise);
       IO<Unit> cancel = exec(connection::cancel);
 
       callback.accept(Try.success(Fiber.of(join, cancel)));
+      return UNIT;
     });
   }
 
@@ -216,8 +227,8 @@ public sealed interface IO<T> extends IOOf<T>, Effect<IO<?>, T>, Recoverable {
       IOConnection connection1 = IOConnection.cancellable();
       IOConnection connection2 = IOConnection.cancellable();
 
-      Promise<A> promiseA = runAsync(IO.forked(executor).andThen(fa), connection1);
-      Promise<B> promiseB = runAsync(IO.forked(executor).andThen(fb), connection2);
+      Promise<A> promiseA = runAsync(IO.forked(executor).andThen(fa), connection1, executor);
+      Promise<B> promiseB = runAsync(IO.forked(executor).andThen(fb), connection2, executor);
 
       promiseA.onComplete(result -> callback.accept(
           result.map(a -> Either.left(
@@ -290,10 +301,10 @@ public sealed interface IO<T> extends IOOf<T>, Effect<IO<?>, T>, Recoverable {
   }
 
   static IO<Unit> sleep(Executor executor, Duration duration) {
-    return cancellable(callback -> {
-      Future<Unit> sleep = Future.sleep(executor, duration)
-        .onComplete(result -> callback.accept(Try.success(Unit.unit())));
-      return IO.exec(() -> sleep.cancel(true));
+    return new Async<>(executor, (ignore, callback) -> {
+      HashedWheelTimer.Timeout timeout = HashedWheelTimer.DEFAULT.schedule(duration,
+          () -> executor.execute(() -> callback.accept(Try.success(Unit.unit()))));
+      return IO.exec(timeout::cancel);
     });
   }
 
@@ -314,7 +325,10 @@ public sealed interface IO<T> extends IOOf<T>, Effect<IO<?>, T>, Recoverable {
   }
 
   static IO<Unit> forked(Executor executor) {
-    return async(callback -> executor.execute(() -> callback.accept(Try.success(Unit.unit()))));
+    return new Async<>(executor, (ignore, callback) -> {
+      executor.execute(() -> callback.accept(Try.success(Unit.unit())));
+      return UNIT;
+    });
   }
 
   static <T> IO<T> async(Consumer1<Consumer1<? super Try<? extends T>>> callback) {
@@ -322,7 +336,7 @@ public sealed interface IO<T> extends IOOf<T>, Effect<IO<?>, T>, Recoverable {
   }
 
   static <T> IO<T> cancellable(Function1<Consumer1<? super Try<? extends T>>, Kind<IO<?>, Unit>> callback) {
-    return new Async<>(callback);
+    return new Async<>(null, (executor, consumer) -> callback.apply(consumer));
   }
 
   static <A, T> IO<Function1<A, IO<T>>> memoize(Function1<A, IO<T>> function) {
@@ -349,16 +363,16 @@ public sealed interface IO<T> extends IOOf<T>, Effect<IO<?>, T>, Recoverable {
       Kind<IO<?>, ? extends T> acquire,
       Function1<? super T, ? extends Kind<IO<?>, ? extends R>> use,
       Function1<? super T, ? extends Kind<IO<?>, Unit>> release) {
-    return cancellable(callback -> {
+    return new Async<>(null, (executor, callback) -> {
 
       IOConnection cancellable = IOConnection.cancellable();
 
-      Promise<? extends T> promise = runAsync(acquire, cancellable);
+      Promise<? extends T> promise = runAsync(acquire, cancellable, executor);
 
       promise
         .onFailure(error -> callback.accept(Try.failure(error)))
-        .onSuccess(resource -> runAsync(use.apply(resource), cancellable)
-          .onComplete(result -> runAsync(release.apply(resource), cancellable)
+        .onSuccess(resource -> runAsync(use.apply(resource), cancellable, executor)
+          .onComplete(result -> runAsync(release.apply(resource), IOConnection.UNCANCELLABLE, executor)
             .onComplete(ignore -> callback.accept(result))
         ));
 
@@ -391,6 +405,33 @@ public sealed interface IO<T> extends IOOf<T>, Effect<IO<?>, T>, Recoverable {
         (Kind<IO<?>, Sequence<A>> xs, Kind<IO<?>, A> a) -> parMap2(executor, xs, a, Sequence::append));
   }
 
+  static <A> IO<Sequence<A>> parSequenceN(int parallelism, Sequence<? extends Kind<IO<?>, A>> sequence) {
+    return parSequenceN(Future.DEFAULT_EXECUTOR, parallelism, sequence);
+  }
+
+  static <A> IO<Sequence<A>> parSequenceN(Executor executor, int parallelism, Sequence<? extends Kind<IO<?>, A>> sequence) {
+    return parTraverseN(executor, parallelism, sequence, identity());
+  }
+
+  static <A, B> IO<Sequence<B>> parTraverseN(int parallelism, Sequence<? extends A> values,
+      Function1<? super A, ? extends Kind<IO<?>, ? extends B>> mapper) {
+    return parTraverseN(Future.DEFAULT_EXECUTOR, parallelism, values, mapper);
+  }
+
+  static <A, B> IO<Sequence<B>> parTraverseN(Executor executor, int parallelism, Sequence<? extends A> values,
+      Function1<? super A, ? extends Kind<IO<?>, ? extends B>> mapper) {
+    checkPositive(parallelism);
+    checkNonNull(values);
+    checkNonNull(mapper);
+    return cancellable(callback -> {
+      ParTraverse<A, B, IOConnection> traverse = ParTraverse.start(parallelism, values,
+          IOConnection::cancellable, IOConnection::cancel,
+          (value, connection) -> runAsync(IO.forked(executor).andThen(suspend(() -> mapper.apply(value))), connection, executor),
+          Matcher1.never(), result -> callback.accept(result.map(Either::getRight)));
+      return IO.exec(traverse::cancel);
+    });
+  }
+
   static <A, B, C> IO<C> parMap2(Kind<IO<?>, ? extends A> fa, Kind<IO<?>, ? extends B> fb,
                               Function2<? super A, ? super B, ? extends C> mapper) {
     return parMap2(Future.DEFAULT_EXECUTOR, fa, fb, mapper);
@@ -403,8 +444,8 @@ public sealed interface IO<T> extends IOOf<T>, Effect<IO<?>, T>, Recoverable {
       IOConnection connection1 = IOConnection.cancellable();
       IOConnection connection2 = IOConnection.cancellable();
 
-      Promise<A> promiseA = runAsync(IO.forked(executor).andThen(fa), connection1);
-      Promise<B> promiseB = runAsync(IO.forked(executor).andThen(fb), connection2);
+      Promise<A> promiseA = runAsync(IO.forked(executor).andThen(fa), connection1, executor);
+      Promise<B> promiseB = runAsync(IO.forked(executor).andThen(fb), connection2, executor);
 
       promiseA.onComplete(a -> promiseB.onComplete(b -> callback.accept(Try.map2(a, b, mapper))));
 
@@ -426,99 +467,194 @@ public sealed interface IO<T> extends IOOf<T>, Effect<IO<?>, T>, Recoverable {
     return parMap2(executor, fa, fb, Tuple::of);
   }
 
-  private static <T> Promise<T> runAsync(Kind<IO<?>, T> current, IOConnection connection) {
-    return runAsync(current, connection, new CallStack<>(), Promise.make());
+  private static <T> Promise<T> runAsync(Kind<IO<?>, T> current, IOConnection connection, Executor executor) {
+    return runAsync(current.fix(IOOf::toIO), connection, executor, new CallStack<>(), Promise.make());
   }
 
   @SuppressWarnings("unchecked")
-  private static <T, U, V> Promise<T> runAsync(
-      Kind<IO<?>, T> current, IOConnection connection, CallStack<T> stack, Promise<T> promise) {
-    while (true) {
-      try {
-        current = unwrap(current, stack, identity());
+  // the executor is the one where the run loop is running, auto yield and child fibers use it
+  private static <T> Promise<T> runAsync(
+      IO<?> current, IOConnection connection, Executor executor, CallStack<IO<?>> stack, Promise<T> promise) {
+    IOConnection previous = IOConnection.enter(connection);
+    try {
+      IO<?> result = evaluate(current, connection, executor, stack, AutoYield.threshold());
+      if (result instanceof Async<?> async) {
+        return continueAsync(async, connection, executor, stack, promise);
+      }
+      if (result instanceof Pure<?> pure) {
+        return promise.succeeded((T) pure.value);
+      }
+      if (result instanceof Failure<?> failure) {
+        return promise.failed(failure.error);
+      }
+      return promise.cancel();
+    } finally {
+      IOConnection.exit(connection, previous);
+    }
+  }
 
-        if (current instanceof Pure<T> pure) {
-          return promise.succeeded(pure.value);
-        }
+  // same as runAsync but without promise, falls back to runAsync when an async node is found
+  @SuppressWarnings("unchecked")
+  private static <T> Try<T> runSync(IO<T> program) {
+    CallStack<IO<?>> stack = new CallStack<>();
+    IO<?> result = evaluate(program, IOConnection.UNCANCELLABLE, Future.DEFAULT_EXECUTOR, stack, 0);
+    if (result instanceof Async<?> async) {
+      return runAsync(async, IOConnection.UNCANCELLABLE, Future.DEFAULT_EXECUTOR, stack, Promise.<T>make()).await();
+    }
+    if (result instanceof Pure<?> pure) {
+      return Try.success((T) pure.value);
+    }
+    if (result instanceof Failure<?> failure) {
+      return Try.failure(failure.error);
+    }
+    throw new IllegalStateException("uncancellable program cancelled: " + program);
+  }
 
-        if (current instanceof Async<T> async) {
-          return executeAsync(async, connection, promise);
+  // run loop shared by runAsync and runSync, it returns a Pure or a Failure when the program ends, the async node
+  // when it finds one, with the rest of the program in the stack, or null when the connection is cancelled
+  @SuppressWarnings("unchecked")
+  private static @Nullable IO<?> evaluate(
+      IO<?> current, IOConnection connection, Executor executor, CallStack<IO<?>> stack, int threshold) {
+    int steps = 0;
+    try {
+      while (true) {
+        if (connection.isCancelled()) {
+          return null;
         }
+        if (threshold > 0 && ++steps >= threshold) {
+          IO<?> next = current;
+          stack.push(new FlatMapped<Unit, Object>(UNIT, ignore -> next));
+          return yieldNow(executor);
+        }
+        try {
+          if (current instanceof FlatMapped<?, ?> flatMapped) {
+            if (flatMapped.current instanceof Pure<?> pure) {
+              current = ((FlatMapped<Object, ?>) flatMapped).next.apply(pure.value).fix(IOOf::toIO);
+            } else {
+              stack.push(flatMapped);
+              current = flatMapped.current.fix(IOOf::toIO);
+            }
+            continue;
+          }
 
-        if (current instanceof FlatMapped) {
-          stack.push();
-
-          var flatMapped = (FlatMapped<U, T>) current;
-          IO<U> source = unwrap(flatMapped.current, stack, u -> u.fix(IOOf::toIO).flatMap(flatMapped.next)).fix(IOOf::toIO);
+          if (current instanceof Map<?, ?> map) {
+            stack.push(map);
+            current = map.current;
+            continue;
+          }
 
-          if (source instanceof Async<U> async) {
-            Promise<U> nextPromise = Promise.make();
+          if (current instanceof Recover<?> recover) {
+            stack.push(recover);
+            current = recover.current.fix(IOOf::toIO);
+            continue;
+          }
 
-            nextPromise.then(u -> runAsync(flatMapped.next.apply(u).fix(IOOf::toIO), connection, stack, promise));
+          if (current instanceof Suspend<?> suspend) {
+            current = suspend.lazy.get().fix(IOOf::toIO);
+            continue;
+          }
 
-            executeAsync(async, connection, nextPromise);
+          if (current instanceof Failure<?> failure) {
+            Recover<?> recover = unwind(stack, failure.error);
+            if (recover == null) {
+              return failure;
+            }
+            current = recover.mapper.apply(failure.error).fix(IOOf::toIO);
+            continue;
+          }
 
-            return promise;
+          if (current instanceof Async<?> async) {
+            return async;
           }
 
-          if (source instanceof Pure<U> pure) {
-            current = flatMapped.next.apply(pure.value).fix(IOOf::toIO);
-          } else if (source instanceof FlatMapped) {
-            var flatMapped2 = (FlatMapped<V, U>) source;
-            current = flatMapped2.current.fix(IOOf::toIO)
-                .flatMap(a -> flatMapped2.next.apply(a).fix(IOOf::toIO)
-                    .flatMap(flatMapped.next));
+          Object value;
+          if (current instanceof Pure<?> pure) {
+            value = pure.value;
+          } else if (current instanceof Delay<?> delay) {
+            value = checkNonNull(delay.task.get());
+          } else {
+            throw new IllegalStateException("not supported: " + current);
           }
-        } else {
-          stack.pop();
-        }
-      } catch (Throwable error) {
-        Option<IO<T>> result = stack.tryHandle(error);
 
-        if (result.isPresent()) {
-          current = result.getOrElseThrow();
-        } else {
-          return promise.failed(error);
+          IO<?> next = null;
+          while (next == null) {
+            IO<?> frame = stack.pop();
+            if (frame == null) {
+              return new Pure<>(value);
+            }
+            if (frame instanceof FlatMapped<?, ?> flatMapped) {
+              next = ((FlatMapped<Object, ?>) flatMapped).next.apply(value).fix(IOOf::toIO);
+            } else if (frame instanceof Map<?, ?> map) {
+              value = checkNonNull(((Map<Object, ?>) map).mapper.apply(value));
+            }
+          }
+          current = next;
+        } catch (Throwable error) {
+          if (connection.isCancelled()) {
+            return null;
+          }
+          current = new Failure<>(error);
         }
       }
+    } finally {
+      AutoYield.record(steps);
+    }
+  }
+
+  // runs the async node, and when it completes the run loop continues with the rest of the program in the stack
+  @SuppressWarnings("unchecked")
+  private static <T> Promise<T> continueAsync(
+      Async<?> async, IOConnection connection, Executor executor, CallStack<IO<?>> stack, Promise<T> promise) {
+    if (stack.isEmpty()) {
+      return executeAsync((Async<T>) async, connection, executor, promise);
     }
+
+    // the continuation is completed in the executor of the run loop, or the one the async node shifts to
+    Executor next = async.executor != null ? async.executor : executor;
+    Promise<Object> nextPromise = Promise.make(next);
+    nextPromise.onComplete(result -> runAsync(
+        result.<IO<?>>fold(IO::raiseError, IO::pure), connection, next, stack, promise));
+
+    executeAsync((Async<Object>) async, connection, executor, nextPromise);
+
+    return promise;
   }
 
-  private static <T, U> Kind<IO<?>,T> unwrap(Kind<IO<?>, T> current, CallStack<U> stack, Function1<Kind<IO<?>, ? extends T>, Kind<IO<?>, ? extends U>> next) {
+  // the rest of the program is submitted to the executor of the run loop, so other tasks can run in this thread
+  private static IO<Unit> yieldNow(Executor executor) {
+    return new Async<>(executor, (ignore, callback) -> {
+      AutoYield.yieldNow(executor, () -> callback.accept(Try.success(Unit.unit())));
+      return UNIT;
+    });
+  }
+
+  private static @Nullable Recover<?> unwind(CallStack<IO<?>> stack, Throwable error) {
     while (true) {
-      if (current instanceof Failure<T> failure) {
-        return stack.sneakyThrow(failure.error);
-      } else if (current instanceof Recover<T> recover) {
-        stack.add(recover.mapper.andThen(next));
-        current = recover.current;
-      } else if (current instanceof Suspend<T> suspend) {
-        current = suspend.lazy.get().fix(IOOf::toIO);
-      } else if (current instanceof Delay<T> delay) {
-        return IO.pure(delay.task.get());
-      } else if (current instanceof Pure) {
-        return current;
-      } else if (current instanceof FlatMapped) {
-        return current;
-      } else if (current instanceof Async) {
-        return current;
-      } else {
-        throw new IllegalStateException();
+      IO<?> frame = stack.pop();
+      if (frame == null) {
+        return null;
+      }
+      if (frame instanceof Recover<?> recover && recover.mapper.isDefinedAt(error)) {
+        return recover;
       }
     }
   }
 
-  private static <T> Promise<T> executeAsync(Async<T> current, IOConnection connection, Promise<T> promise) {
-    if (connection.isCancellable() && !connection.updateState(StateIO::startingNow).isRunnable()) {
-      return promise.cancel();
+  private static <T> Promise<T> executeAsync(
+      Async<T> current, IOConnection connection, Executor executor, Promise<T> promise) {
+    if (!connection.isCancellable()) {
+      current.callback.apply(executor, promise::tryComplete);
+      return promise;
     }
 
-    connection.setCancelToken(current.callback.apply(promise::tryComplete));
+    IOConnection.CancelToken token = new IOConnection.CancelToken();
+    if (!connection.register(token)) {
+      return promise.cancel();
+    }
 
-    promise.thenRun(() -> connection.setCancelToken(UNIT));
+    token.set(current.callback.apply(executor, promise::tryComplete));
 
-    if (connection.isCancellable() && connection.updateState(StateIO::notStartingNow).isCancellingNow()) {
-      connection.cancelNow();
-    }
+    promise.onComplete(ignore -> token.complete());
 
     return promise;
   }
@@ -586,6 +722,22 @@ public sealed interface IO<T> extends IOOf<T>, Effect<IO<?>, T>, Recoverable {
     }
   }
 
+  final class Map<T, R> implements IO<R> {
+
+    private final IO<? extends T> current;
+    private final Function1<? super T, ? extends R> mapper;
+
+    private Map(IO<? extends T> current, Function1<? super T, ? extends R> mapper) {
+      this.current = checkNonNull(current);
+      this.mapper = checkNonNull(mapper);
+    }
+
+    @Override
+    public String toString() {
+      return "Map(" + current + ", ?)";
+    }
+  }
+
   final class Delay<T> implements IO<T> {
 
     private final Producer<? extends T> task;
@@ -602,9 +754,14 @@ public sealed interface IO<T> extends IOOf<T>, Effect<IO<?>, T>, Recoverable {
 
   final class Async<T> implements IO<T> {
 
-    private final Function1<Consumer1<? super Try<? extends T>>, Kind<IO<?>, Unit>> callback;
+    // executor where the run loop continues after the callback, if null it stays in the current one
+    private final @Nullable Executor executor;
+    // the callback receives the executor of the run loop
+    private final Function2<Executor, Consumer1<? super Try<? extends T>>, Kind<IO<?>, Unit>> callback;
 
-    private Async(Function1<Consumer1<? super Try<? extends T>>, Kind<IO<?>, Unit>> callback) {
+    private Async(@Nullable Executor executor,
+        Function2<Executor, Consumer1<? super Try<? extends T>>, Kind<IO<?>, Unit>> callback) {
+      this.executor = executor;
       this.callback = checkNonNull(callback);
     }
 
@@ -649,20 +806,93 @@ sealed interface IOConnection {
 
   IOConnection UNCANCELLABLE = new Uncancellable();
 
+  // connection of the innermost cancellable run loop of every thread, only this one can be interrupted
+  ThreadLocal<IOConnection> CURRENT = new ThreadLocal<>();
+
   boolean isCancellable();
 
-  void setCancelToken(Kind<IO<?>, Unit> cancel);
+  boolean isCancelled();
 
-  void cancelNow();
+  void attach();
 
-  void cancel();
+  void detach();
 
-  StateIO updateState(Operator1<StateIO> update);
+  void link(IOConnection child);
+
+  void unlink(IOConnection child);
+
+  // registers the token of the async node that starts now, returns false if the connection is already cancelled
+  boolean register(CancelToken token);
+
+  void cancel();
 
   static IOConnection cancellable() {
     return new Cancellable();
   }
 
+  static IOConnection current() {
+    IOConnection current = CURRENT.get();
+    return current != null ? current : UNCANCELLABLE;
+  }
+
+  static @Nullable IOConnection enter(IOConnection connection) {
+    IOConnection previous = CURRENT.get();
+    // an uncancellable run loop is only installed to detach the cancellable one running in the same thread
+    if (previous != connection && (previous != null || connection.isCancellable())) {
+      if (previous != null) {
+        previous.detach();
+      }
+      connection.attach();
+      CURRENT.set(connection);
+    }
+    return previous;
+  }
+
+  static void exit(IOConnection connection, @Nullable IOConnection previous) {
+    if (previous != connection && (previous != null || connection.isCancellable())) {
+      connection.detach();
+      if (previous != null) {
+        previous.attach();
+        CURRENT.set(previous);
+      } else {
+        CURRENT.remove();
+      }
+    }
+  }
+
+  // cancel token of an async node, if the node is cancelled before the callback returns the token, the token
+  // is run as soon as it's set, and it's never run once the node is completed
+  final class CancelToken {
+
+    private static final Object STARTING = new Object();
+    private static final Object COMPLETED = new Object();
+    private static final Object CANCELLED = new Object();
+
+    private final AtomicReference<Object> state = new AtomicReference<>(STARTING);
+
+    void set(Kind<IO<?>, Unit> token) {
+      if (state.compareAndExchange(STARTING, token) == CANCELLED) {
+        run(token);
+      }
+    }
+
+    void complete() {
+      state.set(COMPLETED);
+    }
+
+    @SuppressWarnings("unchecked")
+    void cancel() {
+      Object current = state.getAndSet(CANCELLED);
+      if (current != STARTING && current != COMPLETED && current != CANCELLED) {
+        run((Kind<IO<?>, Unit>) current);
+      }
+    }
+
+    private static void run(Kind<IO<?>, Unit> token) {
+      token.fix(IOOf::toIO).runAsync();
+    }
+  }
+
   final class Uncancellable implements IOConnection {
 
     private Uncancellable() { }
@@ -673,30 +903,50 @@ sealed interface IOConnection {
     }
 
     @Override
-    public void setCancelToken(Kind<IO<?>, Unit> cancel) {
+    public boolean isCancelled() {
+      return false;
+    }
+
+    @Override
+    public void attach() {
       // uncancellable
     }
 
     @Override
-    public void cancelNow() {
+    public void detach() {
       // uncancellable
     }
 
     @Override
-    public void cancel() {
+    public void link(IOConnection child) {
+      // uncancellable
+    }
+
+    @Override
+    public void unlink(IOConnection child) {
       // uncancellable
     }
 
     @Override
-    public StateIO updateState(Operator1<StateIO> update) {
-      return StateIO.INITIAL;
+    public boolean register(CancelToken token) {
+      return true;
+    }
+
+    @Override
+    public void cancel() {
+      // uncancellable
     }
   }
 
   final class Cancellable implements IOConnection {
 
-    private Kind<IO<?>, Unit> cancelToken = IO.UNIT;
-    private final AtomicReference<StateIO> state = new AtomicReference<>(StateIO.INITIAL);
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    @Nullable
+    private volatile CancelToken token;
+    private final ReentrantLock lock = new ReentrantLock();
+    @Nullable
+    private Thread thread;
+    private final List<IOConnection> children = new ArrayList<>();
 
     private Cancellable() { }
 
@@ -706,175 +956,100 @@ sealed interface IOConnection {
     }
 
     @Override
-    public void setCancelToken(Kind<IO<?>, Unit> cancel) {
-      this.cancelToken = checkNonNull(cancel);
+    public boolean isCancelled() {
+      return cancelled.get();
     }
 
     @Override
-    public void cancelNow() {
-      cancelToken.fix(IOOf::toIO).runAsync();
+    public void attach() {
+      lock.lock();
+      try {
+        thread = Thread.currentThread();
+      } finally {
+        lock.unlock();
+      }
     }
 
     @Override
-    public void cancel() {
-      if (state.getAndUpdate(StateIO::cancellingNow).isCancelable()) {
-        cancelNow();
-
-        state.set(StateIO.CANCELLED);
+    public void detach() {
+      lock.lock();
+      try {
+        if (thread == Thread.currentThread()) {
+          thread = null;
+          if (isCancelled()) {
+            // clear the interruption used to stop the run loop
+            Thread.interrupted();
+          }
+        }
+      } finally {
+        lock.unlock();
       }
     }
 
     @Override
-    public StateIO updateState(Operator1<StateIO> update) {
-      return state.updateAndGet(update);
+    public void link(IOConnection child) {
+      lock.lock();
+      try {
+        if (!isCancelled()) {
+          children.add(child);
+          return;
+        }
+      } finally {
+        lock.unlock();
+      }
+      child.cancel();
     }
-  }
-}
-
-final class StateIO {
-
-  public static final StateIO INITIAL = new StateIO(false, false, false);
-  public static final StateIO CANCELLED = new StateIO(true, false, false);
-
-  private final boolean isCancelled;
-  private final boolean cancellingNow;
-  private final boolean startingNow;
-
-  public StateIO(boolean isCancelled, boolean cancellingNow, boolean startingNow) {
-    this.isCancelled = isCancelled;
-    this.cancellingNow = cancellingNow;
-    this.startingNow = startingNow;
-  }
-
-  public boolean isCancelled() {
-    return isCancelled;
-  }
-
-  public boolean isCancellingNow() {
-    return cancellingNow;
-  }
-
-  public boolean isStartingNow() {
-    return startingNow;
-  }
-
-  public StateIO cancellingNow() {
-    return new StateIO(isCancelled, true, startingNow);
-  }
-
-  public StateIO startingNow() {
-    return new StateIO(isCancelled, cancellingNow, true);
-  }
-
-  public StateIO notStartingNow() {
-    return new StateIO(isCancelled, cancellingNow, false);
-  }
 
-  public boolean isCancelable() {
-    return !isCancelled && !cancellingNow && !startingNow;
-  }
-
-  public boolean isRunnable() {
-    return !isCancelled && !cancellingNow;
-  }
-}
-
-final class CallStack<T> implements Recoverable {
-
-  @Nullable
-  private StackItem<T> top = new StackItem<>();
-
-  public void push() {
-    if (top != null) {
-      top.push();
+    @Override
+    public void unlink(IOConnection child) {
+      lock.lock();
+      try {
+        children.remove(child);
+      } finally {
+        lock.unlock();
+      }
     }
-  }
 
-  public void pop() {
-    if (top == null) {
-      return;
-    }
-    if (top.count() > 0) {
-      top.pop();
-    } else {
-      top = top.prev();
+    @Override
+    public boolean register(CancelToken token) {
+      this.token = token;
+      return !isCancelled();
     }
-  }
 
-  public void add(PartialFunction1<? super Throwable, ? extends Kind<IO<?>, ? extends T>> mapError) {
-    if (top == null) {
-      return;
-    }
-    if (top.count() > 0) {
-      top.pop();
-      top = new StackItem<>(top);
+    @Override
+    public void cancel() {
+      if (cancelled.compareAndSet(false, true)) {
+        CancelToken current = token;
+        if (current != null) {
+          current.cancel();
+        }
+        interrupt();
+        cancelChildren();
+      }
     }
-    top.add(mapError);
-  }
-
-  public Option<IO<T>> tryHandle(Throwable error) {
-    while (top != null) {
-      top.reset();
-      Option<IO<T>> result = top.tryHandle(error);
 
-      if (result.isPresent()) {
-        return result;
-      } else {
-        top = top.prev();
+    private void cancelChildren() {
+      List<IOConnection> copy;
+      lock.lock();
+      try {
+        copy = List.copyOf(children);
+        children.clear();
+      } finally {
+        lock.unlock();
       }
+      copy.forEach(IOConnection::cancel);
     }
-    return Option.none();
-  }
-}
-
-final class StackItem<T> {
-
-  private int count = 0;
-  private final Deque<PartialFunction1<? super Throwable, ? extends Kind<IO<?>, ? extends T>>> recover = new ArrayDeque<>();
-
-  @Nullable
-  private final StackItem<T> prev;
-
-  public StackItem() {
-    this(null);
-  }
-
-  public StackItem(@Nullable StackItem<T> prev) {
-    this.prev = prev;
-  }
-
-  @Nullable
-  public StackItem<T> prev() {
-    return prev;
-  }
-
-  public int count() {
-    return count;
-  }
 
-  public void push() {
-    count++;
-  }
-
-  public void pop() {
-    count--;
-  }
-
-  public void reset() {
-    count = 0;
-  }
-
-  public void add(PartialFunction1<? super Throwable, ? extends Kind<IO<?>, ? extends T>> mapError) {
-    recover.addFirst(mapError);
-  }
-
-  public Option<IO<T>> tryHandle(Throwable error) {
-    while (!recover.isEmpty()) {
-      var mapError = recover.removeFirst();
-      if (mapError.isDefinedAt(error)) {
-        return Option.some(mapError.apply(error).fix(IOOf::toIO));
+    private void interrupt() {
+      lock.lock();
+      try {
+        Thread current = thread;
+        if (current != null && current != Thread.currentThread()) {
+          current.interrupt();
+        }
+      } finally {
+        lock.unlock();
       }
     }
-    return Option.none();
   }
-}
\ No newline at end of file
+}
@@ -22,7 +22,13 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Duration;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,6 +39,7 @@ import com.github.tonivade.purefun.concurrent.Future;
 import com.github.tonivade.purefun.core.Consumer1;
 import com.github.tonivade.purefun.core.Function1;
 import com.github.tonivade.purefun.core.Producer;
+import com.github.tonivade.purefun.core.Tuple;
 import com.github.tonivade.purefun.core.Tuple2;
 import com.github.tonivade.purefun.core.Unit;
 import com.github.tonivade.purefun.data.ImmutableList;
@@ -256,6 +263,63 @@ public class IOTest {
     assertEquals(Try.success(705082704), futureSum.await(Duration.ofSeconds(1)));
   }
 
+  @Test
+  public void mapStackSafety() {
+    IO<Integer> io = IO.pure(0);
+    for (int i = 0; i < 100000; i++) {
+      io = io.map(x -> x + 1);
+    }
+
+    assertEquals(100000, io.unsafeRunSync());
+  }
+
+  @Test
+  public void recoverMapError() {
+    IO<String> io = IO.pure("hola")
+        .<String>map(ignore -> { throw new UnsupportedOperationException(); })
+        .map(String::toUpperCase)
+        .recover(UnsupportedOperationException.class, error -> "adios");
+
+    assertEquals("adios", io.unsafeRunSync());
+  }
+
+  @Test
+  public void safeRunSyncInCallerThread() {
+    IO<Thread> io = IO.unit().map(ignore -> Thread.currentThread());
+
+    assertEquals(Thread.currentThread(), io.unsafeRunSync());
+  }
+
+  @Test
+  public void safeRunSyncWithAsync() {
+    IO<Integer> io = IO.pure(1)
+        .map(x -> x + 1)
+        .flatMap(x -> IO.<Integer>async(callback -> callback.accept(Try.success(x + 1))))
+        .flatMap(x -> IO.forked().andThen(IO.pure(x * 10)))
+        .map(x -> x + 1);
+
+    assertEquals(Try.success(31), io.safeRunSync());
+  }
+
+  @Test
+  public void autoYield() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      AtomicBoolean flag = new AtomicBoolean();
+      Thread worker = executor.submit(Thread::currentThread).get();
+
+      // both fibers share the only thread of the executor, so the short one can only run if the long one yields,
+      // and the long one has to resume in the same thread after every yield
+      Future<Tuple2<Boolean, Thread>> spin = IO.forked(executor).andThen(spinUntil(flag, 10_000_000))
+          .map(result -> Tuple.of(result, Thread.currentThread())).runAsync();
+      IO.forked(executor).andThen(IO.exec(() -> flag.set(true))).runAsync();
+
+      assertEquals(Try.success(Tuple.of(true, worker)), spin.await());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   @Test
   public void timed() {
     IO<Tuple2<Duration, Integer>> sum = sum(100000, 0).timed();
@@ -286,6 +350,81 @@ public class IOTest {
     assertEquals(listOf("left", "right"), traverse.unsafeRunSync());
   }
 
+  @Test
+  public void parTraverseN() {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+
+    IO<Sequence<Integer>> traverse = IO.parTraverseN(3, listOf(1, 2, 3, 4, 5, 6, 7, 8, 9, 10),
+        x -> IO.task(() -> maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max))
+            .andThen(IO.sleep(Duration.ofMillis(10)))
+            .andThen(IO.task(() -> running.decrementAndGet()))
+            .map(ignore -> x * 10));
+
+    assertEquals(listOf(10, 20, 30, 40, 50, 60, 70, 80, 90, 100), traverse.unsafeRunSync());
+    assertTrue(maxRunning.get() <= 3);
+  }
+
+  @Test
+  public void parSequenceNError() {
+    AtomicInteger executed = new AtomicInteger();
+    IO<Integer> error = IO.raiseError(new UnsupportedOperationException());
+    IO<Integer> task = IO.sleep(Duration.ofMillis(100)).andThen(IO.task(executed::incrementAndGet));
+
+    IO<Sequence<Integer>> sequence = IO.parSequenceN(2, listOf(error, task, task, task, task));
+
+    assertThrows(UnsupportedOperationException.class, sequence::unsafeRunSync);
+    assertTrue(executed.get() < 4);
+  }
+
+  @Test
+  public void raceInterruptsLoser() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    IO<Unit> blocking = IO.exec(() -> awaitInterruption(started, interrupted));
+
+    Either<Integer, Unit> result = IO.race(IO.task(() -> {
+      started.await();
+      return 10;
+    }), blocking).unsafeRunSync();
+
+    assertEquals(Either.left(10), result);
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void raceStopsCpuBoundLoser() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch stopped = new CountDownLatch(1);
+    AtomicInteger counter = new AtomicInteger();
+    IO<Unit> loser = IO.bracket(IO.exec(started::countDown), x -> loop(counter), (Unit x) -> stopped.countDown());
+
+    Either<Integer, Unit> result = IO.race(IO.task(() -> {
+      started.await();
+      return 10;
+    }), loser).unsafeRunSync();
+
+    assertEquals(Either.left(10), result);
+    assertTrue(stopped.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void forkIsCancelledWithParent() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch stopped = new CountDownLatch(1);
+    AtomicInteger counter = new AtomicInteger();
+    IO<Unit> child = IO.forked().andThen(
+        IO.bracket(IO.exec(started::countDown), x -> loop(counter), (Unit x) -> stopped.countDown()));
+
+    Either<Integer, Unit> result = IO.race(IO.task(() -> {
+      started.await();
+      return 10;
+    }), child.fork().andThen(IO.<Unit>never())).unsafeRunSync();
+
+    assertEquals(Either.left(10), result);
+    assertTrue(stopped.await(5, TimeUnit.SECONDS));
+  }
+
   @Test
   public void raceA() {
     IO<Either<Integer, String>> race = IO.race(
@@ -396,6 +535,30 @@ public class IOTest {
     return resultSet -> resultSet.getString(column);
   }
 
+  private void awaitInterruption(CountDownLatch started, CountDownLatch interrupted) throws InterruptedException {
+    started.countDown();
+    try {
+      new CountDownLatch(1).await();
+    } catch (InterruptedException e) {
+      interrupted.countDown();
+      throw e;
+    }
+  }
+
+  private IO<Unit> loop(AtomicInteger counter) {
+    return IO.exec(counter::incrementAndGet).flatMap(ignore -> loop(counter));
+  }
+
+  private IO<Boolean> spinUntil(AtomicBoolean flag, int remaining) {
+    if (flag.get()) {
+      return IO.pure(true);
+    }
+    if (remaining == 0) {
+      return IO.pure(false);
+    }
+    return unit().flatMap(ignore -> spinUntil(flag, remaining - 1));
+  }
+
   private IO<Integer> sum(Integer n, Integer sum) {
     if (n == 0) {
       return IO.pure(sum);
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.stream;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+
+import java.util.Iterator;
+
+import com.github.tonivade.purefun.Kind;
+
+import com.github.tonivade.purefun.core.Function1;
+import com.github.tonivade.purefun.core.Function2;
+import com.github.tonivade.purefun.core.Matcher1;
+import com.github.tonivade.purefun.core.PartialFunction1;
+import com.github.tonivade.purefun.core.Producer;
+import com.github.tonivade.purefun.core.Tuple;
+import com.github.tonivade.purefun.core.Tuple2;
+import com.github.tonivade.purefun.data.ImmutableArray;
+import com.github.tonivade.purefun.type.Option;
+import com.github.tonivade.purefun.typeclasses.MonadDefer;
+
+/**
+ * A non empty block of already evaluated elements followed by the rest of the stream.
+ * Pure operations like {@code map}, {@code filter}, {@code take} or {@code foldLeft} are
+ * applied to the whole block at once, instead of one effect per element.
+ *
+ * @param <F> the effect type
+ * @param <T> the type of the elements
+ */
+public final class Chunk<F extends Kind<F, ?>, T> implements PureStream<F, T> {
+
+  static final int DEFAULT_SIZE = 256;
+
+  private final MonadDefer<F> monad;
+  private final ImmutableArray<T> values;
+  private final int offset;
+  private final PureStream<F, T> tail;
+
+  private Chunk(MonadDefer<F> monad, ImmutableArray<T> values, int offset, PureStream<F, T> tail) {
+    this.monad = checkNonNull(monad);
+    this.values = checkNonNull(values);
+    this.offset = offset;
+    this.tail = checkNonNull(tail);
+  }
+
+  static <F extends Kind<F, ?>, T> PureStream<F, T> of(
+      MonadDefer<F> monad, ImmutableArray<T> values, PureStream<F, T> tail) {
+    return values.isEmpty() ? tail : new Chunk<>(monad, values, 0, tail);
+  }
+
+  static <F extends Kind<F, ?>, T> PureStream<F, T> from(MonadDefer<F> monad, Iterable<? extends T> iterable, int size) {
+    Producer<Iterator<? extends T>> iterator = iterable::iterator;
+    return next(monad, iterator.memoized(), size);
+  }
+
+  // the elements are read from the shared iterator when the chunk is evaluated for the first time, and the
+  // chunk is memoized, so the iterator is read only once even if the stream is evaluated many times
+  private static <F extends Kind<F, ?>, T> PureStream<F, T> next(
+      MonadDefer<F> monad, Producer<Iterator<? extends T>> iterator, int size) {
+    Producer<PureStream<F, T>> next = () -> {
+      Iterator<? extends T> current = iterator.get();
+      if (!current.hasNext()) {
+        return new Nil<>(monad);
+      }
+      ImmutableArray.Builder<T> builder = ImmutableArray.builder();
+      for (int i = 0; i < size && current.hasNext(); i++) {
+        builder.append(current.next());
+      }
+      return new Chunk<>(monad, builder.build(), 0, next(monad, iterator, size));
+    };
+    return new Suspend<>(monad, monad.later(next.memoized()));
+  }
+
+  @Override
+  public Kind<F, Option<T>> headOption() {
+    return monad.pure(Option.some(values.get(offset)));
+  }
+
+  @Override
+  public Kind<F, Option<Tuple2<Kind<F, T>, PureStream<F, T>>>> split() {
+    return monad.pure(Option.some(Tuple.of(monad.pure(values.get(offset)), rest())));
+  }
+
+  @Override
+  public PureStream<F, T> concat(PureStream<F, ? extends T> other) {
+    return withTail(() -> tail.concat(other));
+  }
+
+  @Override
+  public PureStream<F, T> append(Kind<F, ? extends T> other) {
+    return withTail(() -> tail.append(other));
+  }
+
+  @Override
+  public PureStream<F, T> prepend(Kind<F, ? extends T> other) {
+    return new Cons<>(monad, Kind.narrowK(other), this);
+  }
+
+  @Override
+  public PureStream<F, T> take(int n) {
+    if (n <= 0) {
+      return empty();
+    }
+    int remaining = size();
+    if (n < remaining) {
+      return of(monad, slice(offset, offset + n), empty());
+    }
+    return withTail(() -> tail.take(n - remaining));
+  }
+
+  @Override
+  public PureStream<F, T> drop(int n) {
+    if (n <= 0) {
+      return this;
+    }
+    int remaining = size();
+    if (n < remaining) {
+      return new Chunk<>(monad, values, offset + n, tail);
+    }
+    return suspend(() -> tail.drop(n - remaining));
+  }
+
+  @Override
+  public PureStream<F, T> takeWhile(Matcher1<? super T> matcher) {
+    return suspend(() -> {
+      int end = indexWhere(matcher.negate());
+      if (end < 0) {
+        return new Chunk<>(monad, values, offset, tail.takeWhile(matcher));
+      }
+      return of(monad, slice(offset, end), empty());
+    });
+  }
+
+  @Override
+  public PureStream<F, T> dropWhile(Matcher1<? super T> matcher) {
+    return suspend(() -> {
+      int start = indexWhere(matcher.negate());
+      if (start < 0) {
+        return tail.dropWhile(matcher);
+      }
+      return new Chunk<>(monad, values, start, tail);
+    });
+  }
+
+  @Override
+  public PureStream<F, T> filter(Matcher1<? super T> matcher) {
+    return suspend(() -> {
+      ImmutableArray.Builder<T> builder = ImmutableArray.builder();
+      for (int i = offset; i < values.size(); i++) {
+        T value = values.get(i);
+        if (matcher.match(value)) {
+          builder.append(value);
+        }
+      }
+      return of(monad, builder.build(), tail.filter(matcher));
+    });
+  }
+
+  @Override
+  public <R> PureStream<F, R> collect(PartialFunction1<? super T, ? extends R> partial) {
+    return suspend(() -> {
+      ImmutableArray.Builder<R> builder = ImmutableArray.builder();
+      for (int i = offset; i < values.size(); i++) {
+        T value = values.get(i);
+        if (partial.isDefinedAt(value)) {
+          builder.append(partial.apply(value));
+        }
+      }
+      return of(monad, builder.build(), tail.collect(partial));
+    });
+  }
+
+  @Override
+  public <R> Kind<F, R> foldLeft(R begin, Function2<? super R, ? super T, ? extends R> combinator) {
+    return monad.defer(() -> {
+      R result = begin;
+      for (int i = offset; i < values.size(); i++) {
+        result = combinator.apply(result, values.get(i));
+      }
+      return tail.foldLeft(result, combinator);
+    });
+  }
+
+  @Override
+  public <R> Kind<F, R> foldRight(Kind<F, ? extends R> begin,
+      Function2<? super T, ? super Kind<F, ? extends R>, ? extends Kind<F, ? extends R>> combinator) {
+    return monad.defer(() -> {
+      Kind<F, ? extends R> result = begin;
+      for (int i = offset; i < values.size(); i++) {
+        result = combinator.apply(values.get(i), result);
+      }
+      return tail.foldRight(result, combinator);
+    });
+  }
+
+  @Override
+  public Kind<F, Boolean> exists(Matcher1<? super T> matcher) {
+    return monad.defer(() -> indexWhere(matcher) < 0 ? tail.exists(matcher) : monad.pure(true));
+  }
+
+  @Override
+  public Kind<F, Boolean> forall(Matcher1<? super T> matcher) {
+    return monad.defer(() -> indexWhere(matcher.negate()) < 0 ? tail.forall(matcher) : monad.pure(false));
+  }
+
+  @Override
+  public <R> PureStream<F, R> map(Function1<? super T, ? extends R> map) {
+    return suspend(() -> {
+      ImmutableArray.Builder<R> builder = ImmutableArray.builder();
+      for (int i = offset; i < values.size(); i++) {
+        builder.append(map.apply(values.get(i)));
+      }
+      return of(monad, builder.build(), tail.map(map));
+    });
+  }
+
+  @Override
+  public <R> PureStream<F, R> mapEval(Function1<? super T, ? extends Kind<F, ? extends R>> mapper) {
+    // every element is evaluated in its own effect, so only the consumed elements are evaluated
+    return suspend(() -> new Cons<>(monad,
+        monad.defer(() -> mapper.apply(values.get(offset))), suspend(() -> rest().mapEval(mapper))));
+  }
+
+  @Override
+  public <R> PureStream<F, R> flatMap(Function1<? super T, ? extends Kind<PureStream<F, ?>, ? extends R>> map) {
+    return suspend(() -> PureStreamOf.<F, R>toPureStream(map.apply(values.get(offset)))
+        .concat(suspend(() -> rest().flatMap(map))));
+  }
+
+  @Override
+  public PureStream<F, T> repeat() {
+    return concat(suspend(this::repeat));
+  }
+
+  @Override
+  public PureStream<F, T> intersperse(Kind<F, ? extends T> value) {
+    return new Cons<>(monad, monad.pure(values.get(offset)),
+        suspend(() -> new Cons<>(monad, Kind.narrowK(value), rest().intersperse(value))));
+  }
+
+  private int size() {
+    return values.size() - offset;
+  }
+
+  private PureStream<F, T> rest() {
+    return offset + 1 < values.size() ? new Chunk<>(monad, values, offset + 1, tail) : tail;
+  }
+
+  private int indexWhere(Matcher1<? super T> matcher) {
+    for (int i = offset; i < values.size(); i++) {
+      if (matcher.match(values.get(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private ImmutableArray<T> slice(int from, int to) {
+    ImmutableArray.Builder<T> builder = ImmutableArray.builder();
+    for (int i = from; i < to; i++) {
+      builder.append(values.get(i));
+    }
+    return builder.build();
+  }
+
+  private PureStream<F, T> withTail(Producer<PureStream<F, T>> next) {
+    return new Chunk<>(monad, values, offset, suspend(next));
+  }
+
+  private <R> PureStream<F, R> suspend(Producer<PureStream<F, R>> stream) {
+    return new Suspend<>(monad, monad.defer(stream.map(monad::<PureStream<F, R>>pure)));
+  }
+
+  private <R> PureStream<F, R> empty() {
+    return new Nil<>(monad);
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.stream;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+
+import com.github.tonivade.purefun.Kind;
+
+import com.github.tonivade.purefun.core.Function1;
+import com.github.tonivade.purefun.core.Function2;
+import com.github.tonivade.purefun.core.Matcher1;
+import com.github.tonivade.purefun.core.PartialFunction1;
+import com.github.tonivade.purefun.core.Tuple;
+import com.github.tonivade.purefun.core.Tuple2;
+import com.github.tonivade.purefun.core.Unit;
+import com.github.tonivade.purefun.type.Option;
+import com.github.tonivade.purefun.typeclasses.MonadDefer;
+
+/**
+ * <p>Stream that runs a finalizer when the downstream is done with it: when the stream ends, when a fold over
+ * the stream completes, also when it fails or it stops before the end, like {@code take(n)}, and when the
+ * downstream stops at the first element, like {@code headOption()}.</p>
+ *
+ * <p>The finalizer is not run when the tail returned by {@code split()} is discarded without being consumed.</p>
+ */
+public final class Finalize<F extends Kind<F, ?>, T> implements PureStream<F, T> {
+
+  private final MonadDefer<F> monad;
+  private final PureStream<F, T> stream;
+  private final Kind<F, Unit> finalizer;
+
+  Finalize(MonadDefer<F> monad, PureStream<F, T> stream, Kind<F, Unit> finalizer) {
+    this.monad = checkNonNull(monad);
+    this.stream = checkNonNull(stream);
+    this.finalizer = checkNonNull(finalizer);
+  }
+
+  @Override
+  public Kind<F, Option<T>> headOption() {
+    return guarantee(stream.headOption());
+  }
+
+  @Override
+  public Kind<F, Option<Tuple2<Kind<F, T>, PureStream<F, T>>>> split() {
+    return monad.flatMap(guaranteeOnError(stream.split()), next -> {
+      if (next.isEmpty()) {
+        return monad.map(finalizer, ignore -> next);
+      }
+      return monad.pure(next.map(pair -> Tuple.of(pair.get1(), wrap(pair.get2()))));
+    });
+  }
+
+  @Override
+  public PureStream<F, T> concat(PureStream<F, ? extends T> other) {
+    return wrap(stream.concat(other));
+  }
+
+  @Override
+  public PureStream<F, T> append(Kind<F, ? extends T> other) {
+    return wrap(stream.append(other));
+  }
+
+  @Override
+  public PureStream<F, T> prepend(Kind<F, ? extends T> other) {
+    return wrap(stream.prepend(other));
+  }
+
+  @Override
+  public PureStream<F, T> take(int n) {
+    if (n > 0) {
+      return wrap(stream.take(n));
+    }
+    return new Suspend<>(monad, monad.map(finalizer, ignore -> new Nil<>(monad)));
+  }
+
+  @Override
+  public PureStream<F, T> drop(int n) {
+    return wrap(stream.drop(n));
+  }
+
+  @Override
+  public PureStream<F, T> filter(Matcher1<? super T> matcher) {
+    return wrap(stream.filter(matcher));
+  }
+
+  @Override
+  public PureStream<F, T> takeWhile(Matcher1<? super T> matcher) {
+    return wrap(stream.takeWhile(matcher));
+  }
+
+  @Override
+  public PureStream<F, T> dropWhile(Matcher1<? super T> matcher) {
+    return wrap(stream.dropWhile(matcher));
+  }
+
+  @Override
+  public <R> PureStream<F, R> collect(PartialFunction1<? super T, ? extends R> partial) {
+    return wrap(stream.collect(partial));
+  }
+
+  @Override
+  public <R> Kind<F, R> foldLeft(R begin, Function2<? super R, ? super T, ? extends R> combinator) {
+    return guarantee(stream.foldLeft(begin, combinator));
+  }
+
+  @Override
+  public <R> Kind<F, R> foldRight(Kind<F, ? extends R> begin,
+      Function2<? super T, ? super Kind<F, ? extends R>, ? extends Kind<F, ? extends R>> combinator) {
+    return guarantee(stream.foldRight(begin, combinator));
+  }
+
+  @Override
+  public Kind<F, Boolean> exists(Matcher1<? super T> matcher) {
+    return guarantee(stream.exists(matcher));
+  }
+
+  @Override
+  public Kind<F, Boolean> forall(Matcher1<? super T> matcher) {
+    return guarantee(stream.forall(matcher));
+  }
+
+  @Override
+  public <R> PureStream<F, R> map(Function1<? super T, ? extends R> map) {
+    return wrap(stream.map(map));
+  }
+
+  @Override
+  public <R> PureStream<F, R> mapEval(Function1<? super T, ? extends Kind<F, ? extends R>> mapper) {
+    return wrap(stream.mapEval(mapper));
+  }
+
+  @Override
+  public <R> PureStream<F, R> flatMap(Function1<? super T, ? extends Kind<PureStream<F, ?>, ? extends R>> map) {
+    return wrap(stream.flatMap(map));
+  }
+
+  @Override
+  public PureStream<F, T> repeat() {
+    return wrap(stream.repeat());
+  }
+
+  @Override
+  public PureStream<F, T> intersperse(Kind<F, ? extends T> value) {
+    return wrap(stream.intersperse(value));
+  }
+
+  private <R> PureStream<F, R> wrap(PureStream<F, R> other) {
+    return new Finalize<>(monad, other, finalizer);
+  }
+
+  private <R> Kind<F, R> guarantee(Kind<F, ? extends R> value) {
+    return monad.flatMap(monad.attempt(Kind.<F, R>narrowK(value)),
+        result -> monad.flatMap(finalizer, ignore -> monad.fromEither(result)));
+  }
+
+  private <R> Kind<F, R> guaranteeOnError(Kind<F, R> value) {
+    return monad.handleErrorWith(value,
+        error -> monad.flatMap(finalizer, ignore -> monad.<R>raiseError(error)));
+  }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.stream;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import static com.github.tonivade.purefun.core.Precondition.checkPositive;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+
+import com.github.tonivade.purefun.Kind;
+import com.github.tonivade.purefun.core.Consumer1;
+import com.github.tonivade.purefun.core.Function1;
+import com.github.tonivade.purefun.core.Tuple;
+import com.github.tonivade.purefun.core.Tuple2;
+import com.github.tonivade.purefun.core.Unit;
+import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.type.Option;
+import com.github.tonivade.purefun.type.Try;
+import com.github.tonivade.purefun.typeclasses.Concurrent;
+import com.github.tonivade.purefun.typeclasses.Fiber;
+
+/**
+ * Concurrent operators over {@link PureStream}. Effects are only started when the downstream
+ * pulls a new element, and never more than the given limit are running or waiting to be
+ * consumed at the same time, so a slow consumer slows down the producers. While the upstream
+ * is pulled, the results of the effects already completed are emitted in order, so a source
+ * slower than the effects doesn't hold them back.
+ *
+ * <p>The fibers still running when the downstream is done, because it stopped early or it
+ * failed, are cancelled.</p>
+ */
+final class ParallelStream {
+
+  private ParallelStream() {}
+
+  static <F extends Kind<F, ?>, T, R> PureStream<F, R> mapEvalPar(Concurrent<F> concurrent,
+      PureStream<F, T> stream, int maxConcurrency, Function1<? super T, ? extends Kind<F, ? extends R>> mapper) {
+    checkNonNull(concurrent);
+    checkNonNull(mapper);
+    checkPositive(maxConcurrency, "maxConcurrency must be positive");
+    return scoped(concurrent,
+        fibers -> ordered(concurrent, fibers, stream, ImmutableList.empty(), maxConcurrency, mapper));
+  }
+
+  static <F extends Kind<F, ?>, T, R> PureStream<F, R> mapEvalParUnordered(Concurrent<F> concurrent,
+      PureStream<F, T> stream, int maxConcurrency, Function1<? super T, ? extends Kind<F, ? extends R>> mapper) {
+    checkNonNull(concurrent);
+    checkNonNull(mapper);
+    PureStream.Of<F> streamOf = PureStream.of(concurrent);
+    return parJoin(concurrent, stream.map(value -> streamOf.<R>eval(mapper.apply(value))), maxConcurrency);
+  }
+
+  static <F extends Kind<F, ?>, T> PureStream<F, T> parJoin(Concurrent<F> concurrent,
+      PureStream<F, PureStream<F, T>> streams, int maxOpen) {
+    checkNonNull(concurrent);
+    checkNonNull(streams);
+    checkPositive(maxOpen, "maxOpen must be positive");
+    // the mailbox is created for every execution of the stream
+    return scoped(concurrent,
+        fibers -> joined(concurrent, fibers, new Mailbox<>(), Option.some(streams), 0, maxOpen));
+  }
+
+  private static <F extends Kind<F, ?>, T> PureStream<F, T> scoped(
+      Concurrent<F> concurrent, Function1<Fibers<F>, PureStream<F, T>> stream) {
+    return new Suspend<>(concurrent, concurrent.later(() -> {
+      Fibers<F> fibers = new Fibers<>(concurrent);
+      return new Finalize<>(concurrent, stream.apply(fibers), concurrent.defer(fibers::cancelAll));
+    }));
+  }
+
+  private static <F extends Kind<F, ?>, T, R> PureStream<F, R> ordered(Concurrent<F> concurrent, Fibers<F> fibers,
+      PureStream<F, T> stream, ImmutableList<Fiber<F, R>> running, int maxConcurrency,
+      Function1<? super T, ? extends Kind<F, ? extends R>> mapper) {
+    if (running.size() < maxConcurrency) {
+      return new Suspend<>(concurrent, concurrent.map(fibers.fork(stream.split()),
+          pull -> pulling(concurrent, fibers, pull, running, maxConcurrency, mapper)));
+    }
+    Fiber<F, R> first = running.head().getOrElseThrow();
+    return new Cons<>(concurrent, first.join(),
+        ordered(concurrent, fibers, stream, running.tail(), maxConcurrency, mapper));
+  }
+
+  // the next element of the upstream is pulled in a fiber, and if the first running effect completes before the
+  // upstream emits, its result is emitted instead of waiting to fill the window, so a slow source doesn't delay
+  // the results that are already completed
+  private static <F extends Kind<F, ?>, T, R> PureStream<F, R> pulling(Concurrent<F> concurrent, Fibers<F> fibers,
+      Fiber<F, Option<Tuple2<Kind<F, T>, PureStream<F, T>>>> pull, ImmutableList<Fiber<F, R>> running,
+      int maxConcurrency, Function1<? super T, ? extends Kind<F, ? extends R>> mapper) {
+    Option<Fiber<F, R>> head = running.head();
+    if (head.isEmpty()) {
+      return new Suspend<>(concurrent, concurrent.flatMap(pull.join(),
+          next -> pulled(concurrent, fibers, next, running, maxConcurrency, mapper)));
+    }
+    Fiber<F, R> first = head.getOrElseThrow();
+    return new Suspend<>(concurrent, concurrent.flatMap(concurrent.racePair(pull.join(), first.join()),
+        either -> either.fold(
+            // the losers of the race are only waiting for the fibers, the fibers keep running
+            left -> concurrent.flatMap(left.get2().cancel(),
+                ignore -> pulled(concurrent, fibers, left.get1(), running, maxConcurrency, mapper)),
+            right -> concurrent.map(right.get1().cancel(),
+                ignore -> new Cons<>(concurrent, concurrent.pure(right.get2()),
+                    pulling(concurrent, fibers, pull, running.tail(), maxConcurrency, mapper))))));
+  }
+
+  private static <F extends Kind<F, ?>, T, R> Kind<F, PureStream<F, R>> pulled(Concurrent<F> concurrent,
+      Fibers<F> fibers, Option<Tuple2<Kind<F, T>, PureStream<F, T>>> next, ImmutableList<Fiber<F, R>> running,
+      int maxConcurrency, Function1<? super T, ? extends Kind<F, ? extends R>> mapper) {
+    return next.fold(
+        () -> concurrent.pure(drain(concurrent, running)),
+        pair -> concurrent.map(
+            fibers.<R>fork(concurrent.flatMap(pair.get1(), mapper)),
+            fiber -> ordered(concurrent, fibers, pair.get2(), running.append(fiber), maxConcurrency, mapper)));
+  }
+
+  private static <F extends Kind<F, ?>, R> PureStream<F, R> drain(
+      Concurrent<F> concurrent, ImmutableList<Fiber<F, R>> running) {
+    return running.head().fold(
+        () -> new Nil<>(concurrent),
+        fiber -> new Cons<>(concurrent, fiber.join(), drain(concurrent, running.tail())));
+  }
+
+  private static <F extends Kind<F, ?>, T> PureStream<F, T> joined(Concurrent<F> concurrent, Fibers<F> fibers,
+      Mailbox<Option<Tuple2<T, PureStream<F, T>>>> mailbox, Option<PureStream<F, PureStream<F, T>>> outer,
+      int running, int maxOpen) {
+    if (running < maxOpen && outer.isPresent()) {
+      return new Suspend<>(concurrent, concurrent.flatMap(outer.getOrElseThrow().split(),
+          next -> next.fold(
+              () -> concurrent.pure(joined(concurrent, fibers, mailbox, Option.none(), running, maxOpen)),
+              pair -> concurrent.flatMap(pair.get1(),
+                  inner -> concurrent.map(pull(concurrent, fibers, mailbox, inner),
+                      ignore -> joined(concurrent, fibers, mailbox, Option.some(pair.get2()), running + 1, maxOpen))))));
+    }
+    if (running == 0) {
+      return new Nil<>(concurrent);
+    }
+    Kind<F, Option<Tuple2<T, PureStream<F, T>>>> completed = concurrent.<Option<Tuple2<T, PureStream<F, T>>>>async(mailbox::poll);
+    return new Suspend<>(concurrent, concurrent.map(completed,
+        next -> next.fold(
+            () -> joined(concurrent, fibers, mailbox, outer, running - 1, maxOpen),
+            pair -> new Cons<>(concurrent, concurrent.pure(pair.get1()),
+                // the next element of this stream is requested only when the downstream asks for more
+                new Suspend<>(concurrent, concurrent.map(pull(concurrent, fibers, mailbox, pair.get2()),
+                    ignore -> joined(concurrent, fibers, mailbox, outer, running, maxOpen)))))));
+  }
+
+  private static <F extends Kind<F, ?>, T> Kind<F, Fiber<F, Unit>> pull(Concurrent<F> concurrent, Fibers<F> fibers,
+      Mailbox<Option<Tuple2<T, PureStream<F, T>>>> mailbox, PureStream<F, T> stream) {
+    Kind<F, Option<Tuple2<T, PureStream<F, T>>>> next = concurrent.flatMap(stream.split(),
+        option -> option.fold(
+            () -> concurrent.pure(Option.none()),
+            pair -> concurrent.map(pair.get1(), value -> Option.some(Tuple.of(value, pair.get2())))));
+    return fibers.fork(concurrent.flatMap(concurrent.attempt(next),
+        result -> concurrent.exec(() -> mailbox.offer(result.fold(Try::failure, Try::success)))));
+  }
+
+  /**
+   * Fibers started by one execution of a stream that are still running. A fiber is forgotten when
+   * it completes, so the set doesn't grow with the length of the stream.
+   */
+  private static final class Fibers<F extends Kind<F, ?>> {
+
+    private final Concurrent<F> concurrent;
+    private final Map<Object, Fiber<F, ?>> running = new HashMap<>();
+    // fibers that completed before they were registered
+    private final Set<Object> completed = new HashSet<>();
+
+    Fibers(Concurrent<F> concurrent) {
+      this.concurrent = checkNonNull(concurrent);
+    }
+
+    <A> Kind<F, Fiber<F, A>> fork(Kind<F, ? extends A> value) {
+      Object key = new Object();
+      Kind<F, A> tracked = concurrent.flatMap(concurrent.attempt(Kind.<F, A>narrowK(value)),
+          result -> concurrent.flatMap(concurrent.exec(() -> completed(key)),
+              ignore -> concurrent.fromEither(result)));
+      return concurrent.map(concurrent.fork(tracked), fiber -> started(key, fiber));
+    }
+
+    Kind<F, Unit> cancelAll() {
+      List<Fiber<F, ?>> fibers;
+      synchronized (this) {
+        fibers = List.copyOf(running.values());
+        running.clear();
+      }
+      Kind<F, Unit> result = concurrent.pure(Unit.unit());
+      for (Fiber<F, ?> fiber : fibers) {
+        result = concurrent.flatMap(result, ignore -> fiber.cancel());
+      }
+      return result;
+    }
+
+    private synchronized <A> Fiber<F, A> started(Object key, Fiber<F, A> fiber) {
+      if (!completed.remove(key)) {
+        running.put(key, fiber);
+      }
+      return fiber;
+    }
+
+    private synchronized void completed(Object key) {
+      if (running.remove(key) == null) {
+        completed.add(key);
+      }
+    }
+  }
+
+  /**
+   * Results completed by the running fibers, waiting to be consumed by the stream.
+   * There is at most one result per running fiber, and only one consumer waiting at a time.
+   */
+  private static final class Mailbox<A> {
+
+    private final Deque<Try<A>> ready = new ArrayDeque<>();
+    private @Nullable Consumer1<? super Try<? extends A>> waiting;
+
+    void offer(Try<A> result) {
+      Consumer1<? super Try<? extends A>> callback;
+      synchronized (this) {
+        callback = waiting;
+        if (callback == null) {
+          ready.add(result);
+          return;
+        }
+        waiting = null;
+      }
+      callback.accept(result);
+    }
+
+    void poll(Consumer1<? super Try<? extends A>> callback) {
+      Try<A> result;
+      synchronized (this) {
+        result = ready.poll();
+        if (result == null) {
+          waiting = callback;
+          return;
+        }
+      }
+      callback.accept(result);
+    }
+  }
+}
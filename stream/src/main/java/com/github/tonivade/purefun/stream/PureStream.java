@@ -4,6 +4,7 @@
  */
 package com.github.tonivade.purefun.stream;
 
+import static com.github.tonivade.purefun.core.Precondition.checkPositive;
 import static com.github.tonivade.purefun.core.Unit.unit;
 import java.util.Arrays;
 import java.util.stream.Stream;
@@ -24,13 +25,16 @@ import com.github.tonivade.purefun.core.Unit;
 import com.github.tonivade.purefun.data.ImmutableList;
 import com.github.tonivade.purefun.data.Sequence;
 import com.github.tonivade.purefun.type.Option;
+import com.github.tonivade.purefun.typeclasses.Concurrent;
 import com.github.tonivade.purefun.typeclasses.Instances;
 import com.github.tonivade.purefun.typeclasses.MonadDefer;
+import com.github.tonivade.purefun.typeclasses.Queue;
+import com.github.tonivade.purefun.typeclasses.Topic;
 
 @HigherKind
 public sealed interface PureStream<F extends Kind<F, ?>, T>
   extends PureStreamOf<F, T>, Bindable<PureStream<F, ?>, T>
-    permits Cons, Suspend, Nil {
+    permits Cons, Chunk, Suspend, Nil, Finalize {
 
   default PureStream<F, T> head() {
     return take(1);
@@ -74,6 +78,16 @@ public sealed interface PureStream<F extends Kind<F, ?>, T>
 
   <R> PureStream<F, R> mapEval(Function1<? super T, ? extends Kind<F, ? extends R>> mapper);
 
+  default <R> PureStream<F, R> mapEvalPar(Concurrent<F> concurrent, int maxConcurrency,
+      Function1<? super T, ? extends Kind<F, ? extends R>> mapper) {
+    return ParallelStream.mapEvalPar(concurrent, this, maxConcurrency, mapper);
+  }
+
+  default <R> PureStream<F, R> mapEvalParUnordered(Concurrent<F> concurrent, int maxConcurrency,
+      Function1<? super T, ? extends Kind<F, ? extends R>> mapper) {
+    return ParallelStream.mapEvalParUnordered(concurrent, this, maxConcurrency, mapper);
+  }
+
   PureStream<F, T> repeat();
   PureStream<F, T> intersperse(Kind<F, ? extends T> value);
 
@@ -96,6 +110,10 @@ public sealed interface PureStream<F extends Kind<F, ?>, T>
     return foldLeft(unit(), (acc, a) -> acc);
   }
 
+  default Kind<F, Unit> toQueue(Queue<F, ? super T> queue) {
+    return mapEval(queue::offer).drain();
+  }
+
   default <R> PureStream<F, R> mapReplace(Kind<F, ? extends R> next) {
     return mapEval(ignore -> next);
   }
@@ -153,6 +171,16 @@ public sealed interface PureStream<F extends Kind<F, ?>, T>
     return of(Instances.monadDefer(reified)).from(sequence);
   }
 
+  @SafeVarargs
+  static <F extends Kind<F, ?>, T> PureStream<F, T> fromQueue(Queue<F, T> queue, F...reified) {
+    return of(Instances.monadDefer(reified)).fromQueue(queue);
+  }
+
+  @SafeVarargs
+  static <F extends Kind<F, ?>, T> PureStream<F, T> subscribe(Topic<F, T> topic, int maxQueued, F...reified) {
+    return of(Instances.monadDefer(reified)).subscribe(topic, maxQueued);
+  }
+
   @SafeVarargs
   static <F extends Kind<F, ?>, T, S> PureStream<F, T> unfold(
       S seed, Function1<? super S, Option<Tuple2<? extends T, ? extends S>>> function, F...reified) {
@@ -190,6 +218,15 @@ public sealed interface PureStream<F extends Kind<F, ?>, T>
     return of(Instances.monadDefer(reified)).merge(s1, s2);
   }
 
+  @SafeVarargs
+  static <F extends Kind<F, ?>, A> PureStream<F, A> parJoin(PureStream<F, PureStream<F, A>> streams, int maxOpen, F...reified) {
+    return parJoin(Instances.concurrent(reified), streams, maxOpen);
+  }
+
+  static <F extends Kind<F, ?>, A> PureStream<F, A> parJoin(Concurrent<F> concurrent, PureStream<F, PureStream<F, A>> streams, int maxOpen) {
+    return ParallelStream.parJoin(concurrent, streams, maxOpen);
+  }
+
   interface Of<F extends Kind<F, ?>> {
 
     MonadDefer<F> monadDefer();
@@ -222,15 +259,30 @@ public sealed interface PureStream<F extends Kind<F, ?>, T>
     }
 
     default <T> PureStream<F, T> from(Iterable<? extends T> iterable) {
-      return from(ImmutableList.from(iterable));
+      return from(iterable, Chunk.DEFAULT_SIZE);
     }
 
-    default <T> PureStream<F, T> from(java.util.stream.Stream<? extends T> stream) {
-      return from(ImmutableList.from(stream::iterator));
+    default <T> PureStream<F, T> from(Iterable<? extends T> iterable, int chunkSize) {
+      return Chunk.from(monadDefer(), iterable, checkPositive(chunkSize));
+    }
+
+    default <T> PureStream<F, T> from(Stream<? extends T> stream) {
+      Stream<T> values = stream.map(x -> x);
+      return from(values::iterator);
     }
 
     default <T> PureStream<F, T> from(Sequence<? extends T> sequence) {
-      return sequence.foldLeft(empty(), (acc, a) -> acc.append(monadDefer().pure(a)));
+      return from((Iterable<? extends T>) sequence);
+    }
+
+    default <T> PureStream<F, T> fromQueue(Queue<F, T> queue) {
+      return eval(queue.take()).repeat();
+    }
+
+    default <T> PureStream<F, T> subscribe(Topic<F, T> topic, int maxQueued) {
+      // unsubscribes when the downstream is done, so a subscriber that stops early doesn't block the publishers
+      return eval(topic.subscribe(maxQueued)).flatMap(
+          queue -> new Finalize<F, T>(monadDefer(), fromQueue(queue), topic.unsubscribe(queue)));
     }
 
     default <T, S> PureStream<F, T> unfold(S seed, Function1<? super S, Option<Tuple2<? extends T, ? extends S>>> function) {
@@ -54,7 +54,8 @@ public final class Suspend<F extends Kind<F, ?>, T> implements PureStream<F, T>
 
   @Override
   public PureStream<F, T> take(int n) {
-    return lazyMap(s -> s.take(n));
+    // nothing is pulled from the suspended stream when the downstream doesn't want more elements
+    return n > 0 ? lazyMap(s -> s.take(n)) : new Nil<>(monad);
   }
 
   @Override
@@ -5,6 +5,7 @@
 package com.github.tonivade.purefun.stream;
 
 import static com.github.tonivade.purefun.core.Function1.cons;
+import static com.github.tonivade.purefun.core.Function1.identity;
 import static com.github.tonivade.purefun.data.Sequence.listOf;
 import static java.util.Objects.nonNull;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -15,7 +16,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.github.tonivade.purefun.Kind;
 import com.github.tonivade.purefun.concurrent.Future;
 import com.github.tonivade.purefun.core.PartialFunction1;
+import com.github.tonivade.purefun.core.Tuple;
 import com.github.tonivade.purefun.core.Tuple2;
+import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.data.Range;
 import com.github.tonivade.purefun.data.Sequence;
 import com.github.tonivade.purefun.effect.EIO;
 import com.github.tonivade.purefun.effect.EIOOf;
@@ -26,16 +30,26 @@ import com.github.tonivade.purefun.effect.TaskOf;
 import com.github.tonivade.purefun.effect.UIO;
 import com.github.tonivade.purefun.effect.UIOOf;
 import com.github.tonivade.purefun.effect.URIO;
+import com.github.tonivade.purefun.instances.IOInstances;
 import com.github.tonivade.purefun.instances.PureStreamInstances;
 import com.github.tonivade.purefun.monad.IO;
 import com.github.tonivade.purefun.monad.IOOf;
 import com.github.tonivade.purefun.stream.PureStream.Of;
 import com.github.tonivade.purefun.type.Option;
+import com.github.tonivade.purefun.type.Try;
+import com.github.tonivade.purefun.typeclasses.Concurrent;
+import com.github.tonivade.purefun.typeclasses.Queue;
+import com.github.tonivade.purefun.typeclasses.Topic;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 public class PureStreamTest {
@@ -80,6 +94,196 @@ public class PureStreamTest {
     assertEquals(Integer.valueOf(12), run(result.foldLeft(0, Integer::sum)));
   }
 
+  @Test
+  public void mapEvalPar() throws InterruptedException {
+    Concurrent<IO<?>> concurrent = IOInstances.concurrent();
+    AtomicInteger started = new AtomicInteger();
+    CountDownLatch full = new CountDownLatch(3);
+    CountDownLatch gate = new CountDownLatch(1);
+    PureStream<IO<?>, Integer> stream = PureStream.from(listOf(5, 1, 4, 2, 3, 1, 2));
+
+    PureStream<IO<?>, Integer> result = stream.mapEvalPar(concurrent, 3,
+        i -> IO.forked().andThen(IO.task(() -> {
+          started.incrementAndGet();
+          full.countDown();
+          gate.await();
+          return i * 2;
+        })));
+
+    IO<Sequence<Integer>> program = result.asSequence().fix(IOOf::toIO);
+    Future<Sequence<Integer>> future = program.runAsync();
+
+    // the first effects are blocked, so the next one can't start until one of them is consumed
+    assertTrue(full.await(5, TimeUnit.SECONDS));
+    assertEquals(3, started.get());
+
+    gate.countDown();
+
+    assertEquals(listOf(10, 2, 8, 4, 6, 2, 4), future.await().getOrElseThrow());
+    assertEquals(7, started.get());
+  }
+
+  @Test
+  public void mapEvalParWithSlowSource() {
+    Concurrent<IO<?>> concurrent = IOInstances.concurrent();
+    Queue<IO<?>, Integer> queue = Queue.bounded(IOInstances.async(), 3);
+    // pulling the next element waits for the queue, and the next element is only offered when the
+    // previous result is emitted, so the results can't wait until the window is full
+    PureStream<IO<?>, Integer> stream = streamOfIO.fromQueue(queue).flatMap(streamOfIO::pure);
+
+    PureStream<IO<?>, Integer> result = stream.mapEvalPar(concurrent, 3, i -> IO.task(() -> i * 2))
+        .mapEval(i -> queue.offer(i / 2 + 1).fix(IOOf::toIO).map(ignore -> i)).take(3);
+
+    IO<Sequence<Integer>> program = queue.offer(1).fix(IOOf::toIO).andThen(result.asSequence().fix(IOOf::toIO));
+
+    assertEquals(Try.success(listOf(2, 4, 6)), program.runAsync().await(Duration.ofSeconds(5)));
+  }
+
+  @Test
+  public void mapEvalParUnordered() {
+    Concurrent<IO<?>> concurrent = IOInstances.concurrent();
+    PureStream<IO<?>, Integer> stream = PureStream.from(listOf(5, 1));
+
+    PureStream<IO<?>, Integer> result = stream.mapEvalParUnordered(concurrent, 2,
+        i -> IO.delay(Duration.ofMillis(i * 50), () -> i));
+
+    assertAll(
+        () -> assertEquals(listOf(1, 5), run(result.asSequence())),
+        () -> assertEquals(listOf(5, 1), run(stream.mapEvalParUnordered(concurrent, 1,
+            i -> IO.delay(Duration.ofMillis(i * 10), () -> i)).asSequence())),
+        () -> assertEquals(listOf(1), run(stream.mapEvalParUnordered(concurrent, 2,
+            i -> IO.delay(Duration.ofMillis(i * 50), () -> i)).take(1).asSequence())));
+  }
+
+  @Test
+  public void mapEvalParCancelsWhenDownstreamStops() throws InterruptedException {
+    Concurrent<IO<?>> concurrent = IOInstances.concurrent();
+    CountDownLatch started = new CountDownLatch(2);
+    CountDownLatch interrupted = new CountDownLatch(2);
+    PureStream<IO<?>, Integer> stream = PureStream.from(listOf(1, 2, 3));
+
+    PureStream<IO<?>, Integer> result = stream.mapEvalPar(concurrent, 3,
+        i -> IO.forked().andThen(IO.task(() -> {
+          if (i > 1) {
+            return blockUntilInterrupted(started, interrupted);
+          }
+          started.await();
+          return i;
+        })));
+
+    assertEquals(listOf(1), run(result.take(1).asSequence()));
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void mapEvalParCancelsOnError() throws InterruptedException {
+    Concurrent<IO<?>> concurrent = IOInstances.concurrent();
+    CountDownLatch started = new CountDownLatch(2);
+    CountDownLatch interrupted = new CountDownLatch(2);
+    PureStream<IO<?>, Integer> stream = PureStream.from(listOf(1, 2, 3));
+
+    PureStream<IO<?>, Integer> result = stream.mapEvalPar(concurrent, 3,
+        i -> IO.forked().andThen(IO.task(() -> {
+          if (i > 1) {
+            return blockUntilInterrupted(started, interrupted);
+          }
+          started.await();
+          throw new UnsupportedOperationException();
+        })));
+
+    assertThrows(UnsupportedOperationException.class, () -> run(result.asSequence()));
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void mapEvalParUnorderedCancelsWhenDownstreamStops() throws InterruptedException {
+    Concurrent<IO<?>> concurrent = IOInstances.concurrent();
+    CountDownLatch started = new CountDownLatch(2);
+    CountDownLatch interrupted = new CountDownLatch(2);
+    PureStream<IO<?>, Integer> stream = PureStream.from(listOf(1, 2, 3));
+
+    PureStream<IO<?>, Integer> result = stream.mapEvalParUnordered(concurrent, 3,
+        i -> IO.forked().andThen(IO.task(() -> {
+          if (i > 1) {
+            return blockUntilInterrupted(started, interrupted);
+          }
+          started.await();
+          return i;
+        })));
+
+    assertEquals(listOf(1), run(result.take(1).asSequence()));
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void parJoin() {
+    PureStream<IO<?>, PureStream<IO<?>, Integer>> streams = PureStream.from(listOf(
+        PureStream.<IO<?>, Integer>from(listOf(1, 2, 3)).mapEval(i -> IO.delay(Duration.ofMillis(100), () -> i)),
+        PureStream.<IO<?>, Integer>from(listOf(10, 20)).mapEval(i -> IO.delay(Duration.ofMillis(5), () -> i)),
+        PureStream.<IO<?>, Integer>empty(),
+        PureStream.<IO<?>, Integer>from(listOf(100))));
+
+    Sequence<Integer> result = run(PureStream.parJoin(streams, 2).asSequence());
+    Sequence<Integer> sequential = run(PureStream.parJoin(streams, 1).asSequence());
+
+    assertAll(
+        () -> assertEquals(136, result.stream().mapToInt(Integer::intValue).sum()),
+        () -> assertEquals(listOf(10, 20, 100, 1, 2, 3), result),
+        () -> assertEquals(listOf(1, 2, 3, 10, 20, 100), sequential));
+  }
+
+  @Test
+  public void parJoinError() {
+    PureStream<IO<?>, PureStream<IO<?>, Integer>> streams = PureStream.from(listOf(
+        PureStream.<IO<?>, Integer>from(listOf(1, 2)),
+        PureStream.<IO<?>, Integer>eval(IO.raiseError(new UnsupportedOperationException()))));
+
+    assertThrows(UnsupportedOperationException.class, () -> run(PureStream.parJoin(streams, 2).asSequence()));
+  }
+
+  @Test
+  public void queue() {
+    Queue<IO<?>, Integer> queue = Queue.bounded(IOInstances.async(), 2);
+    PureStream<IO<?>, Integer> stream = streamOfIO.from(Range.of(0, 100));
+
+    IO<Sequence<Integer>> program = stream.toQueue(queue).fix(IOOf::toIO).fork()
+        .flatMap(ignore -> streamOfIO.fromQueue(queue).take(100).asSequence().fix(IOOf::toIO));
+
+    assertEquals(ImmutableList.from(Range.of(0, 100)), run(program));
+  }
+
+  @Test
+  public void topic() {
+    Topic<IO<?>, String> topic = Topic.of(IOInstances.async());
+    PureStream<IO<?>, String> subscriber = streamOfIO.subscribe(topic, 1).take(3);
+
+    IO<Tuple2<Sequence<String>, Sequence<String>>> program =
+        subscriber.asSequence().fix(IOOf::toIO).fork().flatMap(
+            first -> subscriber.map(String::toUpperCase).asSequence().fix(IOOf::toIO).fork().flatMap(
+                second -> streamOfIO.of("a", "b", "c").mapEval(topic::publish).drain().fix(IOOf::toIO)
+                    .andThen(first.join().fix(IOOf::toIO).flatMap(
+                        a -> second.join().fix(IOOf::toIO).map(b -> Tuple.of(a, b))))));
+
+    assertEquals(Tuple.of(listOf("a", "b", "c"), listOf("A", "B", "C")), run(program));
+  }
+
+  @Test
+  public void topicUnsubscribesWhenSubscriberEnds() {
+    Topic<IO<?>, String> topic = Topic.of(IOInstances.async());
+    PureStream<IO<?>, String> subscriber = streamOfIO.subscribe(topic, 1).take(1);
+
+    // without unsubscribing, the queue of the subscriber is full after "b" and publishing "c" blocks forever
+    IO<Tuple2<Sequence<String>, Integer>> program =
+        subscriber.asSequence().fix(IOOf::toIO).fork().flatMap(
+            first -> topic.publish("a").fix(IOOf::toIO)
+                .andThen(first.join().fix(IOOf::toIO))
+                .flatMap(a -> streamOfIO.of("b", "c", "d").mapEval(topic::publish).drain().fix(IOOf::toIO)
+                    .andThen(topic.subscribers().fix(IOOf::toIO))
+                    .map(subscribers -> Tuple.of(a, subscribers))));
+
+    assertEquals(Tuple.of(listOf("a"), 0), run(program));
+  }
+
   @Test
   public void append() {
     PureStream<IO<?>, Integer> stream = PureStream.from(listOf(1, 2, 3));
@@ -294,6 +498,47 @@ public class PureStreamTest {
         () -> assertEquals("--- file not found ---", notFound.await().getOrElseThrow()));
   }
 
+  @Test
+  public void chunks() {
+    PureStream<IO<?>, Integer> stream = streamOfIO.from(listOf(1, 2, 3, 4, 5, 6, 7), 3);
+
+    assertAll(
+        () -> assertEquals(listOf(2, 4, 6), run(stream.filter(i -> i % 2 == 0).asSequence())),
+        () -> assertEquals(listOf(3, 4, 5, 6), run(stream.drop(2).take(4).asSequence())),
+        () -> assertEquals(listOf(1, 2, 3, 4), run(stream.takeWhile(i -> i < 5).asSequence())),
+        () -> assertEquals(listOf(5, 6, 7), run(stream.dropWhile(i -> i < 5).asSequence())),
+        () -> assertEquals(listOf(10, 20, 30, 40, 50, 60, 70), run(stream.map(i -> i * 10).asSequence())),
+        () -> assertEquals(listOf(Tuple.of(1, 0), Tuple.of(2, 1), Tuple.of(3, 2)), run(PureStream.zipWithIndex(stream).take(3).asSequence())),
+        () -> assertEquals(listOf(1, 0, 2, 0, 3, 0), run(stream.take(3).intersperse(IO.pure(0)).asSequence())),
+        () -> assertEquals(listOf(1, 1, 2, 2), run(stream.take(2).flatMap(i -> streamOfIO.of(i, i)).asSequence())),
+        () -> assertEquals(listOf(3, 4), run(stream.collect(PartialFunction1.of(i -> i > 2 && i < 5, i -> i)).asSequence())),
+        () -> assertEquals(listOf(1, 2, 3, 1, 2), run(stream.take(3).repeat().take(5).asSequence())),
+        () -> assertTrue(run(stream.exists(i -> i == 7))),
+        () -> assertFalse(run(stream.forall(i -> i < 7))),
+        () -> assertEquals(Option.some(1), run(stream.headOption())));
+  }
+
+  @Test
+  public void chunksAreReadLazily() {
+    AtomicInteger read = new AtomicInteger();
+    PureStream<IO<?>, Integer> stream = streamOfIO.from(Stream.iterate(0, i -> i + 1).peek(i -> read.incrementAndGet()));
+
+    assertAll(
+        () -> assertEquals(listOf(0, 1, 2), run(stream.take(3).asSequence())),
+        () -> assertEquals(listOf(0, 1, 2), run(stream.take(3).asSequence())),
+        () -> assertEquals(Chunk.DEFAULT_SIZE, read.get()));
+  }
+
+  @Test
+  public void largeStream() {
+    PureStream<IO<?>, Integer> stream = streamOfIO.from(Range.of(0, 1_000_000).map(identity()));
+
+    Kind<IO<?>, Long> sum = stream.map(i -> i * 2).filter(i -> i % 3 == 0).foldLeft(0L, (acc, i) -> acc + i);
+
+    assertEquals(333333666666L, run(sum));
+    assertEquals(Integer.valueOf(999_999), run(stream.drop(999_999).headOption()).getOrElseThrow());
+  }
+
   @Test
   public void test() {
     PureStream<IO<?>, Integer> stream = streamOfIO.from(listOf("a", "b", "c")).mapReplace(IO.pure(1));
@@ -384,6 +629,18 @@ public class PureStreamTest {
     }
   }
 
+  private static Integer blockUntilInterrupted(CountDownLatch started, CountDownLatch interrupted)
+      throws InterruptedException {
+    started.countDown();
+    try {
+      new CountDownLatch(1).await();
+      return 0;
+    } catch (InterruptedException e) {
+      interrupted.countDown();
+      throw e;
+    }
+  }
+
   private static <T> T run(Kind<IO<?>, T> effect) {
     return effect.fix(IOOf::toIO).unsafeRunSync();
   }
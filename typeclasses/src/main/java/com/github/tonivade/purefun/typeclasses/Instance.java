@@ -4,8 +4,6 @@
  */
 package com.github.tonivade.purefun.typeclasses;
 
-import static com.github.tonivade.purefun.data.Sequence.listOf;
-import static com.github.tonivade.purefun.data.Sequence.zip;
 import static java.lang.Character.toLowerCase;
 
 import java.lang.reflect.InvocationTargetException;
@@ -13,12 +11,21 @@ import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.github.tonivade.purefun.Kind;
 import com.github.tonivade.purefun.type.Try;
 
 public abstract class Instance<F extends Kind<F, ?>> {
 
+  private static final ClassValue<Registry> REGISTRY = new ClassValue<>() {
+    @Override
+    protected Registry computeValue(Class<?> kindType) {
+      return new Registry(kindType);
+    }
+  };
+
   private final Class<?> kindType;
   private final Type type;
 
@@ -113,15 +120,6 @@ public abstract class Instance<F extends Kind<F, ?>> {
     return load(this, Traverse.class, params);
   }
 
-  private String instanceName() {
-    return "com.github.tonivade.purefun.instances." + kindType.getSimpleName() + "Instances";
-  }
-
-  @SuppressWarnings("unchecked")
-  private Try<Class<F>> instanceType() {
-    return Try.of(() -> (Class<F>) Class.forName(instanceName()));
-  }
-
   private static Type genericType(Type type) {
     if (type instanceof ParameterizedType parameterizedType) {
       return parameterizedType.getActualTypeArguments()[0];
@@ -136,29 +134,76 @@ public abstract class Instance<F extends Kind<F, ?>> {
     throw new UnsupportedOperationException("not supported " + type.getTypeName());
   }
 
+  @SuppressWarnings("unchecked")
   private static <F extends Kind<F, ?>, T> T load(Instance<F> instance, Class<?> typeClass, Object... args) {
-    return instance.instanceType()
-      .map(clazz -> findMethod(clazz, typeClass, args))
-      .map(method -> Instance.<T>getInstance(method, args))
+    return (T) REGISTRY.get(instance.kindType).load(typeClass, args)
       .mapError(error -> new InstanceNotFoundException(instance.getType(), typeClass, error))
       .getOrElseThrow();
   }
 
-  private static Method findMethod(Class<?> instanceClass, Class<?> typeClass, Object... args)
-      throws NoSuchMethodException {
-    String simpleName = typeClass.getSimpleName();
-    String methodName = toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
-    return Arrays.stream(instanceClass.getDeclaredMethods())
-        .filter(m -> m.getName().equals(methodName))
-        .filter(m -> m.getParameterCount() == args.length)
-        .filter(m -> zip(listOf(m.getParameterTypes()), listOf(args)).allMatch(tuple -> tuple.applyTo(Class::isInstance)))
-        .findFirst()
-        .orElseThrow(NoSuchMethodException::new);
-  }
+  /**
+   * Instances of a kind type. The class with the instances is resolved only once, the factory methods of every
+   * type class are looked up the first time they are used, and instances without parameters are created only once.
+   */
+  private static final class Registry {
 
-  @SuppressWarnings("unchecked")
-  private static <T> T getInstance(Method method, Object...args)
-      throws IllegalAccessException, InvocationTargetException {
-    return (T) method.invoke(null, args);
+    private final Try<Class<?>> instanceType;
+    private final Map<Class<?>, Try<Object>> constants = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Method[]> methods = new ConcurrentHashMap<>();
+
+    private Registry(Class<?> kindType) {
+      this.instanceType = Try.of(
+          () -> Class.forName("com.github.tonivade.purefun.instances." + kindType.getSimpleName() + "Instances"));
+    }
+
+    private Try<Object> load(Class<?> typeClass, Object... args) {
+      if (args.length == 0) {
+        return constants.computeIfAbsent(typeClass, key -> create(key));
+      }
+      return create(typeClass, args);
+    }
+
+    private Try<Object> create(Class<?> typeClass, Object... args) {
+      return instanceType
+        .map(clazz -> findMethod(clazz, typeClass, args))
+        .map(method -> getInstance(method, args));
+    }
+
+    private Method findMethod(Class<?> instanceClass, Class<?> typeClass, Object... args)
+        throws NoSuchMethodException {
+      Method[] candidates = methods.computeIfAbsent(typeClass, key -> candidates(instanceClass, key));
+      for (Method method : candidates) {
+        if (matches(method, args)) {
+          return method;
+        }
+      }
+      throw new NoSuchMethodException();
+    }
+
+    private static Method[] candidates(Class<?> instanceClass, Class<?> typeClass) {
+      String simpleName = typeClass.getSimpleName();
+      String methodName = toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
+      return Arrays.stream(instanceClass.getDeclaredMethods())
+          .filter(m -> m.getName().equals(methodName))
+          .toArray(Method[]::new);
+    }
+
+    private static boolean matches(Method method, Object... args) {
+      Class<?>[] parameterTypes = method.getParameterTypes();
+      if (parameterTypes.length != args.length) {
+        return false;
+      }
+      for (int i = 0; i < args.length; i++) {
+        if (!parameterTypes[i].isInstance(args[i])) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static Object getInstance(Method method, Object...args)
+        throws IllegalAccessException, InvocationTargetException {
+      return method.invoke(null, args);
+    }
   }
 }
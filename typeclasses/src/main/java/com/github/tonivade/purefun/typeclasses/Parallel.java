@@ -4,6 +4,11 @@
  */
 package com.github.tonivade.purefun.typeclasses;
 
+import static com.github.tonivade.purefun.core.Precondition.checkPositive;
+
+import java.util.ArrayList;
+import java.util.List;
+
 import com.github.tonivade.purefun.Kind;
 
 import com.github.tonivade.purefun.core.Function1;
@@ -11,6 +16,8 @@ import com.github.tonivade.purefun.core.Function2;
 import com.github.tonivade.purefun.core.Function3;
 import com.github.tonivade.purefun.core.Function4;
 import com.github.tonivade.purefun.core.Function5;
+import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.data.Sequence;
 
 public interface Parallel<F extends Kind<F, ?>, G extends Kind<G, ?>> {
 
@@ -30,6 +37,29 @@ public interface Parallel<F extends Kind<F, ?>, G extends Kind<G, ?>> {
     return sequential(traverse.traverse(applicative(), value, a -> parallel(mapper.apply(a))));
   }
 
+  default <A> Kind<F, Sequence<A>> parSequenceN(int parallelism, Sequence<? extends Kind<F, ? extends A>> values) {
+    return parTraverseN(parallelism, values, Function1.identity());
+  }
+
+  default <A, B> Kind<F, Sequence<B>> parTraverseN(int parallelism, Sequence<? extends A> values,
+      Function1<? super A, ? extends Kind<F, ? extends B>> mapper) {
+    checkPositive(parallelism);
+    // the results are prepended, so the list is in reverse order until the end
+    Kind<F, ImmutableList<B>> result = monad().pure(ImmutableList.empty());
+    List<A> batch = new ArrayList<>(parallelism);
+    for (A value : values) {
+      batch.add(value);
+      if (batch.size() == parallelism) {
+        result = parTraverseBatch(result, ImmutableList.from(batch), mapper);
+        batch.clear();
+      }
+    }
+    if (!batch.isEmpty()) {
+      result = parTraverseBatch(result, ImmutableList.from(batch), mapper);
+    }
+    return monad().map(result, ImmutableList::reverse);
+  }
+
   default <A, B> Kind<F, B> parAp(Kind<F, ? extends A> fa,
       Kind<F, ? extends Function1<? super A, ? extends B>> apply) {
     return sequential(applicative().ap(parallel(fa), parallel(apply)));
@@ -58,6 +88,15 @@ public interface Parallel<F extends Kind<F, ?>, G extends Kind<G, ?>> {
     return Kind.narrowK(sequential(applicative().mapN(parallel(fa), parallel(fb), parallel(fc), parallel(fd), parallel(fe), mapper)));
   }
 
+  private <A, B> Kind<F, ImmutableList<B>> parTraverseBatch(Kind<F, ImmutableList<B>> result, Sequence<A> batch,
+      Function1<? super A, ? extends Kind<F, ? extends B>> mapper) {
+    return monad().flatMap(result, xs -> {
+      Kind<G, ImmutableList<B>> ys = batch.foldLeft(applicative().pure(xs),
+          (acc, value) -> applicative().mapN(acc, parallel(mapper.apply(value)), ImmutableList::prepend));
+      return sequential(ys);
+    });
+  }
+
   static <F extends Kind<F, ?>, G extends Kind<G, ?>> Parallel<F, G> of(
       Monad<F> monad, Applicative<G> applicative, FunctionK<F, G> to, FunctionK<G, F> from) {
     return new Parallel<>() {
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.typeclasses;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import static com.github.tonivade.purefun.core.Precondition.checkPositive;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.jspecify.annotations.Nullable;
+
+import com.github.tonivade.purefun.Kind;
+
+import com.github.tonivade.purefun.core.Consumer1;
+import com.github.tonivade.purefun.core.Unit;
+import com.github.tonivade.purefun.type.Option;
+import com.github.tonivade.purefun.type.Try;
+
+public interface Queue<F extends Kind<F, ?>, A> {
+
+  Kind<F, Unit> offer(A value);
+
+  Kind<F, Boolean> tryOffer(A value);
+
+  Kind<F, A> take();
+
+  Kind<F, Option<A>> tryTake();
+
+  Kind<F, Integer> size();
+
+  /**
+   * When the queue is full, {@code offer} waits until there is room for the value.
+   */
+  static <F extends Kind<F, ?>, A> Queue<F, A> bounded(Async<F> async, int capacity) {
+    return new AsyncQueue<>(async, checkPositive(capacity), AsyncQueue.Strategy.BACKPRESSURE);
+  }
+
+  /**
+   * When the queue is full, new values are discarded.
+   */
+  static <F extends Kind<F, ?>, A> Queue<F, A> dropping(Async<F> async, int capacity) {
+    return new AsyncQueue<>(async, checkPositive(capacity), AsyncQueue.Strategy.DROP_NEWEST);
+  }
+
+  /**
+   * When the queue is full, the oldest value is discarded to make room for the new one.
+   */
+  static <F extends Kind<F, ?>, A> Queue<F, A> sliding(Async<F> async, int capacity) {
+    return new AsyncQueue<>(async, checkPositive(capacity), AsyncQueue.Strategy.DROP_OLDEST);
+  }
+
+  static <F extends Kind<F, ?>, A> Queue<F, A> unbounded(Async<F> async) {
+    return new AsyncQueue<>(async, Integer.MAX_VALUE, AsyncQueue.Strategy.BACKPRESSURE);
+  }
+}
+
+/**
+ * Waiting producers and consumers are suspended using {@link Async#asyncF}, so no thread is blocked,
+ * and they are removed from the queue when they are cancelled.
+ * The state is guarded by the monitor of every queue, and callbacks are always completed outside of it.
+ */
+final class AsyncQueue<F extends Kind<F, ?>, A> implements Queue<F, A> {
+
+  enum Strategy { BACKPRESSURE, DROP_NEWEST, DROP_OLDEST }
+
+  private final Async<F> async;
+  private final int capacity;
+  private final Strategy strategy;
+
+  private final Deque<A> values = new ArrayDeque<>();
+  private final Deque<Consumer1<? super Try<? extends A>>> takers = new ArrayDeque<>();
+  private final Deque<Offer<A>> offers = new ArrayDeque<>();
+
+  AsyncQueue(Async<F> async, int capacity, Strategy strategy) {
+    this.async = checkNonNull(async);
+    this.capacity = capacity;
+    this.strategy = checkNonNull(strategy);
+  }
+
+  @Override
+  public Kind<F, Unit> offer(A value) {
+    checkNonNull(value);
+    return async.asyncF(callback -> {
+      Consumer1<? super Try<? extends A>> taker;
+      synchronized (this) {
+        taker = takers.poll();
+        if (taker == null && !tryEnqueue(value) && strategy == Strategy.BACKPRESSURE) {
+          Offer<A> offer = new Offer<>(value, callback);
+          offers.add(offer);
+          return async.exec(() -> cancelOffer(offer));
+        }
+      }
+      if (taker != null) {
+        taker.accept(Try.success(value));
+      }
+      callback.accept(Try.success(Unit.unit()));
+      return async.pure(Unit.unit());
+    });
+  }
+
+  @Override
+  public Kind<F, Boolean> tryOffer(A value) {
+    checkNonNull(value);
+    return async.later(() -> {
+      Consumer1<? super Try<? extends A>> taker;
+      synchronized (this) {
+        taker = takers.poll();
+        if (taker == null) {
+          return tryEnqueue(value);
+        }
+      }
+      taker.accept(Try.success(value));
+      return true;
+    });
+  }
+
+  @Override
+  public Kind<F, A> take() {
+    return async.<A>asyncF(callback -> {
+      A value;
+      Offer<A> offer;
+      synchronized (this) {
+        value = values.poll();
+        if (value == null) {
+          takers.add(callback);
+          return async.exec(() -> cancelTake(callback));
+        }
+        offer = release();
+      }
+      if (offer != null) {
+        offer.callback().accept(Try.success(Unit.unit()));
+      }
+      callback.accept(Try.success(value));
+      return async.pure(Unit.unit());
+    });
+  }
+
+  @Override
+  public Kind<F, Option<A>> tryTake() {
+    return async.later(() -> {
+      A value;
+      Offer<A> offer;
+      synchronized (this) {
+        value = values.poll();
+        offer = value != null ? release() : null;
+      }
+      if (offer != null) {
+        offer.callback().accept(Try.success(Unit.unit()));
+      }
+      return Option.of(value);
+    });
+  }
+
+  @Override
+  public Kind<F, Integer> size() {
+    return async.later(() -> {
+      synchronized (this) {
+        return values.size();
+      }
+    });
+  }
+
+  // guarded by this
+  private boolean tryEnqueue(A value) {
+    if (values.size() < capacity) {
+      values.add(value);
+      return true;
+    }
+    return switch (strategy) {
+      case BACKPRESSURE, DROP_NEWEST -> false;
+      case DROP_OLDEST -> {
+        values.poll();
+        values.add(value);
+        yield true;
+      }
+    };
+  }
+
+  private synchronized void cancelTake(Consumer1<? super Try<? extends A>> taker) {
+    takers.remove(taker);
+  }
+
+  private synchronized void cancelOffer(Offer<A> offer) {
+    offers.remove(offer);
+  }
+
+  // guarded by this, moves the first waiting offer to the room left by a taken value
+  private @Nullable Offer<A> release() {
+    Offer<A> offer = offers.poll();
+    if (offer != null) {
+      values.add(offer.value());
+    }
+    return offer;
+  }
+
+  private record Offer<A>(A value, Consumer1<? super Try<? extends Unit>> callback) { }
+}
@@ -0,0 +1,13 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.typeclasses;
+
+/**
+ * Marker of the instances of a type class whose {@code flatMap} is evaluated lazily in a stack safe run loop,
+ * like the instances of {@code IO} or {@code PureIO}, so a long chain of {@code flatMap} doesn't need
+ * {@code tailRecM}.
+ */
+public interface StackSafe {
+}
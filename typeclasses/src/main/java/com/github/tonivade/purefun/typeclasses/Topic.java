@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.typeclasses;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import static com.github.tonivade.purefun.core.Precondition.checkPositive;
+
+import com.github.tonivade.purefun.Kind;
+
+import com.github.tonivade.purefun.core.Unit;
+import com.github.tonivade.purefun.data.ImmutableList;
+
+public interface Topic<F extends Kind<F, ?>, A> {
+
+  /**
+   * Offers the value to every subscriber, waiting for the ones whose queue is full.
+   */
+  Kind<F, Unit> publish(A value);
+
+  /**
+   * Registers a new subscriber with a bounded queue, that receives every value published from now on.
+   */
+  Kind<F, Queue<F, A>> subscribe(int maxQueued);
+
+  Kind<F, Unit> unsubscribe(Queue<F, A> subscriber);
+
+  Kind<F, Integer> subscribers();
+
+  static <F extends Kind<F, ?>, A> Topic<F, A> of(Async<F> async) {
+    return new AsyncTopic<>(async);
+  }
+}
+
+final class AsyncTopic<F extends Kind<F, ?>, A> implements Topic<F, A> {
+
+  private final Async<F> async;
+  private final Reference<F, ImmutableList<Queue<F, A>>> subscribers;
+
+  AsyncTopic(Async<F> async) {
+    this.async = checkNonNull(async);
+    this.subscribers = Reference.of(async, ImmutableList.empty());
+  }
+
+  @Override
+  public Kind<F, Unit> publish(A value) {
+    checkNonNull(value);
+    return async.flatMap(subscribers.get(), list -> {
+      Kind<F, Unit> result = async.pure(Unit.unit());
+      for (Queue<F, A> queue : list) {
+        result = async.andThen(result, () -> queue.offer(value));
+      }
+      return result;
+    });
+  }
+
+  @Override
+  public Kind<F, Queue<F, A>> subscribe(int maxQueued) {
+    checkPositive(maxQueued);
+    return async.defer(() -> {
+      Queue<F, A> queue = Queue.bounded(async, maxQueued);
+      return async.map(subscribers.updateAndGet(list -> list.append(queue)), ignore -> queue);
+    });
+  }
+
+  @Override
+  public Kind<F, Unit> unsubscribe(Queue<F, A> subscriber) {
+    checkNonNull(subscriber);
+    return async.map(subscribers.updateAndGet(list -> list.remove(subscriber)), ignore -> Unit.unit());
+  }
+
+  @Override
+  public Kind<F, Integer> subscribers() {
+    return async.map(subscribers.get(), ImmutableList::size);
+  }
+}
@@ -5,6 +5,7 @@
 package com.github.tonivade.purefun.typeclasses;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -59,6 +60,14 @@ public class InstanceTest {
     assertEquals(Either.right(2), result.value().fix(IOOf::toIO).unsafeRunSync());
   }
 
+  @Test
+  public void cached() {
+    Monad<IO<?>> monad = Instances.<IO<?>>monad();
+
+    assertSame(monad, Instances.<IO<?>>monad());
+    assertSame(monad, new Instance<IO<?>>() { }.monad());
+  }
+
   @Test
   public void notFoundSimple() {
     InstanceNotFoundException exception = assertThrows(InstanceNotFoundException.class, () -> Instances.<Id<?>, String>monadError());
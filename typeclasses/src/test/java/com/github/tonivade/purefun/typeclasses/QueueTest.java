@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2018-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purefun.typeclasses;
+
+import static com.github.tonivade.purefun.data.Sequence.listOf;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import com.github.tonivade.purefun.Kind;
+import com.github.tonivade.purefun.core.Unit;
+import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.monad.IO;
+import com.github.tonivade.purefun.monad.IOOf;
+import com.github.tonivade.purefun.type.Option;
+import com.github.tonivade.purefun.type.Try;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+public class QueueTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(3);
+
+  private final Async<IO<?>> async = Instances.async();
+
+  @Test
+  public void bounded() {
+    Queue<IO<?>, Integer> queue = Queue.bounded(async, 2);
+
+    run(queue.offer(1));
+    run(queue.offer(2));
+
+    assertAll(
+        () -> assertEquals(false, run(queue.tryOffer(3))),
+        () -> assertEquals(2, run(queue.size())),
+        () -> assertEquals(1, run(queue.take())),
+        () -> assertEquals(Option.some(2), run(queue.tryTake())),
+        () -> assertEquals(Option.none(), run(queue.tryTake())));
+  }
+
+  @Test
+  public void backpressure() {
+    Queue<IO<?>, Integer> queue = Queue.bounded(async, 1);
+
+    IO<Unit> producer = offerAll(queue, 1, 2, 3, 4, 5);
+    IO<ImmutableList<Integer>> consumer = takeN(queue, 5);
+
+    assertEquals(listOf(1, 2, 3, 4, 5), run(producer.fork().flatMap(ignore -> consumer)));
+  }
+
+  @Test
+  public void takeWaitsForOffer() {
+    Queue<IO<?>, String> queue = Queue.bounded(async, 1);
+
+    IO<String> program = queue.take().fix(IOOf::toIO).fork()
+        .flatMap(fiber -> IO.sleep(Duration.ofMillis(10))
+            .andThen(queue.offer("hello").fix(IOOf::toIO))
+            .andThen(fiber.join().fix(IOOf::toIO)));
+
+    assertEquals("hello", run(program));
+  }
+
+  @Test
+  public void cancelledTakeIsRemoved() {
+    Queue<IO<?>, String> queue = Queue.bounded(async, 1);
+
+    IO<String> take = queue.take().fix(IOOf::toIO);
+    Try<String> timeout = take.timeout(Duration.ofMillis(10)).safeRunSync();
+    run(queue.offer("hello"));
+
+    assertAll(
+        () -> assertTrue(timeout.getCause() instanceof TimeoutException),
+        () -> assertEquals("hello", run(queue.take())));
+  }
+
+  @Test
+  public void cancelledOfferIsRemoved() {
+    Queue<IO<?>, Integer> queue = Queue.bounded(async, 1);
+
+    run(queue.offer(1));
+    IO<Unit> offer = queue.offer(2).fix(IOOf::toIO);
+    Try<Unit> timeout = offer.timeout(Duration.ofMillis(10)).safeRunSync();
+
+    assertAll(
+        () -> assertTrue(timeout.getCause() instanceof TimeoutException),
+        () -> assertEquals(1, run(queue.take())),
+        () -> assertEquals(Option.none(), run(queue.tryTake())));
+  }
+
+  @Test
+  public void dropping() {
+    Queue<IO<?>, Integer> queue = Queue.dropping(async, 2);
+
+    run(offerAll(queue, 1, 2, 3));
+
+    assertAll(
+        () -> assertEquals(false, run(queue.tryOffer(4))),
+        () -> assertEquals(listOf(1, 2), run(takeN(queue, 2))));
+  }
+
+  @Test
+  public void sliding() {
+    Queue<IO<?>, Integer> queue = Queue.sliding(async, 2);
+
+    run(offerAll(queue, 1, 2, 3));
+
+    assertAll(
+        () -> assertEquals(true, run(queue.tryOffer(4))),
+        () -> assertEquals(listOf(3, 4), run(takeN(queue, 2))));
+  }
+
+  @Test
+  public void unbounded() {
+    Queue<IO<?>, Integer> queue = Queue.unbounded(async);
+
+    for (int i = 0; i < 1000; i++) {
+      run(queue.offer(i));
+    }
+
+    assertEquals(1000, run(queue.size()));
+  }
+
+  @Test
+  public void topic() {
+    Topic<IO<?>, String> topic = Topic.of(async);
+
+    Queue<IO<?>, String> first = run(topic.subscribe(10));
+    Queue<IO<?>, String> second = run(topic.subscribe(10));
+    run(topic.publish("a"));
+    run(topic.unsubscribe(second));
+    run(topic.publish("b"));
+
+    assertAll(
+        () -> assertEquals(1, run(topic.subscribers())),
+        () -> assertEquals(listOf("a", "b"), run(takeN(first, 2))),
+        () -> assertEquals(listOf("a"), run(takeN(second, 1))),
+        () -> assertEquals(Option.none(), run(second.tryTake())));
+  }
+
+  private static IO<Unit> offerAll(Queue<IO<?>, Integer> queue, Integer... values) {
+    IO<Unit> result = IO.unit();
+    for (Integer value : values) {
+      result = result.andThen(queue.offer(value).fix(IOOf::toIO));
+    }
+    return result;
+  }
+
+  private static <T> IO<ImmutableList<T>> takeN(Queue<IO<?>, T> queue, int n) {
+    IO<ImmutableList<T>> result = IO.pure(ImmutableList.empty());
+    for (int i = 0; i < n; i++) {
+      result = result.flatMap(list -> queue.take().fix(IOOf::toIO).map(list::append));
+    }
+    return result;
+  }
+
+  private static <T> T run(Kind<IO<?>, T> effect) {
+    return effect.fix(IOOf::toIO).runAsync().await(TIMEOUT).getOrElseThrow();
+  }
+}